@@ -0,0 +1,23 @@
+package de.fau.pi1.timerReporter.dataset;
+
+/**
+ * This interface represents a store, which appends the samples of another
+ * store of the same storage as a whole. Only the quantile sketches are
+ * appendable, the stores with measurement order are merged.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public interface AppendableSampleStore {
+
+	/**
+	 * This method appends the samples of another store of the same
+	 * storage, which follow the samples of this store in measurement
+	 * order.
+	 *
+	 * @param other
+	 */
+	public void append(AppendableSampleStore other);
+}
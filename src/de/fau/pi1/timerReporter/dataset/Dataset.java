@@ -1,5 +1,6 @@
 package de.fau.pi1.timerReporter.dataset;
 
+import java.io.File;
 import java.util.ArrayList;
 
 import de.fau.pi1.timerReporter.reader.Reader;
@@ -30,38 +31,12 @@ public class Dataset {
 	}
 	
 	/**
-	 * This method iterates over all secrets and finds the
-	 * maximum of all timings. This method is used in the 
-	 * histogram class.
-	 * 
-	 * @return long value of the time
+	 * This method closes the stores of all secrets.
 	 */
-	public static Long findRangeMax(ArrayList<Secret> secrets) {
-		Long max = new Long(0);
-		for (Secret secret : secrets) {
-			if(secret.getHighestTime().compareTo(max) > 0) {
-				max = secret.getHighestTime();
-			}
+	public void close() {
+		for (Secret secret : this.secrets) {
+			secret.close();
 		}
-		return max;
-	}
-	
-	/**
-	 * This method iterates over all secrets and finds the
-	 * minimum of all timings. This method is used in the 
-	 * histogram class.
-	 * 
-	 * @return long value containing the timing
-	 */
-	public static Long findRangeMin(ArrayList<Secret> secrets) {
-		Long min = new Long(0);
-		
-		for (Secret secret : secrets) {
-			if(secret.getLowestTime().compareTo(min) < 0 || min.equals(new Long(0))) {
-				min = secret.getLowestTime();
-			}
-		}
-		return min;
 	}
 
 	public ArrayList<Secret> getSecrets() {
@@ -79,4 +54,15 @@ public class Dataset {
 	public String getInputFile() {
 		return this.reader.getInputFile();
 	}
+
+	/**
+	 * This method returns the file, which keeps the results of the
+	 * secret pairs between runs, or null, if the reader keeps no
+	 * results.
+	 *
+	 * @return File results of the pairs
+	 */
+	public File getResultsFile() {
+		return (this.reader != null) ? this.reader.getResultsFile() : null;
+	}
 }
@@ -0,0 +1,154 @@
+package de.fau.pi1.timerReporter.dataset;
+
+import java.util.Arrays;
+
+import de.fau.pi1.timerReporter.tools.RadixSort;
+
+/**
+ * An object of this class stores the samples of one secret in primitive
+ * arrays on the heap. The arrays grow while the samples are added and are
+ * trimmed when they are sorted.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class HeapSampleStore extends OrderedSampleStore implements WritableSampleStore {
+	private long[] times = new long[16];
+	private int[] secretNos = new int[16];
+	private int[] rowNos = new int[16];
+	private int[] sortedPos = null;
+	private int size = 0;
+
+	public HeapSampleStore() {
+	}
+
+	/**
+	 * @param times times in measurement order, the array is used by the store
+	 */
+	public HeapSampleStore(long[] times) {
+		this.times = times;
+		this.size = times.length;
+		this.secretNos = new int[this.size];
+		this.rowNos = new int[this.size];
+		for (int i = 0; i < this.size; ++i) {
+			this.secretNos[i] = i;
+			this.rowNos[i] = i;
+		}
+	}
+
+	/**
+	 * This constructor creates a sorted store of the sorted columns.
+	 *
+	 * @param times sorted times
+	 * @param secretNos secret numbers of the sorted times
+	 * @param rowNos row numbers in measurement order
+	 */
+	HeapSampleStore(long[] times, int[] secretNos, int[] rowNos) {
+		this.times = times;
+		this.secretNos = secretNos;
+		this.rowNos = rowNos;
+		this.size = times.length;
+		this.sortedPos = new int[this.size];
+		for (int pos = 0; pos < this.size; ++pos) {
+			this.sortedPos[this.secretNos[pos]] = pos;
+		}
+	}
+
+	/**
+	 * This constructor copies the sorted columns of a store, so the
+	 * samples of a read only store can be added to.
+	 *
+	 * @param store sorted store
+	 */
+	HeapSampleStore(OrderedSampleStore store) {
+		this.size = store.size();
+		this.times = new long[this.size];
+		this.secretNos = new int[this.size];
+		this.rowNos = new int[this.size];
+		this.sortedPos = new int[this.size];
+		for (int pos = 0; pos < this.size; ++pos) {
+			this.times[pos] = store.getTime(pos);
+			this.secretNos[pos] = store.getSecretNo(pos);
+			this.sortedPos[this.secretNos[pos]] = pos;
+		}
+		for (int secretNo = 0; secretNo < this.size; ++secretNo) {
+			this.rowNos[secretNo] = store.getRowNo(secretNo);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#size()
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.WritableSampleStore#add(int, long)
+	 */
+	public void add(int rowNo, long time) {
+		if(this.size == this.times.length) {
+			int capacity = Math.max(16, this.size + (this.size >> 1));
+			this.times = Arrays.copyOf(this.times, capacity);
+			this.secretNos = Arrays.copyOf(this.secretNos, capacity);
+			this.rowNos = Arrays.copyOf(this.rowNos, capacity);
+		}
+
+		this.times[this.size] = time;
+		this.secretNos[this.size] = this.size;
+		this.rowNos[this.size] = rowNo;
+		this.sortedPos = null;
+		++this.size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getTime(int)
+	 */
+	public long getTime(int pos) {
+		return this.times[pos];
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getSecretNo(int)
+	 */
+	public int getSecretNo(int pos) {
+		return this.secretNos[pos];
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getRowNo(int)
+	 */
+	public int getRowNo(int secretNo) {
+		return this.rowNos[secretNo];
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getSortedPos(int)
+	 */
+	public int getSortedPos(int secretNo) {
+		return this.sortedPos[secretNo];
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#sort()
+	 */
+	public void sort() {
+		if(this.sortedPos != null) {
+			// the sorted positions are dropped by every new sample
+			return;
+		}
+		if(this.times.length != this.size) {
+			this.times = Arrays.copyOf(this.times, this.size);
+			this.secretNos = Arrays.copyOf(this.secretNos, this.size);
+			this.rowNos = Arrays.copyOf(this.rowNos, this.size);
+		}
+		RadixSort.sort(this.times, this.secretNos, this.size);
+
+		this.sortedPos = new int[this.size];
+		for (int pos = 0; pos < this.size; ++pos) {
+			this.sortedPos[this.secretNos[pos]] = pos;
+		}
+	}
+}
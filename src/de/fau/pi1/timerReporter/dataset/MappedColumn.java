@@ -0,0 +1,135 @@
+package de.fau.pi1.timerReporter.dataset;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+/**
+ * An object of this class represents one column of fixed width values in
+ * a memory mapped file. The file is mapped in segments, so the column can
+ * grow without remapping the full segments already written. Only the last
+ * segment grows with the capacity up to the segment size. The file is
+ * opened only while segments are mapped, because the mapped segments stay
+ * valid after it is closed, so many columns don't hold many open files.
+ * The file is deleted when the column is closed or on exit. A column can
+ * also map the values of an existing file read only.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+class MappedColumn {
+	private static final int SEGMENT_SHIFT = 26;
+	private static final long SEGMENT_BYTES = 1L << SEGMENT_SHIFT;
+
+	private final File file;
+	private final int widthShift;
+	private final int valueShift;
+	private final int valueMask;
+	private final ArrayList<MappedByteBuffer> segments = new ArrayList<MappedByteBuffer>();
+	private MappedByteBuffer[] segmentArray = new MappedByteBuffer[0];
+	private long mappedBytes = 0;
+
+	/**
+	 * @param dir work directory of the column file
+	 * @param width width of a value in bytes, 4 or 8
+	 * @throws IOException
+	 */
+	MappedColumn(File dir, int width) throws IOException {
+		this.file = File.createTempFile("column", ".bin", dir);
+		this.file.deleteOnExit();
+		this.widthShift = (width == 8) ? 3 : 2;
+		this.valueShift = SEGMENT_SHIFT - this.widthShift;
+		this.valueMask = (1 << this.valueShift) - 1;
+	}
+
+	/**
+	 * This constructor maps a column of an existing file read only.
+	 *
+	 * @param channel channel of the file
+	 * @param offset offset of the first value in the file
+	 * @param count number of values
+	 * @param width width of a value in bytes, 4 or 8
+	 * @throws IOException
+	 */
+	MappedColumn(FileChannel channel, long offset, long count, int width) throws IOException {
+		this.file = null;
+		this.widthShift = (width == 8) ? 3 : 2;
+		this.valueShift = SEGMENT_SHIFT - this.widthShift;
+		this.valueMask = (1 << this.valueShift) - 1;
+
+		long bytes = count * width;
+		for (long position = 0; position < bytes; position += SEGMENT_BYTES) {
+			MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, offset + position, Math.min(SEGMENT_BYTES, bytes - position));
+			segment.order(ByteOrder.nativeOrder());
+			this.segments.add(segment);
+		}
+		this.segmentArray = this.segments.toArray(new MappedByteBuffer[this.segments.size()]);
+	}
+
+	/**
+	 * This method maps the segments until the column holds the
+	 * number of values. A last segment, which is smaller than the
+	 * segment size, is mapped again with its new size.
+	 *
+	 * @param count
+	 * @throws IOException
+	 */
+	void ensureCapacity(long count) throws IOException {
+		long bytes = count << this.widthShift;
+		if(bytes <= this.mappedBytes) {
+			return;
+		}
+
+		RandomAccessFile file = new RandomAccessFile(this.file, "rw");
+		try {
+			FileChannel channel = file.getChannel();
+			int first = (int) (this.mappedBytes >>> SEGMENT_SHIFT);
+			if(this.segments.size() > first) {
+				this.segments.remove(first);
+			}
+			for (long position = (long) first << SEGMENT_SHIFT; position < bytes; position += SEGMENT_BYTES) {
+				MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.min(SEGMENT_BYTES, bytes - position));
+				segment.order(ByteOrder.nativeOrder());
+				this.segments.add(segment);
+			}
+		} finally {
+			file.close();
+		}
+		this.mappedBytes = bytes;
+		this.segmentArray = this.segments.toArray(new MappedByteBuffer[this.segments.size()]);
+	}
+
+	/**
+	 * This method releases the segments and deletes the file of
+	 * the column. The column can't be used afterwards.
+	 */
+	void close() {
+		this.segments.clear();
+		this.segmentArray = new MappedByteBuffer[0];
+		if(this.file != null) {
+			this.file.delete();
+		}
+	}
+
+	long getLong(int i) {
+		return this.segmentArray[i >>> this.valueShift].getLong((i & this.valueMask) << 3);
+	}
+
+	void putLong(int i, long value) {
+		this.segmentArray[i >>> this.valueShift].putLong((i & this.valueMask) << 3, value);
+	}
+
+	int getInt(int i) {
+		return this.segmentArray[i >>> this.valueShift].getInt((i & this.valueMask) << 2);
+	}
+
+	void putInt(int i, int value) {
+		this.segmentArray[i >>> this.valueShift].putInt((i & this.valueMask) << 2, value);
+	}
+}
@@ -0,0 +1,252 @@
+package de.fau.pi1.timerReporter.dataset;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+/**
+ * An object of this class stores the samples of one secret in memory
+ * mapped files of the work directory. The samples are not held on the
+ * heap, so the size of a measurement is limited by the disk and not by
+ * the heap. The times are sorted in place by time and secret number,
+ * which keeps equal times in measurement order without a second column.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class MappedSampleStore extends OrderedSampleStore implements WritableSampleStore {
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+	private static final int INSERTION_SORT_SIZE = 32;
+
+	private MappedColumn times;
+	private MappedColumn secretNos;
+	private MappedColumn rowNos;
+	private MappedColumn sortedPos;
+	private int size = 0;
+	private long capacity = 0;
+
+	/**
+	 * @param dir work directory of the column files
+	 */
+	public MappedSampleStore(File dir) {
+		if(!dir.isDirectory() && !dir.mkdirs()) {
+			logger.warning("Error: Folder " + dir + " wasn't created successfully.");
+			System.exit(1);
+		}
+
+		try {
+			this.times = new MappedColumn(dir, 8);
+			this.secretNos = new MappedColumn(dir, 4);
+			this.rowNos = new MappedColumn(dir, 4);
+			this.sortedPos = new MappedColumn(dir, 4);
+		} catch (IOException e) {
+			logger.warning("Error creating the sample files in " + dir + ".");
+			System.exit(1);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#size()
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.WritableSampleStore#add(int, long)
+	 */
+	public void add(int rowNo, long time) {
+		if(this.size == this.capacity) {
+			this.capacity = Math.max(1 << 16, this.capacity * 2);
+			try {
+				this.times.ensureCapacity(this.capacity);
+				this.secretNos.ensureCapacity(this.capacity);
+				this.rowNos.ensureCapacity(this.capacity);
+				this.sortedPos.ensureCapacity(this.capacity);
+			} catch (IOException e) {
+				logger.warning("Error mapping the sample files.");
+				System.exit(1);
+			}
+		}
+
+		this.times.putLong(this.size, time);
+		this.secretNos.putInt(this.size, this.size);
+		this.rowNos.putInt(this.size, rowNo);
+		++this.size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getTime(int)
+	 */
+	public long getTime(int pos) {
+		return this.times.getLong(pos);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getSecretNo(int)
+	 */
+	public int getSecretNo(int pos) {
+		return this.secretNos.getInt(pos);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getRowNo(int)
+	 */
+	public int getRowNo(int secretNo) {
+		return this.rowNos.getInt(secretNo);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getSortedPos(int)
+	 */
+	public int getSortedPos(int secretNo) {
+		return this.sortedPos.getInt(secretNo);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#close()
+	 */
+	public void close() {
+		this.times.close();
+		this.secretNos.close();
+		this.rowNos.close();
+		this.sortedPos.close();
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#sort()
+	 */
+	public void sort() {
+		int depth = 2;
+		for (int n = this.size; n > 1; n >>>= 1) {
+			depth += 2;
+		}
+		this.quickSort(0, this.size - 1, depth);
+
+		for (int pos = 0; pos < this.size; ++pos) {
+			this.sortedPos.putInt(this.secretNos.getInt(pos), pos);
+		}
+	}
+
+	/**
+	 * This method sorts the positions between low and high. If the
+	 * recursion gets too deep, the rest is sorted by heap sort.
+	 *
+	 * @param low
+	 * @param high
+	 * @param depth
+	 */
+	private void quickSort(int low, int high, int depth) {
+		while(high - low >= INSERTION_SORT_SIZE) {
+			if(depth-- == 0) {
+				this.heapSort(low, high);
+				return;
+			}
+
+			// median of three as pivot, moved to low
+			int middle = (low + high) >>> 1;
+			if(this.isLess(middle, low)) {
+				this.swap(middle, low);
+			}
+			if(this.isLess(high, low)) {
+				this.swap(high, low);
+			}
+			if(this.isLess(high, middle)) {
+				this.swap(high, middle);
+			}
+			this.swap(low, middle);
+
+			long pivotTime = this.times.getLong(low);
+			int pivotNo = this.secretNos.getInt(low);
+			int i = low;
+			int j = high + 1;
+			while(true) {
+				do {
+					++i;
+				} while(i <= high && this.isLess(i, pivotTime, pivotNo));
+				do {
+					--j;
+				} while(this.isGreater(j, pivotTime, pivotNo));
+				if(i >= j) {
+					break;
+				}
+				this.swap(i, j);
+			}
+			this.swap(low, j);
+
+			// recursion into the smaller part
+			if(j - low < high - j) {
+				this.quickSort(low, j - 1, depth);
+				low = j + 1;
+			} else {
+				this.quickSort(j + 1, high, depth);
+				high = j - 1;
+			}
+		}
+		this.insertionSort(low, high);
+	}
+
+	/**
+	 * This method sorts the positions between low and high by heap sort.
+	 *
+	 * @param low
+	 * @param high
+	 */
+	private void heapSort(int low, int high) {
+		int n = high - low + 1;
+		for (int i = n / 2 - 1; i >= 0; --i) {
+			this.siftDown(low, i, n);
+		}
+		for (int end = n - 1; end > 0; --end) {
+			this.swap(low, low + end);
+			this.siftDown(low, 0, end);
+		}
+	}
+
+	private void siftDown(int low, int i, int n) {
+		while(2 * i + 1 < n) {
+			int child = 2 * i + 1;
+			if(child + 1 < n && this.isLess(low + child, low + child + 1)) {
+				++child;
+			}
+			if(!this.isLess(low + i, low + child)) {
+				return;
+			}
+			this.swap(low + i, low + child);
+			i = child;
+		}
+	}
+
+	private void insertionSort(int low, int high) {
+		for (int i = low + 1; i <= high; ++i) {
+			for (int j = i; j > low && this.isLess(j, j - 1); --j) {
+				this.swap(j, j - 1);
+			}
+		}
+	}
+
+	private boolean isLess(int i, int j) {
+		return this.isLess(i, this.times.getLong(j), this.secretNos.getInt(j));
+	}
+
+	private boolean isLess(int i, long time, int secretNo) {
+		long iTime = this.times.getLong(i);
+		return iTime < time || (iTime == time && this.secretNos.getInt(i) < secretNo);
+	}
+
+	private boolean isGreater(int i, long time, int secretNo) {
+		long iTime = this.times.getLong(i);
+		return iTime > time || (iTime == time && this.secretNos.getInt(i) > secretNo);
+	}
+
+	private void swap(int i, int j) {
+		long time = this.times.getLong(i);
+		this.times.putLong(i, this.times.getLong(j));
+		this.times.putLong(j, time);
+		int secretNo = this.secretNos.getInt(i);
+		this.secretNos.putInt(i, this.secretNos.getInt(j));
+		this.secretNos.putInt(j, secretNo);
+	}
+}
@@ -0,0 +1,23 @@
+package de.fau.pi1.timerReporter.dataset;
+
+/**
+ * This interface represents the times of a measurement, which can be
+ * accessed by rank and split in measurement order. The last times in
+ * measurement order form a smaller measurement.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public interface MeasuredTimes extends OrderedTimes {
+
+	/**
+	 * This method returns the times from the position start up to
+	 * the last time in measurement order.
+	 *
+	 * @param start
+	 * @return sorted times
+	 */
+	public OrderedTimes getBisectedTimes(int start);
+}
@@ -0,0 +1,97 @@
+package de.fau.pi1.timerReporter.dataset;
+
+/**
+ * This class represents a store, which keeps the measurement order of every
+ * sample. Besides the sorted times, it holds the secret number of every
+ * sorted time, the row numbers in measurement order and, after sorting, the
+ * sorted position of every secret number. The windows of the secret in
+ * measurement order are selected by the wavelet matrix over the sorted
+ * positions.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public abstract class OrderedSampleStore extends SampleStore {
+
+	/**
+	 * This method merges two sorted stores into a new sorted store
+	 * on the heap. The samples of the second store follow the samples
+	 * of the first store in measurement order, so equal times of the
+	 * first store come first. The merge is linear in both sizes.
+	 *
+	 * @param first sorted store
+	 * @param second sorted store of the following samples
+	 * @return OrderedSampleStore sorted store of both
+	 */
+	public static OrderedSampleStore merge(OrderedSampleStore first, OrderedSampleStore second) {
+		int sizeFirst = first.size();
+		int sizeSecond = second.size();
+		long[] times = new long[sizeFirst + sizeSecond];
+		int[] secretNos = new int[times.length];
+		int[] rowNos = new int[times.length];
+
+		for (int pos = 0, i = 0, j = 0; pos < times.length; ++pos) {
+			if(j == sizeSecond || (i < sizeFirst && first.getTime(i) <= second.getTime(j))) {
+				times[pos] = first.getTime(i);
+				secretNos[pos] = first.getSecretNo(i);
+				++i;
+			} else {
+				times[pos] = second.getTime(j);
+				secretNos[pos] = sizeFirst + second.getSecretNo(j);
+				++j;
+			}
+		}
+		for (int secretNo = 0; secretNo < sizeFirst; ++secretNo) {
+			rowNos[secretNo] = first.getRowNo(secretNo);
+		}
+		for (int secretNo = 0; secretNo < sizeSecond; ++secretNo) {
+			rowNos[sizeFirst + secretNo] = second.getRowNo(secretNo);
+		}
+		return new HeapSampleStore(times, secretNos, rowNos);
+	}
+
+	/**
+	 * This method returns the secret number of the time at the
+	 * sorted position.
+	 *
+	 * @param pos
+	 * @return int secret number
+	 */
+	public abstract int getSecretNo(int pos);
+
+	/**
+	 * This method returns the row number of the secret number.
+	 *
+	 * @param secretNo
+	 * @return int row number
+	 */
+	public abstract int getRowNo(int secretNo);
+
+	/**
+	 * This method returns the sorted position of the secret number.
+	 *
+	 * @param secretNo
+	 * @return int sorted position
+	 */
+	public abstract int getSortedPos(int secretNo);
+
+	/**
+	 * This method returns the time with the secret number,
+	 * the position in measurement order.
+	 *
+	 * @param secretNo
+	 * @return long time
+	 */
+	public long getMeasuredTime(int secretNo) {
+		return this.getTime(this.getSortedPos(secretNo));
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getWindow(de.fau.pi1.timerReporter.dataset.Secret, int, int)
+	 */
+	public OrderedTimes getWindow(Secret secret, int start, int size) {
+		return new TimeWindow(this, secret.getWaveletMatrix(this), start, size);
+	}
+}
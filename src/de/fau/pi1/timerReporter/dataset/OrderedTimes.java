@@ -0,0 +1,28 @@
+package de.fau.pi1.timerReporter.dataset;
+
+/**
+ * This interface represents a list of times which can be accessed by
+ * the rank of a time. The time with rank 0 is the smallest time.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public interface OrderedTimes {
+
+	/**
+	 * This method returns the number of times.
+	 *
+	 * @return int number of times
+	 */
+	public int size();
+
+	/**
+	 * This method returns the time with the rank.
+	 *
+	 * @param rank
+	 * @return long time
+	 */
+	public long getTime(int rank);
+}
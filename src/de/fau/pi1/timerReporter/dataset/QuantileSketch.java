@@ -0,0 +1,231 @@
+package de.fau.pi1.timerReporter.dataset;
+
+import java.util.Arrays;
+
+/**
+ * An object of this class summarizes a stream of times in a KLL quantile
+ * sketch. The sketch holds a stack of compactors. The times of level h
+ * have a weight of 2^h. If a level is full, it is sorted and every second
+ * time moves up one level, the others are dropped. The capacity of the
+ * levels shrinks by 2/3 per level below the top, so the sketch holds about
+ * 3k times in total. The rank of every time is off by at most the error
+ * times the number of times with a high probability.
+ *
+ * Two sketches are merged by joining their levels and compacting them
+ * again, so sketches of separate parts of a measurement sum up to the
+ * sketch of the whole measurement. A full level of an odd size keeps one
+ * time, so the weights always sum up to the number of times.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class QuantileSketch {
+	private static final int MIN_CAPACITY = 8;
+	private static final double DECAY = 2.0 / 3.0;
+	private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+	private final int k;
+	private long[][] levels = new long[1][];
+	private int[] sizes = new int[1];
+	private int retained = 0;
+	private int capacity;
+	private long count = 0;
+	private long state = GAMMA;
+
+	/**
+	 * @param k capacity of the top level
+	 */
+	public QuantileSketch(int k) {
+		this.k = Math.max(MIN_CAPACITY, k);
+		this.levels[0] = new long[MIN_CAPACITY];
+		this.capacity = this.getCapacity();
+	}
+
+	/**
+	 * This method returns the capacity of the top level of a
+	 * sketch with the normalized rank error. The error of a
+	 * KLL sketch falls with k^-0.9433.
+	 *
+	 * @param error normalized rank error
+	 * @return int capacity of the top level
+	 */
+	public static int getK(double error) {
+		return (int) Math.ceil(Math.pow(2.446 / error, 1 / 0.9433));
+	}
+
+	/**
+	 * This method adds a time to the sketch.
+	 *
+	 * @param time
+	 */
+	public void add(long time) {
+		this.append(0, time);
+		++this.count;
+		while(this.retained > this.capacity) {
+			this.compress();
+		}
+	}
+
+	/**
+	 * This method merges the times of the other sketch into
+	 * this sketch. The other sketch is not changed.
+	 *
+	 * @param other
+	 */
+	public void merge(QuantileSketch other) {
+		for (int level = 0; level < other.levels.length; ++level) {
+			for (int i = 0; i < other.sizes[level]; ++i) {
+				this.append(level, other.levels[level][i]);
+			}
+		}
+		this.count += other.count;
+		while(this.retained > this.capacity) {
+			this.compress();
+		}
+	}
+
+	/**
+	 * This method returns the number of summarized times.
+	 *
+	 * @return long number of times
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * This method returns the sorted times of the sketch with
+	 * their weights. Equal times are joined into one run.
+	 *
+	 * @return SketchTimes
+	 */
+	public SketchTimes getTimes() {
+		long[] times = new long[this.retained];
+		long[] weights = new long[this.retained];
+		int size = 0;
+		for (int level = 0; level < this.levels.length; ++level) {
+			long[] items = Arrays.copyOf(this.levels[level], this.sizes[level]);
+			Arrays.sort(items);
+
+			// merge the sorted level into the sorted times of the lower levels
+			int i = size - 1;
+			int j = items.length - 1;
+			size += items.length;
+			for (int pos = size - 1; j >= 0; --pos) {
+				if(i >= 0 && times[i] > items[j]) {
+					times[pos] = times[i];
+					weights[pos] = weights[i];
+					--i;
+				} else {
+					times[pos] = items[j];
+					weights[pos] = 1L << level;
+					--j;
+				}
+			}
+		}
+
+		int runs = 0;
+		long end = 0;
+		for (int pos = 0; pos < size; ++pos) {
+			end += weights[pos];
+			if(runs > 0 && times[runs - 1] == times[pos]) {
+				weights[runs - 1] = end;
+			} else {
+				times[runs] = times[pos];
+				weights[runs] = end;
+				++runs;
+			}
+		}
+		return new SketchTimes(Arrays.copyOf(times, runs), Arrays.copyOf(weights, runs));
+	}
+
+	/**
+	 * This method compacts the lowest full level into the next level.
+	 */
+	private void compress() {
+		int level = 0;
+		while(this.sizes[level] < this.getCapacity(level)) {
+			++level;
+		}
+		if(level + 1 == this.levels.length) {
+			this.levels = Arrays.copyOf(this.levels, level + 2);
+			this.levels[level + 1] = new long[MIN_CAPACITY];
+			this.sizes = Arrays.copyOf(this.sizes, level + 2);
+		}
+
+		long[] items = this.levels[level];
+		int size = this.sizes[level];
+		Arrays.sort(items, 0, size);
+
+		// the biggest time of an odd level stays, every second time of the rest moves up
+		this.state += GAMMA;
+		int offset = (int) (mix(this.state) >>> 63);
+		int even = size & ~1;
+		for (int i = offset; i < even; i += 2) {
+			this.append(level + 1, items[i]);
+		}
+		this.retained -= even;
+		if(even != size) {
+			items[0] = items[size - 1];
+		}
+		this.sizes[level] = size - even;
+		this.capacity = this.getCapacity();
+	}
+
+	/**
+	 * This method appends a time to the level.
+	 *
+	 * @param level
+	 * @param time
+	 */
+	private void append(int level, long time) {
+		if(level >= this.levels.length) {
+			this.levels = Arrays.copyOf(this.levels, level + 1);
+			this.sizes = Arrays.copyOf(this.sizes, level + 1);
+			for (int i = 0; i <= level; ++i) {
+				if(this.levels[i] == null) {
+					this.levels[i] = new long[MIN_CAPACITY];
+				}
+			}
+			this.capacity = this.getCapacity();
+		}
+		if(this.sizes[level] == this.levels[level].length) {
+			this.levels[level] = Arrays.copyOf(this.levels[level], this.sizes[level] * 2);
+		}
+		this.levels[level][this.sizes[level]++] = time;
+		++this.retained;
+	}
+
+	/**
+	 * This method returns the capacity of the level. The top
+	 * level has the capacity k.
+	 *
+	 * @param level
+	 * @return int capacity
+	 */
+	private int getCapacity(int level) {
+		int depth = this.levels.length - 1 - level;
+		return Math.max(MIN_CAPACITY, (int) Math.ceil(this.k * Math.pow(DECAY, depth)));
+	}
+
+	/**
+	 * This method returns the sum of the capacities of all levels.
+	 *
+	 * @return int capacity
+	 */
+	private int getCapacity() {
+		int capacity = 0;
+		for (int level = 0; level < this.levels.length; ++level) {
+			capacity += this.getCapacity(level);
+		}
+		return capacity;
+	}
+
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
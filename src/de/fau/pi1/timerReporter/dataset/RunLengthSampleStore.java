@@ -0,0 +1,164 @@
+package de.fau.pi1.timerReporter.dataset;
+
+import java.util.Arrays;
+
+import de.fau.pi1.timerReporter.tools.RadixSort;
+
+/**
+ * An object of this class stores the samples of one secret on the heap
+ * with run length compressed sorted times. After sorting, every run of
+ * equal times is stored once with its time and the number of samples up
+ * to the end of the run. A time of a sorted position is found by binary
+ * search over the runs. The secret numbers, row numbers and sorted
+ * positions are still stored per sample.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class RunLengthSampleStore extends OrderedSampleStore implements WritableSampleStore {
+	private long[] times = new long[16];
+	private int[] secretNos = new int[16];
+	private int[] rowNos = new int[16];
+	private int[] sortedPos = null;
+	private long[] runTimes = null;
+	private int[] runEnds = null;
+	private int size = 0;
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#size()
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.WritableSampleStore#add(int, long)
+	 */
+	public void add(int rowNo, long time) {
+		if(this.times == null) {
+			// the runs are expanded again to add more samples
+			long[] times = new long[this.size];
+			for (int run = 0, pos = 0; run < this.runEnds.length; ++run) {
+				for (; pos < this.runEnds[run]; ++pos) {
+					times[pos] = this.runTimes[run];
+				}
+			}
+			this.times = times;
+			this.runTimes = null;
+			this.runEnds = null;
+		}
+
+		if(this.size == this.times.length) {
+			int capacity = Math.max(16, this.size + (this.size >> 1));
+			this.times = Arrays.copyOf(this.times, capacity);
+			this.secretNos = Arrays.copyOf(this.secretNos, capacity);
+			this.rowNos = Arrays.copyOf(this.rowNos, capacity);
+		}
+
+		this.times[this.size] = time;
+		this.secretNos[this.size] = this.size;
+		this.rowNos[this.size] = rowNo;
+		this.sortedPos = null;
+		++this.size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getTime(int)
+	 */
+	public long getTime(int pos) {
+		if(this.times != null) {
+			return this.times[pos];
+		}
+		return this.runTimes[this.getRun(pos)];
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getSecretNo(int)
+	 */
+	public int getSecretNo(int pos) {
+		return this.secretNos[pos];
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getRowNo(int)
+	 */
+	public int getRowNo(int secretNo) {
+		return this.rowNos[secretNo];
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getSortedPos(int)
+	 */
+	public int getSortedPos(int secretNo) {
+		return this.sortedPos[secretNo];
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getRunEnd(int)
+	 */
+	public int getRunEnd(int pos) {
+		if(this.times != null) {
+			return super.getRunEnd(pos);
+		}
+		return this.runEnds[this.getRun(pos)];
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#sort()
+	 */
+	public void sort() {
+		if(this.times == null) {
+			return;
+		}
+
+		this.secretNos = Arrays.copyOf(this.secretNos, this.size);
+		this.rowNos = Arrays.copyOf(this.rowNos, this.size);
+		RadixSort.sort(this.times, this.secretNos, this.size);
+
+		this.sortedPos = new int[this.size];
+		for (int pos = 0; pos < this.size; ++pos) {
+			this.sortedPos[this.secretNos[pos]] = pos;
+		}
+
+		int runCount = 0;
+		for (int pos = 0; pos < this.size; ++pos) {
+			if(pos == 0 || this.times[pos] != this.times[pos - 1]) {
+				++runCount;
+			}
+		}
+
+		this.runTimes = new long[runCount];
+		this.runEnds = new int[runCount];
+		int run = -1;
+		for (int pos = 0; pos < this.size; ++pos) {
+			if(pos == 0 || this.times[pos] != this.times[pos - 1]) {
+				this.runTimes[++run] = this.times[pos];
+			}
+			this.runEnds[run] = pos + 1;
+		}
+		this.times = null;
+	}
+
+	/**
+	 * This method returns the run which contains the
+	 * sorted position.
+	 *
+	 * @param pos
+	 * @return int run
+	 */
+	private int getRun(int pos) {
+		int low = 0;
+		int high = this.runEnds.length - 1;
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(this.runEnds[middle] > pos) {
+				high = middle;
+			} else {
+				low = middle + 1;
+			}
+		}
+		return low;
+	}
+}
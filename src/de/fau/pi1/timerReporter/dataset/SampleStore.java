@@ -0,0 +1,149 @@
+package de.fau.pi1.timerReporter.dataset;
+
+import java.io.File;
+
+import de.fau.pi1.timerReporter.tools.Conf;
+
+/**
+ * This class represents the storage of the samples of one secret. The
+ * store holds the times sorted by time. The stores, which keep the
+ * measurement order of every sample, are ordered sample stores. A store
+ * of quantile sketches keeps only the approximate ranks of the times and
+ * is appendable instead. The samples are added to writable stores, the
+ * stores of snapshots are read only.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public abstract class SampleStore {
+
+	/**
+	 * This method creates a new empty store of the configured storage.
+	 * Every configured storage is writable.
+	 *
+	 * @return SampleStore
+	 */
+	public static SampleStore create() {
+		if(Conf.get("storage").equals("mapped")) {
+			return new MappedSampleStore(new File(Conf.get("workDir")));
+		} else if(Conf.get("storage").equals("runs")) {
+			return new RunLengthSampleStore();
+		} else if(Conf.get("storage").equals("sketch")) {
+			return new SketchSampleStore(Double.parseDouble(Conf.get("sketchError")));
+		}
+		return new HeapSampleStore();
+	}
+
+	/**
+	 * This method returns the number of samples.
+	 *
+	 * @return int number of samples
+	 */
+	public abstract int size();
+
+	/**
+	 * This method returns the time at the sorted position.
+	 *
+	 * @param pos
+	 * @return long time
+	 */
+	public abstract long getTime(int pos);
+
+	/**
+	 * This method returns the position after the run of equal times
+	 * which contains the sorted position. The run is found by an
+	 * exponential search, so long runs are skipped in logarithmic time.
+	 *
+	 * @param pos
+	 * @return int first position with a bigger time
+	 */
+	public int getRunEnd(int pos) {
+		long time = this.getTime(pos);
+		int low = pos;
+		int step = 1;
+		int high = pos + step;
+		while(high < this.size() && this.getTime(high) == time) {
+			low = high;
+			step <<= 1;
+			high = (int) Math.min((long) pos + step, this.size());
+		}
+
+		// the time at low equals, the time at high is bigger or high is the size
+		while(high - low > 1) {
+			int middle = (low + high) >>> 1;
+			if(this.getTime(middle) == time) {
+				low = middle;
+			} else {
+				high = middle;
+			}
+		}
+		return high;
+	}
+
+	/**
+	 * This method sorts the samples by time. Equal times keep
+	 * the measurement order.
+	 */
+	public abstract void sort();
+
+	/**
+	 * This method returns the sorted times of a window in measurement
+	 * order. The window holds the secret numbers from start with the
+	 * size.
+	 *
+	 * @param secret secret of the store
+	 * @param start first secret number of the window
+	 * @param size number of times
+	 * @return sorted times
+	 */
+	public abstract OrderedTimes getWindow(Secret secret, int start, int size);
+
+	/**
+	 * This method returns the first secret numbers of the windows,
+	 * which are summarized separately, or null, if every time is
+	 * stored.
+	 *
+	 * @return int[] first secret numbers of the windows
+	 */
+	public int[] getWindowStarts() {
+		return null;
+	}
+
+	/**
+	 * This method returns a new sorted store of the times between
+	 * the sorted positions from and to (exclusive).
+	 *
+	 * @param from
+	 * @param to
+	 * @return SampleStore
+	 */
+	public SampleStore getRange(int from, int to) {
+		long[] times = new long[to - from];
+		for (int pos = from; pos < to; ++pos) {
+			times[pos - from] = this.getTime(pos);
+		}
+		SampleStore store = new HeapSampleStore(times);
+		store.sort();
+		return store;
+	}
+
+	/**
+	 * This method releases the files of the store. The store
+	 * can't be used afterwards. A store on the heap holds no
+	 * files.
+	 */
+	public void close() {
+	}
+
+	/**
+	 * This method returns the normalized rank error of the sorted
+	 * positions, which is 0, if every time is stored.
+	 *
+	 * @return double rank error
+	 */
+	public double getRankError() {
+		return 0;
+	}
+}
@@ -1,67 +1,161 @@
 package de.fau.pi1.timerReporter.dataset;
 
-import java.util.ArrayList;
-import java.util.Collections;
-
 
 /**
- * An object of this class represents one secret with a list of timings. 
- * The time list should be sorted by timings in ascending order. Every 
- * timing knows his successor time with the following secret id, 
- * therefore it is possible to order back into secret id order. Also,
- * a secret knows the first and the last time in secret id order.
- * 
+ * An object of this class represents one secret with a list of timings.
+ * The timings are kept by a sample store of the configured storage and
+ * are sorted in ascending order. An ordered store also keeps the
+ * measurement order: for every sorted time it knows the secret number,
+ * the position in measurement order, and for every secret number the row
+ * number and the sorted position. A wavelet matrix over the sorted
+ * positions selects the times of a window in measurement order without
+ * copying the window. A store of quantile sketches keeps no measurement
+ * order and reads the times by their approximate rank only. The summary
+ * statistics of the secret are collected while the timings are added.
+ *
  * @FauTimerReporter
  * @author Isabell Schmitt
  * @version 1.0
  * @19.07.2012
  *
  */
-public class Secret {
+public class Secret implements MeasuredTimes {
 	private String name;
 	private String fileName;
-	private ArrayList<Time> times = new ArrayList<Time>();
-	private Time firstTime;
-	private Time lastTime;
+	private SampleStore store;
+	private WaveletMatrix waveletMatrix = null;
+	private SecretStatistics statistics = new SecretStatistics();
 
 	public Secret(String name, String fileName) {
 		this.name = name;
 		this.fileName = fileName;
+		this.store = SampleStore.create();
 	}
-	
-	public Secret(String name, String fileName, ArrayList<Time> times) {
+
+	public Secret(String name, String fileName, long[] times) {
 		this.name = name;
 		this.fileName = fileName;
-		this.times = times;
+		this.store = new HeapSampleStore(times);
+		for (int i = 0; i < times.length; ++i) {
+			this.statistics.add(times[i]);
+		}
 		this.sortTimes();
-		this.firstTime = times.get(0);
-		this.lastTime = times.get(times.size() - 1);
 	}
 
 	/**
-	 * This method adds a new timing. 
+	 * This constructor creates a secret of a sorted store, which
+	 * is read from a snapshot with its statistics.
+	 *
+	 * @param name
+	 * @param fileName
+	 * @param store sorted store
+	 * @param statistics
+	 */
+	Secret(String name, String fileName, SampleStore store, SecretStatistics statistics) {
+		this.name = name;
+		this.fileName = fileName;
+		this.store = store;
+		this.statistics = statistics;
+		this.statistics.setPercentiles(this);
+	}
+
+	/**
+	 * This method adds a new timing. The timings must be
+	 * added in measurement order. A read only store, which
+	 * is mapped from a snapshot, is copied to the heap first.
+	 *
+	 * @param rowNo
 	 * @param time
 	 */
-	public void addTime(Time time) {
-		if(this.firstTime == null) {
-			this.firstTime = time;
+	public void addTime(int rowNo, long time) {
+		if(!(this.store instanceof WritableSampleStore)) {
+			SampleStore store = new HeapSampleStore((OrderedSampleStore) this.store);
+			this.store.close();
+			this.store = store;
 		}
+		((WritableSampleStore) this.store).add(rowNo, time);
+		this.statistics.add(time);
+		this.waveletMatrix = null;
+	}
 
-		this.times.add(time);
+	/**
+	 * This method returns true, if the secret keeps the measurement
+	 * order of every time.
+	 *
+	 * @return boolean
+	 */
+	public boolean hasMeasurementOrder() {
+		return this.store instanceof OrderedSampleStore;
+	}
 
-		if(this.lastTime != null) {
-			this.lastTime.setSuccessor(time);
+	/**
+	 * This method returns the store of the secret with the secret
+	 * numbers, the row numbers and the sorted positions or null, if
+	 * the secret keeps no measurement order.
+	 *
+	 * @return OrderedSampleStore
+	 */
+	public OrderedSampleStore getMeasurementOrder() {
+		if(this.store instanceof OrderedSampleStore) {
+			return (OrderedSampleStore) this.store;
 		}
+		return null;
+	}
 
-		this.lastTime = time;
+	/**
+	 * This method appends the times of another secret, which follow
+	 * the times of this secret in measurement order. Only secrets of
+	 * sketches are appendable.
+	 *
+	 * @param other
+	 */
+	public void append(Secret other) {
+		((AppendableSampleStore) this.store).append((AppendableSampleStore) other.store);
+		this.statistics.merge(other.statistics);
+		this.waveletMatrix = null;
+	}
+
+	/**
+	 * This method closes the store of the secret. The secret
+	 * can't be used afterwards.
+	 */
+	public void close() {
+		this.store.close();
+	}
+
+	/**
+	 * This method merges the sorted times of another sorted secret,
+	 * which follow the times of this secret in measurement order.
+	 * The merged times are stored on the heap and stay sorted. The
+	 * stores of both secrets are closed, so the other secret can't
+	 * be used afterwards. The sketches of secrets without measurement
+	 * order are appended and sorted again.
+	 *
+	 * @param other
+	 */
+	public void merge(Secret other) {
+		OrderedSampleStore first = this.getMeasurementOrder();
+		OrderedSampleStore second = other.getMeasurementOrder();
+		if(first == null || second == null) {
+			this.append(other);
+			this.sortTimes();
+			return;
+		}
+
+		this.store = OrderedSampleStore.merge(first, second);
+		first.close();
+		second.close();
+		this.statistics.merge(other.statistics);
+		this.statistics.setPercentiles(this);
+		this.waveletMatrix = null;
 	}
-	
+
 	/**
 	 * This method returns the highest time.
 	 * @return highest time stored in the time list
 	 */
-	public Long getHighestTime() {
-		return this.times.get(this.times.size()-1).getTime();
+	public long getHighestTime() {
+		return this.statistics.getMax();
 
 	}
 
@@ -69,158 +163,219 @@ public class Secret {
 	 * This method returns the lowest time.
 	 * @return lowest time stored in the time list
 	 */
-	public Long getLowestTime() {
-		return this.times.get(0).getTime();
+	public long getLowestTime() {
+		return this.statistics.getMin();
 	}
 
 	/**
 	 * This method returns the median of the time list.
-	 * 
+	 *
 	 * @param lowerPos
 	 * @param upperPos
 	 * @return median of the time list
 	 */
-	public Long getMedian(int lowerPos, int upperPos) {
+	public long getMedian(int lowerPos, int upperPos) {
 
 		//we need the size of the space
 		int middle = ((upperPos - lowerPos) + 1)/2;
 		if((upperPos - lowerPos) % 2 == 0) {
-			return this.times.get(lowerPos + middle).getTime();
+			return this.store.getTime(lowerPos + middle);
 		} else {
-			return (long) ((this.times.get(lowerPos + middle).getTime() + this.times.get(lowerPos + middle-1).getTime())/2.0);
+			return (long) ((this.store.getTime(lowerPos + middle) + this.store.getTime(lowerPos + middle-1))/2.0);
 		}
 	}
 
 	/**
 	 * This method returns the arithmetic mean.
-	 * 
+	 *
 	 * @return arithmetic mean of the time list
 	 */
-	public Long getArithmeticMean() {
-		long arithmeticMean = 0;
-		for (Time time : this.times) {
-			arithmeticMean += time.getTime();
-		}
-
-		arithmeticMean = arithmeticMean / this.times.size();
-		return arithmeticMean;
+	public long getArithmeticMean() {
+		return this.statistics.getArithmeticMean();
 	}
 
 	/**
-	 * This method returns the lower quantile which is 
+	 * This method returns the lower quantile which is
 	 * necessary for the box plot.
-	 * 
+	 *
 	 * @param lowerPos
 	 * @param upperPos
 	 * @return lower quantile of the box plot
 	 */
-	public Long getBoxPlotLowerQuantile(int lowerPos, int upperPos) {
+	public long getBoxPlotLowerQuantile(int lowerPos, int upperPos) {
 		//we need the size of the space
 		int size = ((upperPos - lowerPos));
-		return this.times.get(lowerPos + (int) (Math.ceil(size * 0.25))).getTime();
+		return this.store.getTime(lowerPos + (int) (Math.ceil(size * 0.25)));
 	}
 
 	/**
 	 * This method returns the upper quantile which is
 	 * necessary for the box plot.
-	 * 
+	 *
 	 * @param lowerPos
 	 * @param upperPos
 	 * @return upper quantile of the box plot.
 	 */
-	public Long getBoxPlotUpperQuantile(int lowerPos, int upperPos) {
+	public long getBoxPlotUpperQuantile(int lowerPos, int upperPos) {
 		//we need the size of the space
 		int size = ((upperPos - lowerPos));
-		return this.times.get(lowerPos + (int) (Math.ceil(size * 0.75))).getTime();
+		return this.store.getTime(lowerPos + (int) (Math.ceil(size * 0.75)));
 	}
 
 	public String getName() {
 		return this.name;
 	}
-	
+
 	public String getFileName() {
 		return this.fileName;
 	}
 
 	/**
-	 * This method returns the list of times
-	 * sorted by time.
-	 * 
-	 * @return
+	 * This method returns the number of times.
+	 *
+	 * @return int number of times
 	 */
-	public ArrayList<Time> getTimes() {
-		return this.times;
+	public int size() {
+		return this.store.size();
 	}
 
 	/**
-	 * This method sorts the list of times by
-	 * time.
+	 * This method returns a copy of the sorted times
+	 * between the positions from and to (exclusive).
+	 *
+	 * @param from
+	 * @param to
+	 * @return long[] sorted times
 	 */
-	public void sortTimes() {
-		Collections.sort(this.times);
+	public long[] getTimes(int from, int to) {
+		long[] times = new long[to - from];
+		for (int pos = from; pos < to; ++pos) {
+			times[pos - from] = this.store.getTime(pos);
+		}
+		return times;
 	}
-	
-	public Time getFirstTime() {
-		return this.firstTime;
+
+	/**
+	 * This method returns the time at the position
+	 * of the sorted time list.
+	 *
+	 * @param pos
+	 * @return long time
+	 */
+	public long getTime(int pos) {
+		return this.store.getTime(pos);
 	}
-	
-	public Time getLastTime() {
-		return this.lastTime;
+
+	/**
+	 * This method returns the position after the run of equal
+	 * times which contains the position of the sorted time list.
+	 *
+	 * @param pos
+	 * @return int first position with a bigger time
+	 */
+	public int getRunEnd(int pos) {
+		return this.store.getRunEnd(pos);
 	}
-	
+
 	/**
-	 * This method searches the time with the 
-	 * matching secret number.
-	 * 
-	 * @param secretNo
-	 * @return time
+	 * This method sorts the list of times by time. Equal
+	 * times keep the measurement order.
 	 */
-	public Time getTime(int secretNo) {
-		Time time = this.firstTime;
+	public void sortTimes() {
+		this.store.sort();
+		this.statistics.setPercentiles(this);
+		this.waveletMatrix = null;
+	}
+
+	/**
+	 * This method returns the summary statistics of the times.
+	 *
+	 * @return SecretStatistics
+	 */
+	public SecretStatistics getStatistics() {
+		return this.statistics;
+	}
 
-		while(time != null && time.getSecretNo() != secretNo) {
-			time = time.getSuccessor();
+	/**
+	 * This method returns the wavelet matrix over the sorted positions
+	 * in measurement order of the store of the secret. The matrix is
+	 * built on the first call.
+	 *
+	 * @param store ordered store of the secret
+	 * @return WaveletMatrix
+	 */
+	synchronized WaveletMatrix getWaveletMatrix(OrderedSampleStore store) {
+		if(this.waveletMatrix == null) {
+			int[] sortedPos = new int[store.size()];
+			for (int secretNo = 0; secretNo < sortedPos.length; ++secretNo) {
+				sortedPos[secretNo] = store.getSortedPos(secretNo);
+			}
+			this.waveletMatrix = new WaveletMatrix(sortedPos);
 		}
-		return time;
+		return this.waveletMatrix;
 	}
-	
+
 	/**
-	 * This method returns a bisected list of the secret times. 
-	 * The list starts with the parameter start and ends if no 
-	 * more successor is found. Sorted by id.
-	 * 
+	 * This method returns a bisected list of the secret times.
+	 * The list starts with the parameter start and ends with the
+	 * last time in measurement order. Sorted by time.
+	 *
 	 * @param start
-	 * @return list of times
+	 * @return sorted times
 	 */
-	public ArrayList<Time> getBisectedTimes(int start) {
-		ArrayList<Time> bisectedTime = new ArrayList<Time>();
-		
-		for(Time selectedTime = this.getTime(start); selectedTime != null; selectedTime = selectedTime.getSuccessor()) {
-			bisectedTime.add(selectedTime);
-		}
-		return bisectedTime;
+	public OrderedTimes getBisectedTimes(int start) {
+		return this.getBisectedTimes(start, this.store.size() - start);
 	}
-	
+
 	/**
 	 * This method returns a bisected list of the secret times. The
 	 * list starts with the parameter start and ends if the size is
-	 * the same of the parameter size. Sorted by id.
-	 * 
+	 * the same of the parameter size. The times are not copied, the
+	 * list selects them by rank with the wavelet matrix.
+	 *
 	 * @param start
 	 * @param size
-	 * @return list of times
-	 */
-	public ArrayList<Time> getBisectedTimes(int start, int size) {
-		ArrayList<Time> bisectedTime = new ArrayList<Time>(size);
-		
-		Time selectedTime = this.getTime(start);
-		bisectedTime.add(selectedTime);
-		
-		while(bisectedTime.size() < size) {
-			selectedTime = selectedTime.getSuccessor();
-			bisectedTime.add(selectedTime);
+	 * @return sorted times
+	 */
+	public OrderedTimes getBisectedTimes(int start, int size) {
+		return this.store.getWindow(this, start, size);
+	}
+
+	/**
+	 * This method returns the first secret numbers of the windows in
+	 * measurement order, which are summarized separately, or null, if
+	 * every time is stored.
+	 *
+	 * @return int[] first secret numbers of the windows
+	 */
+	public int[] getWindowStarts() {
+		return this.store.getWindowStarts();
+	}
+
+	/**
+	 * This method returns a new secret of the sorted times between
+	 * the positions from and to (exclusive).
+	 *
+	 * @param from
+	 * @param to
+	 * @return Secret
+	 */
+	public Secret getRange(int from, int to) {
+		SampleStore store = this.store.getRange(from, to);
+		SecretStatistics statistics = new SecretStatistics();
+		for (int pos = 0; pos < store.size(); pos = store.getRunEnd(pos)) {
+			statistics.add(store.getTime(pos), store.getRunEnd(pos) - pos);
 		}
-		
-		return bisectedTime;
+		return new Secret(this.name, this.fileName, store, statistics);
+	}
+
+	/**
+	 * This method returns the normalized rank error of the sorted
+	 * times, which is 0, if every time is stored.
+	 *
+	 * @return double rank error
+	 */
+	public double getRankError() {
+		return this.store.getRankError();
 	}
 }
@@ -0,0 +1,249 @@
+package de.fau.pi1.timerReporter.dataset;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * An object of this class holds the summary statistics of one secret. The
+ * moments are updated in one streaming pass while the times are added,
+ * the percentiles are read once when the times are sorted. The central
+ * moments use the numerically stable update of Welford, extended to the
+ * third and fourth moment.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class SecretStatistics {
+	private long count = 0;
+	private long min = Long.MAX_VALUE;
+	private long max = Long.MIN_VALUE;
+	private long sum = 0;
+	private double mean = 0;
+	private double m2 = 0;
+	private double m3 = 0;
+	private double m4 = 0;
+	private long median = 0;
+	private long[] percentiles = null;
+
+	/**
+	 * This method adds a time to the moments.
+	 *
+	 * @param time
+	 */
+	public void add(long time) {
+		long n1 = this.count;
+		++this.count;
+		double n = this.count;
+
+		double delta = time - this.mean;
+		double deltaN = delta / n;
+		double deltaN2 = deltaN * deltaN;
+		double term = delta * deltaN * n1;
+
+		this.mean += deltaN;
+		this.m4 += term * deltaN2 * (n * n - 3 * n + 3) + 6 * deltaN2 * this.m2 - 4 * deltaN * this.m3;
+		this.m3 += term * deltaN * (n - 2) - 3 * deltaN * this.m2;
+		this.m2 += term;
+
+		this.sum += time;
+		if(time < this.min) {
+			this.min = time;
+		}
+		if(time > this.max) {
+			this.max = time;
+		}
+		this.percentiles = null;
+	}
+
+	/**
+	 * This method adds a run of equal times to the moments.
+	 *
+	 * @param time
+	 * @param count number of times
+	 */
+	public void add(long time, long count) {
+		SecretStatistics run = new SecretStatistics();
+		run.count = count;
+		run.min = time;
+		run.max = time;
+		run.sum = time * count;
+		run.mean = time;
+		this.merge(run);
+	}
+
+	/**
+	 * This method merges the moments of other times into these
+	 * moments with the pairwise update of Chan et al.
+	 *
+	 * @param other
+	 */
+	public void merge(SecretStatistics other) {
+		if(other.count == 0) {
+			return;
+		}
+
+		double nA = this.count;
+		double nB = other.count;
+		double n = nA + nB;
+		double delta = other.mean - this.mean;
+		double deltaN = delta / n;
+
+		this.m4 += other.m4 + delta * deltaN * deltaN * deltaN * nA * nB * (nA * nA - nA * nB + nB * nB)
+				+ 6 * deltaN * deltaN * (nA * nA * other.m2 + nB * nB * this.m2) + 4 * deltaN * (nA * other.m3 - nB * this.m3);
+		this.m3 += other.m3 + delta * deltaN * deltaN * nA * nB * (nA - nB) + 3 * deltaN * (nA * other.m2 - nB * this.m2);
+		this.m2 += other.m2 + delta * deltaN * nA * nB;
+		this.mean += deltaN * nB;
+
+		this.count += other.count;
+		this.sum += other.sum;
+		this.min = Math.min(this.min, other.min);
+		this.max = Math.max(this.max, other.max);
+		this.percentiles = null;
+	}
+
+	/**
+	 * This method reads the median and the table of the integer
+	 * percentiles from the sorted times of the secret.
+	 *
+	 * @param secret
+	 */
+	protected void setPercentiles(Secret secret) {
+		if(secret.size() == 0) {
+			return;
+		}
+
+		this.percentiles = new long[101];
+		for (int p = 0; p <= 100; ++p) {
+			int pos = (p != 100) ? (int) ((long) p * secret.size() / 100) : secret.size() - 1;
+			this.percentiles[p] = secret.getTime(pos);
+		}
+		this.median = secret.getMedian(0, secret.size() - 1);
+	}
+
+	/**
+	 * This method writes the moments to a snapshot.
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	void write(DataOutput out) throws IOException {
+		out.writeLong(this.count);
+		out.writeLong(this.min);
+		out.writeLong(this.max);
+		out.writeLong(this.sum);
+		out.writeDouble(this.mean);
+		out.writeDouble(this.m2);
+		out.writeDouble(this.m3);
+		out.writeDouble(this.m4);
+	}
+
+	/**
+	 * This method reads the moments written to a snapshot.
+	 *
+	 * @param in
+	 * @throws IOException
+	 */
+	void read(DataInput in) throws IOException {
+		this.count = in.readLong();
+		this.min = in.readLong();
+		this.max = in.readLong();
+		this.sum = in.readLong();
+		this.mean = in.readDouble();
+		this.m2 = in.readDouble();
+		this.m3 = in.readDouble();
+		this.m4 = in.readDouble();
+		this.percentiles = null;
+	}
+
+	public long getCount() {
+		return this.count;
+	}
+
+	public long getMin() {
+		return this.min;
+	}
+
+	public long getMax() {
+		return this.max;
+	}
+
+	/**
+	 * This method returns the arithmetic mean rounded down
+	 * to a whole time.
+	 *
+	 * @return long arithmetic mean
+	 */
+	public long getArithmeticMean() {
+		return this.sum / this.count;
+	}
+
+	public double getMean() {
+		return this.mean;
+	}
+
+	/**
+	 * This method returns the sample variance.
+	 *
+	 * @return double variance
+	 */
+	public double getVariance() {
+		if(this.count < 2) {
+			return 0;
+		}
+		return this.m2 / (this.count - 1);
+	}
+
+	public double getStandardDeviation() {
+		return Math.sqrt(this.getVariance());
+	}
+
+	/**
+	 * This method returns the skewness of the times or 0, if
+	 * all times are equal.
+	 *
+	 * @return double skewness
+	 */
+	public double getSkewness() {
+		if(this.m2 == 0) {
+			return 0;
+		}
+		return Math.sqrt(this.count) * this.m3 / Math.pow(this.m2, 1.5);
+	}
+
+	/**
+	 * This method returns the excess kurtosis of the times or 0,
+	 * if all times are equal.
+	 *
+	 * @return double excess kurtosis
+	 */
+	public double getKurtosis() {
+		if(this.m2 == 0) {
+			return 0;
+		}
+		return this.count * this.m4 / (this.m2 * this.m2) - 3;
+	}
+
+	/**
+	 * This method returns the median of the sorted times.
+	 *
+	 * @return long median
+	 */
+	public long getMedian() {
+		return this.median;
+	}
+
+	/**
+	 * This method returns the time of the integer percentile. The
+	 * position of the percentile p is p * size / 100, the 100th
+	 * percentile is the highest time.
+	 *
+	 * @param p
+	 * @return long time of the percentile
+	 */
+	public long getPercentile(int p) {
+		return this.percentiles[p];
+	}
+}
@@ -0,0 +1,196 @@
+package de.fau.pi1.timerReporter.dataset;
+
+import java.util.ArrayList;
+
+/**
+ * An object of this class summarizes the samples of one secret in quantile
+ * sketches instead of storing them, so the memory of a secret is fixed by
+ * the rank error and not by the size of the measurement. The measurement
+ * order is split into at most 64 blocks with a sketch each. If there are
+ * more blocks, neighbouring blocks are merged and the block size doubles.
+ * The sketches of the blocks are merged into the sorted times of the
+ * secret. The last times in measurement order are read from the sketches
+ * of the last blocks, so the smallest sizes are searched in steps of a
+ * block.
+ *
+ * The store keeps neither the secret numbers nor the row numbers, every
+ * time is read by its approximate rank. Instead of merging the sorted
+ * times, the sketches of another store are appended.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class SketchSampleStore extends SampleStore implements WritableSampleStore, AppendableSampleStore {
+	private static final int MAX_BLOCKS = 64;
+	private static final int MIN_BLOCK_SIZE = 1 << 12;
+
+	private double error;
+	private int k;
+	private ArrayList<QuantileSketch> blocks = new ArrayList<QuantileSketch>();
+	private int blockSize = MIN_BLOCK_SIZE;
+	private SketchTimes times = null;
+	private int size = 0;
+
+	/**
+	 * @param error normalized rank error of the sketches
+	 */
+	public SketchSampleStore(double error) {
+		this.error = error;
+		this.k = QuantileSketch.getK(error);
+	}
+
+	/**
+	 * This constructor creates a store of sorted sketch times
+	 * without blocks.
+	 *
+	 * @param times
+	 * @param error
+	 */
+	private SketchSampleStore(SketchTimes times, double error) {
+		this(error);
+		this.times = times;
+		this.size = times.size();
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#size()
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.WritableSampleStore#add(int, long)
+	 */
+	public void add(int rowNo, long time) {
+		if(this.blocks.isEmpty() || this.blocks.get(this.blocks.size() - 1).getCount() >= this.blockSize) {
+			this.blocks.add(new QuantileSketch(this.k));
+			this.mergeBlocks();
+		}
+		this.blocks.get(this.blocks.size() - 1).add(time);
+		this.times = null;
+		++this.size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.AppendableSampleStore#append(de.fau.pi1.timerReporter.dataset.AppendableSampleStore)
+	 */
+	public void append(AppendableSampleStore other) {
+		SketchSampleStore store = (SketchSampleStore) other;
+		this.blocks.addAll(store.blocks);
+		this.blockSize = Math.max(this.blockSize, store.blockSize);
+		this.mergeBlocks();
+		this.times = null;
+		this.size += store.size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getTime(int)
+	 */
+	public long getTime(int pos) {
+		return this.times.getTime(pos);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getRunEnd(int)
+	 */
+	public int getRunEnd(int pos) {
+		return this.times.getRunEnd(pos);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#sort()
+	 */
+	public void sort() {
+		if(this.times == null) {
+			this.times = this.mergeSketches(0, this.blocks.size()).getTimes();
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getWindow(de.fau.pi1.timerReporter.dataset.Secret, int, int)
+	 */
+	public OrderedTimes getWindow(Secret secret, int start, int size) {
+		// the window is read from the blocks inside of it or from the block of its start
+		int first = -1;
+		int last = -1;
+		int blockStart = 0;
+		for (int block = 0; block < this.blocks.size(); ++block) {
+			int blockEnd = blockStart + (int) this.blocks.get(block).getCount();
+			if(blockStart >= start && blockEnd <= start + size) {
+				first = (first < 0) ? block : first;
+				last = block;
+			} else if(first < 0 && blockStart <= start && start < blockEnd) {
+				first = block;
+				last = block;
+			}
+			blockStart = blockEnd;
+		}
+		if(first < 0) {
+			return new SketchTimes(new long[0], new long[0]);
+		}
+		return this.mergeSketches(first, last + 1).getTimes();
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getWindowStarts()
+	 */
+	public int[] getWindowStarts() {
+		int[] starts = new int[this.blocks.size()];
+		for (int block = 1; block < starts.length; ++block) {
+			starts[block] = starts[block - 1] + (int) this.blocks.get(block - 1).getCount();
+		}
+		return starts;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getRange(int, int)
+	 */
+	public SampleStore getRange(int from, int to) {
+		return new SketchSampleStore(this.times.getRange(from, to), this.error);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getRankError()
+	 */
+	public double getRankError() {
+		return this.error;
+	}
+
+	/**
+	 * This method merges neighbouring blocks and doubles the block
+	 * size as long as there are too many blocks.
+	 */
+	private void mergeBlocks() {
+		while(this.blocks.size() > MAX_BLOCKS) {
+			ArrayList<QuantileSketch> blocks = new ArrayList<QuantileSketch>();
+			for (int block = 0; block < this.blocks.size(); block += 2) {
+				QuantileSketch sketch = this.blocks.get(block);
+				if(block + 1 < this.blocks.size()) {
+					sketch.merge(this.blocks.get(block + 1));
+				}
+				blocks.add(sketch);
+			}
+			this.blocks = blocks;
+			this.blockSize *= 2;
+		}
+	}
+
+	/**
+	 * This method merges the sketches of the blocks from first
+	 * to last (exclusive) into a new sketch.
+	 *
+	 * @param first
+	 * @param last
+	 * @return QuantileSketch
+	 */
+	private QuantileSketch mergeSketches(int first, int last) {
+		QuantileSketch sketch = new QuantileSketch(this.k);
+		for (int block = first; block < last; ++block) {
+			sketch.merge(this.blocks.get(block));
+		}
+		return sketch;
+	}
+}
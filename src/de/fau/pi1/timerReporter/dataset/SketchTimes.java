@@ -0,0 +1,96 @@
+package de.fau.pi1.timerReporter.dataset;
+
+import java.util.Arrays;
+
+/**
+ * An object of this class holds the sorted times of a quantile sketch. Every
+ * run of equal times is stored once with the rank after its last time, so
+ * the time of a rank is found by binary search over the runs. The ranks are
+ * approximate, they are off by at most the rank error of the sketch.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class SketchTimes implements OrderedTimes {
+	private final long[] times;
+	private final long[] runEnds;
+
+	/**
+	 * @param times sorted distinct times
+	 * @param runEnds rank after the last time of every run
+	 */
+	protected SketchTimes(long[] times, long[] runEnds) {
+		this.times = times;
+		this.runEnds = runEnds;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedTimes#size()
+	 */
+	public int size() {
+		return (this.runEnds.length == 0) ? 0 : (int) this.runEnds[this.runEnds.length - 1];
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedTimes#getTime(int)
+	 */
+	public long getTime(int rank) {
+		return this.times[this.getRun(rank)];
+	}
+
+	/**
+	 * This method returns the rank after the run of equal
+	 * times which contains the rank.
+	 *
+	 * @param rank
+	 * @return int first rank with a bigger time
+	 */
+	public int getRunEnd(int rank) {
+		return (int) this.runEnds[this.getRun(rank)];
+	}
+
+	/**
+	 * This method returns the times between the ranks from
+	 * and to (exclusive).
+	 *
+	 * @param from
+	 * @param to
+	 * @return SketchTimes
+	 */
+	public SketchTimes getRange(int from, int to) {
+		if(from >= to) {
+			return new SketchTimes(new long[0], new long[0]);
+		}
+
+		int first = this.getRun(from);
+		int last = this.getRun(to - 1);
+		long[] times = Arrays.copyOfRange(this.times, first, last + 1);
+		long[] runEnds = new long[times.length];
+		for (int run = first; run <= last; ++run) {
+			runEnds[run - first] = Math.min(this.runEnds[run], to) - from;
+		}
+		return new SketchTimes(times, runEnds);
+	}
+
+	/**
+	 * This method returns the run which contains the rank.
+	 *
+	 * @param rank
+	 * @return int run
+	 */
+	private int getRun(int rank) {
+		int low = 0;
+		int high = this.runEnds.length - 1;
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(this.runEnds[middle] > rank) {
+				high = middle;
+			} else {
+				low = middle + 1;
+			}
+		}
+		return low;
+	}
+}
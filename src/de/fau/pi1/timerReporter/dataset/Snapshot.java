@@ -0,0 +1,174 @@
+package de.fau.pi1.timerReporter.dataset;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+/**
+ * This class writes and reads snapshots of the sorted secrets. A snapshot
+ * holds everything a reader builds from the input file, so a later run
+ * maps the snapshot instead of parsing and sorting the input again.
+ *
+ * Header (big endian):<br />
+ * 0: magic "MONASNAP"<br />
+ * 8: int version<br />
+ * 12: int byte order of the columns (1 = big endian, 0 = little endian)<br />
+ * 16: int number of secrets<br />
+ * 20: long offset of the columns<br />
+ *
+ * The header is followed by the name, the file name, the number of samples
+ * and the moments of every secret. The columns of the secrets follow one
+ * after another in the native byte order of the writer, see
+ * {@link SnapshotSampleStore}.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class Snapshot {
+	private static final byte[] MAGIC = {'M', 'O', 'N', 'A', 'S', 'N', 'A', 'P'};
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 28;
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * This method writes a snapshot of the sorted secrets.
+	 *
+	 * @param file
+	 * @param secrets
+	 * @throws IOException
+	 */
+	public static void write(File file, ArrayList<Secret> secrets) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream descriptors = new DataOutputStream(bytes);
+		for (Secret secret : secrets) {
+			descriptors.writeUTF(secret.getName());
+			descriptors.writeUTF(secret.getFileName());
+			descriptors.writeInt(secret.size());
+			secret.getStatistics().write(descriptors);
+		}
+		descriptors.flush();
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.put(MAGIC);
+		header.putInt(VERSION);
+		header.putInt((ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN) ? 1 : 0);
+		header.putInt(secrets.size());
+		header.putLong(HEADER_SIZE + bytes.size());
+		header.flip();
+
+		OrderedSampleStore[] orders = new OrderedSampleStore[secrets.size()];
+		for (int i = 0; i < orders.length; ++i) {
+			orders[i] = secrets.get(i).getMeasurementOrder();
+			if(orders[i] == null) {
+				throw new IOException("A snapshot needs the measurement order of every time.");
+			}
+		}
+
+		RandomAccessFile out = new RandomAccessFile(file, "rw");
+		try {
+			FileChannel channel = out.getChannel();
+			channel.truncate(0);
+			write(channel, header);
+			write(channel, ByteBuffer.wrap(bytes.toByteArray()));
+
+			ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.nativeOrder());
+			for (OrderedSampleStore order : orders) {
+				for (int pos = 0; pos < order.size(); ++pos) {
+					ensureRemaining(channel, buffer);
+					buffer.putLong(order.getTime(pos));
+				}
+				for (int pos = 0; pos < order.size(); ++pos) {
+					ensureRemaining(channel, buffer);
+					buffer.putInt(order.getSecretNo(pos));
+				}
+				for (int secretNo = 0; secretNo < order.size(); ++secretNo) {
+					ensureRemaining(channel, buffer);
+					buffer.putInt(order.getRowNo(secretNo));
+				}
+				for (int secretNo = 0; secretNo < order.size(); ++secretNo) {
+					ensureRemaining(channel, buffer);
+					buffer.putInt(order.getSortedPos(secretNo));
+				}
+			}
+			buffer.flip();
+			write(channel, buffer);
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * This method reads the secrets of a snapshot. The columns are
+	 * mapped and not copied to the heap. If the file is no snapshot
+	 * of this version and byte order, no secret is added.
+	 *
+	 * @param file
+	 * @param secrets
+	 * @return boolean true, if the snapshot was read
+	 * @throws IOException
+	 */
+	public static boolean read(File file, ArrayList<Secret> secrets) throws IOException {
+		RandomAccessFile in = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = in.getChannel();
+			DataInputStream header = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+			for (int i = 0; i < MAGIC.length; ++i) {
+				if(header.readByte() != MAGIC[i]) {
+					return false;
+				}
+			}
+			if(header.readInt() != VERSION) {
+				return false;
+			}
+			if(header.readInt() != ((ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN) ? 1 : 0)) {
+				return false;
+			}
+			int secretCount = header.readInt();
+			long offset = header.readLong();
+
+			ArrayList<Secret> snapshotSecrets = new ArrayList<Secret>();
+			for (int i = 0; i < secretCount; ++i) {
+				String name = header.readUTF();
+				String fileName = header.readUTF();
+				int size = header.readInt();
+				SecretStatistics statistics = new SecretStatistics();
+				statistics.read(header);
+
+				if(offset + SnapshotSampleStore.getColumnBytes(size) > channel.size()) {
+					return false;
+				}
+				snapshotSecrets.add(new Secret(name, fileName, new SnapshotSampleStore(channel, offset, size), statistics));
+				offset += SnapshotSampleStore.getColumnBytes(size);
+			}
+			secrets.addAll(snapshotSecrets);
+			return true;
+		} finally {
+			in.close();
+		}
+	}
+
+	private static void ensureRemaining(FileChannel channel, ByteBuffer buffer) throws IOException {
+		if(buffer.remaining() < 8) {
+			buffer.flip();
+			write(channel, buffer);
+			buffer.clear();
+		}
+	}
+
+	private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while(buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+}
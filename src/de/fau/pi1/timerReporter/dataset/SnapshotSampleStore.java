@@ -0,0 +1,91 @@
+package de.fau.pi1.timerReporter.dataset;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * An object of this class maps the sorted samples of one secret from a
+ * snapshot file. The columns are mapped read only in the order written by
+ * the snapshot: the sorted times, the secret numbers of the sorted times,
+ * the row numbers and the sorted positions in measurement order. The
+ * store is read only, no samples can be added.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class SnapshotSampleStore extends OrderedSampleStore {
+	private MappedColumn times;
+	private MappedColumn secretNos;
+	private MappedColumn rowNos;
+	private MappedColumn sortedPos;
+	private int size;
+
+	/**
+	 * @param channel channel of the snapshot file
+	 * @param offset offset of the columns of the secret
+	 * @param size number of samples
+	 * @throws IOException
+	 */
+	public SnapshotSampleStore(FileChannel channel, long offset, int size) throws IOException {
+		this.size = size;
+		this.times = new MappedColumn(channel, offset, size, 8);
+		this.secretNos = new MappedColumn(channel, offset + 8L * size, size, 4);
+		this.rowNos = new MappedColumn(channel, offset + 12L * size, size, 4);
+		this.sortedPos = new MappedColumn(channel, offset + 16L * size, size, 4);
+	}
+
+	/**
+	 * This method returns the number of bytes of the columns
+	 * of a secret with the number of samples.
+	 *
+	 * @param size
+	 * @return long number of bytes
+	 */
+	public static long getColumnBytes(int size) {
+		return 20L * size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#size()
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#getTime(int)
+	 */
+	public long getTime(int pos) {
+		return this.times.getLong(pos);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getSecretNo(int)
+	 */
+	public int getSecretNo(int pos) {
+		return this.secretNos.getInt(pos);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getRowNo(int)
+	 */
+	public int getRowNo(int secretNo) {
+		return this.rowNos.getInt(secretNo);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedSampleStore#getSortedPos(int)
+	 */
+	public int getSortedPos(int secretNo) {
+		return this.sortedPos.getInt(secretNo);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.SampleStore#sort()
+	 */
+	public void sort() {
+		// the samples of a snapshot are already sorted
+	}
+}
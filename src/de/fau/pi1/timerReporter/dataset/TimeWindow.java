@@ -0,0 +1,45 @@
+package de.fau.pi1.timerReporter.dataset;
+
+/**
+ * An object of this class represents a window of the times of a store
+ * in measurement order. The window does not copy the times, the time
+ * with a rank is selected by the wavelet matrix of the secret.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class TimeWindow implements OrderedTimes {
+	private final OrderedSampleStore store;
+	private final WaveletMatrix matrix;
+	private final int start;
+	private final int size;
+
+	/**
+	 * @param store store of the window
+	 * @param matrix wavelet matrix over the sorted positions of the store
+	 * @param start first secret number of the window
+	 * @param size number of times
+	 */
+	protected TimeWindow(OrderedSampleStore store, WaveletMatrix matrix, int start, int size) {
+		this.store = store;
+		this.matrix = matrix;
+		this.start = start;
+		this.size = size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedTimes#size()
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedTimes#getTime(int)
+	 */
+	public long getTime(int rank) {
+		return this.store.getTime(this.matrix.kthSmallest(this.start, this.start + this.size, rank));
+	}
+}
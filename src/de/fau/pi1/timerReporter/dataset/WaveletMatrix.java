@@ -0,0 +1,144 @@
+package de.fau.pi1.timerReporter.dataset;
+
+/**
+ * An object of this class represents a wavelet matrix over a sequence of
+ * distinct values between 0 and the length of the sequence. It answers
+ * the query for the k-th smallest value of a range of the sequence with
+ * one rank query per bit of the values, without copying the range.
+ *
+ * Every level stores one bit of every value, the highest bit first. The
+ * values of a level are stably ordered by the bit of the level above, the
+ * zeros before the ones. Every level has a rank directory with the number
+ * of ones before each word.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class WaveletMatrix {
+	private final int length;
+	private final int levels;
+	private final long[][] bits;
+	private final int[][] ranks;
+	private final int[] zeros;
+
+	/**
+	 * @param values sequence of values between 0 and values.length - 1, the array is used as buffer
+	 */
+	public WaveletMatrix(int[] values) {
+		this.length = values.length;
+
+		int levels = 1;
+		while((1L << levels) < this.length) {
+			++levels;
+		}
+		this.levels = levels;
+		this.bits = new long[levels][];
+		this.ranks = new int[levels][];
+		this.zeros = new int[levels];
+
+		int words = (this.length >>> 6) + 1;
+		int[] current = values;
+		int[] next = new int[this.length];
+
+		for (int level = 0; level < levels; ++level) {
+			int bit = levels - 1 - level;
+			long[] levelBits = new long[words];
+			int zeroCount = 0;
+
+			for (int i = 0; i < this.length; ++i) {
+				if(((current[i] >>> bit) & 1) != 0) {
+					levelBits[i >>> 6] |= 1L << (i & 63);
+				} else {
+					++zeroCount;
+				}
+			}
+
+			// stable partition, the zeros before the ones
+			int zeroPos = 0;
+			int onePos = zeroCount;
+			for (int i = 0; i < this.length; ++i) {
+				if(((current[i] >>> bit) & 1) != 0) {
+					next[onePos++] = current[i];
+				} else {
+					next[zeroPos++] = current[i];
+				}
+			}
+
+			int[] levelRanks = new int[words];
+			for (int i = 1; i < words; ++i) {
+				levelRanks[i] = levelRanks[i - 1] + Long.bitCount(levelBits[i - 1]);
+			}
+
+			this.bits[level] = levelBits;
+			this.ranks[level] = levelRanks;
+			this.zeros[level] = zeroCount;
+
+			int[] swap = current;
+			current = next;
+			next = swap;
+		}
+	}
+
+	/**
+	 * This method returns the number of values.
+	 *
+	 * @return int number of values
+	 */
+	public int size() {
+		return this.length;
+	}
+
+	/**
+	 * This method returns the k-th smallest value of the values
+	 * between the position start and the position end (exclusive).
+	 * The parameter k starts with 0.
+	 *
+	 * @param start
+	 * @param end
+	 * @param k
+	 * @return int k-th smallest value
+	 */
+	public int kthSmallest(int start, int end, int k) {
+		if(start < 0 || end > this.length || k < 0 || k >= end - start) {
+			throw new IndexOutOfBoundsException("range " + start + "-" + end + ", k " + k);
+		}
+
+		int value = 0;
+		for (int level = 0; level < this.levels; ++level) {
+			int onesStart = this.rankOne(level, start);
+			int onesEnd = this.rankOne(level, end);
+			int zerosInRange = (end - start) - (onesEnd - onesStart);
+
+			if(k < zerosInRange) {
+				start = start - onesStart;
+				end = end - onesEnd;
+			} else {
+				k -= zerosInRange;
+				start = this.zeros[level] + onesStart;
+				end = this.zeros[level] + onesEnd;
+				value |= 1 << (this.levels - 1 - level);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * This method returns the number of ones of the level
+	 * before the position.
+	 *
+	 * @param level
+	 * @param pos
+	 * @return int number of ones
+	 */
+	private int rankOne(int level, int pos) {
+		int word = pos >>> 6;
+		int offset = pos & 63;
+		int rank = this.ranks[level][word];
+		if(offset != 0) {
+			rank += Long.bitCount(this.bits[level][word] & ((1L << offset) - 1));
+		}
+		return rank;
+	}
+}
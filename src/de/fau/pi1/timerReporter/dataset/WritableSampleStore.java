@@ -0,0 +1,22 @@
+package de.fau.pi1.timerReporter.dataset;
+
+/**
+ * This interface represents a store, which the samples are added to while
+ * the measurement is read. The stores of snapshots are read only.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public interface WritableSampleStore {
+
+	/**
+	 * This method adds a new sample. The samples must be added in
+	 * measurement order.
+	 *
+	 * @param rowNo
+	 * @param time
+	 */
+	public void add(int rowNo, long time);
+}
@@ -0,0 +1,137 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import de.fau.pi1.timerReporter.dataset.OrderedTimes;
+
+/**
+ * An object of this class represents the two-sample Anderson-Darling
+ * test of Scholz and Stephens. The statistic is the standardized
+ * A2akN, which uses mid ranks for equal times. The p-value is
+ * interpolated between the critical values of Scholz and Stephens and
+ * lies between 0.001 and 0.25.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class AndersonDarlingTest implements TwoSampleTest {
+	private static final double[] SIGNIFICANCE = {0.25, 0.1, 0.05, 0.025, 0.01, 0.005, 0.001};
+
+	// critical values of one degree of freedom
+	private static final double[] CRITICAL = {0.325, 1.226, 1.961, 2.718, 3.752, 4.592, 6.546};
+	private static final double[] FIT = fit();
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.evaluation.TwoSampleTest#getName()
+	 */
+	public String getName() {
+		return "Anderson-Darling";
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.evaluation.TwoSampleTest#test(de.fau.pi1.timerReporter.dataset.OrderedTimes, de.fau.pi1.timerReporter.dataset.OrderedTimes)
+	 */
+	public double[] test(OrderedTimes timesA, OrderedTimes timesB) {
+		double n1 = timesA.size();
+		double n2 = timesB.size();
+		double n = n1 + n2;
+		if(n < 4) {
+			return new double[] {0, SIGNIFICANCE[0]};
+		}
+
+		double sumA = 0;
+		double sumB = 0;
+		MergeSweep sweep = new MergeSweep(timesA, timesB);
+		while(sweep.next()) {
+			double l = sweep.getCountA() + sweep.getCountB();
+			double b = sweep.getBelowA() + sweep.getBelowB() + l / 2;
+			double denominator = b * (n - b) - n * l / 4;
+			if(denominator <= 0) {
+				continue;
+			}
+			double mA = sweep.getBelowA() + sweep.getCountA() / 2.0;
+			double mB = sweep.getBelowB() + sweep.getCountB() / 2.0;
+			sumA += l * (n * mA - b * n1) * (n * mA - b * n1) / denominator;
+			sumB += l * (n * mB - b * n2) * (n * mB - b * n2) / denominator;
+		}
+		double a2 = (n - 1) / n * (sumA / n1 + sumB / n2) / n;
+
+		// variance of A2akN of two samples
+		double hh = 1 / n1 + 1 / n2;
+		double h = 0;
+		double g = 0;
+		double tail = 0;
+		for (int i = 1; i < n; ++i) {
+			h += 1 / (double) i;
+		}
+		for (int m = 2; m < n; ++m) {
+			tail += 1 / (n - m + 1);
+			g += tail / m;
+		}
+		int k = 2;
+		double a = (4 * g - 6) * (k - 1) + (10 - 6 * g) * hh;
+		double b = (2 * g - 4) * k * k + 8 * h * k + (2 * g - 14 * h - 4) * hh - 8 * h + 4 * g - 6;
+		double c = (6 * h + 2 * g - 2) * k * k + (4 * h - 4 * g + 6) * k + (2 * h - 6) * hh + 4 * h;
+		double d = (2 * h + 6) * k * k - 4 * h * k;
+		double variance = (a * n * n * n + b * n * n + c * n + d) / ((n - 1) * (n - 2) * (n - 3));
+		double statistic = (a2 - (k - 1)) / Math.sqrt(variance);
+
+		return new double[] {statistic, getProbability(statistic)};
+	}
+
+	/**
+	 * This method interpolates the p-value of the standardized
+	 * statistic with the quadratic fit of the logarithm of the
+	 * significance levels over the critical values.
+	 *
+	 * @param statistic
+	 * @return double p-value
+	 */
+	private static double getProbability(double statistic) {
+		if(statistic <= CRITICAL[0]) {
+			return SIGNIFICANCE[0];
+		} else if(statistic >= CRITICAL[CRITICAL.length - 1]) {
+			return SIGNIFICANCE[SIGNIFICANCE.length - 1];
+		}
+		return Math.exp(FIT[0] + FIT[1] * statistic + FIT[2] * statistic * statistic);
+	}
+
+	/**
+	 * This method fits a quadratic polynomial to the logarithm of
+	 * the significance levels over the critical values by least
+	 * squares. The normal equations are solved by Gaussian
+	 * elimination.
+	 *
+	 * @return double[] coefficients of the powers 0, 1 and 2
+	 */
+	private static double[] fit() {
+		double[][] matrix = new double[3][4];
+		for (int i = 0; i < CRITICAL.length; ++i) {
+			double[] powers = {1, CRITICAL[i], CRITICAL[i] * CRITICAL[i]};
+			for (int row = 0; row < 3; ++row) {
+				for (int column = 0; column < 3; ++column) {
+					matrix[row][column] += powers[row] * powers[column];
+				}
+				matrix[row][3] += powers[row] * Math.log(SIGNIFICANCE[i]);
+			}
+		}
+
+		for (int pivot = 0; pivot < 3; ++pivot) {
+			for (int row = pivot + 1; row < 3; ++row) {
+				double factor = matrix[row][pivot] / matrix[pivot][pivot];
+				for (int column = pivot; column < 4; ++column) {
+					matrix[row][column] -= factor * matrix[pivot][column];
+				}
+			}
+		}
+		double[] coefficients = new double[3];
+		for (int row = 2; row >= 0; --row) {
+			double sum = matrix[row][3];
+			for (int column = row + 1; column < 3; ++column) {
+				sum -= matrix[row][column] * coefficients[column];
+			}
+			coefficients[row] = sum / matrix[row][row];
+		}
+		return coefficients;
+	}
+}
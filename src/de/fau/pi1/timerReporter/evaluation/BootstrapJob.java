@@ -0,0 +1,118 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.util.concurrent.Callable;
+
+/**
+ * An object of this class represents the job to evaluate a range of the
+ * bootstrap replicates of a secret pair. Every replicate searches the
+ * optimal box and, if it finds one, the smallest size again. The results
+ * are written to the arrays of the bootstrap at the number of the
+ * replicate, so the ranges don't share any results. The budget of the
+ * evaluation is asked after every replicate. Once it is exhausted, the
+ * range is cancelled and only the replicates before are evaluated.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class BootstrapJob implements Callable<Boolean> {
+	private long[] timesA;
+	private long[] timesB;
+	private long seed;
+	private int resolution;
+	private boolean exactSize;
+	private int from;
+	private int to;
+	private double[] lowerBounds;
+	private double[] upperBounds;
+	private int[] smallestSizes;
+	private Budget budget;
+	private int end;
+
+	/**
+	 * @param timesA sorted times of secret A
+	 * @param timesB sorted times of secret B
+	 * @param seed seed of the replicates
+	 * @param resolution
+	 * @param exactSize
+	 * @param from first replicate
+	 * @param to replicate after the last replicate
+	 * @param lowerBounds lower bounds of the optimal boxes of all replicates
+	 * @param upperBounds upper bounds of the optimal boxes of all replicates
+	 * @param smallestSizes smallest sizes of all replicates, 0 if no optimal box is found
+	 * @param budget budget of the evaluation
+	 */
+	protected BootstrapJob(long[] timesA, long[] timesB, long seed, int resolution, boolean exactSize, int from, int to, double[] lowerBounds, double[] upperBounds, int[] smallestSizes, Budget budget) {
+		this.timesA = timesA;
+		this.timesB = timesB;
+		this.seed = seed;
+		this.resolution = resolution;
+		this.exactSize = exactSize;
+		this.from = from;
+		this.to = to;
+		this.lowerBounds = lowerBounds;
+		this.upperBounds = upperBounds;
+		this.smallestSizes = smallestSizes;
+		this.budget = budget;
+		this.end = from;
+	}
+
+	/**
+	 * This method evaluates the replicates. A replicate, which
+	 * is interrupted by the budget, is not evaluated.
+	 */
+	@Override
+	public Boolean call() {
+		BootstrapSample sampleA = new BootstrapSample(this.timesA);
+		BootstrapSample sampleB = new BootstrapSample(this.timesB);
+
+		for (int replicate = this.from; replicate < this.to && !this.budget.isExhausted(); ++replicate) {
+			ReplicateRandom random = new ReplicateRandom(this.seed, replicate);
+			sampleA.resample(random);
+			sampleB.resample(random);
+
+			Timeline timeline = new Timeline("", BoxTest.getResolution(this.resolution, sampleA, sampleB));
+			double[] optimalBox = BoxTest.optimalBox(sampleA, sampleB, timeline, this.resolution);
+			this.lowerBounds[replicate] = optimalBox[0];
+			this.upperBounds[replicate] = optimalBox[1];
+
+			if(optimalBox[0] != 0 || optimalBox[1] != 0) {
+				if(this.exactSize) {
+					this.smallestSizes[replicate] = SampleSizeSearch.exactSmallestSize(sampleA, sampleB, this.resolution, this.budget);
+				} else {
+					this.smallestSizes[replicate] = SampleSizeSearch.bisectSmallestSize(sampleA, sampleB, this.resolution, this.budget);
+				}
+			}
+
+			if(!this.budget.isExhausted()) {
+				this.end = replicate + 1;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * This method returns true, if the budget cancelled
+	 * replicates of the range.
+	 *
+	 * @return boolean
+	 */
+	protected boolean isCancelled() {
+		return this.end != this.to;
+	}
+
+	public int getFrom() {
+		return from;
+	}
+
+	/**
+	 * This method returns the replicate after the last
+	 * evaluated replicate.
+	 *
+	 * @return int
+	 */
+	public int getEnd() {
+		return end;
+	}
+}
@@ -0,0 +1,237 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+
+/**
+ * An object of this class holds the bootstrap of a secret pair. The
+ * percentile intervals of the bounds of the optimal box and of the
+ * smallest size are taken over the replicates which found an optimal
+ * box. The interval holds the middle 95 percent of these replicates.
+ * If the budget cancelled the bootstrap, only the evaluated replicates
+ * are counted and the results are marked as partial.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class BootstrapResults {
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+	private static final int LOWER_PERMILLE = 25;
+	private static final int UPPER_PERMILLE = 975;
+
+	private String inputFile;
+	private Secret secretA;
+	private Secret secretB;
+	private double[] optimalBox;
+	private int smallestSize;
+	private int replicates;
+	private double[] lowerBounds;
+	private double[] upperBounds;
+	private int[] smallestSizes;
+	private boolean partial = false;
+
+	/**
+	 * @param inputFile
+	 * @param secretA
+	 * @param secretB
+	 * @param optimalBox optimal box of the measurement
+	 * @param smallestSize smallest size of the measurement
+	 * @param lowerBounds lower bounds of the optimal boxes of the replicates
+	 * @param upperBounds upper bounds of the optimal boxes of the replicates
+	 * @param smallestSizes smallest sizes of the replicates, 0 if no optimal box is found
+	 */
+	public BootstrapResults(String inputFile, Secret secretA, Secret secretB, double[] optimalBox, int smallestSize, double[] lowerBounds, double[] upperBounds, int[] smallestSizes) {
+		this.inputFile = inputFile;
+		this.secretA = secretA;
+		this.secretB = secretB;
+		this.optimalBox = optimalBox;
+		this.smallestSize = smallestSize;
+		this.replicates = smallestSizes.length;
+
+		// only the replicates with an optimal box are kept
+		int count = 0;
+		for (int replicate = 0; replicate < this.replicates; ++replicate) {
+			if(smallestSizes[replicate] != 0) {
+				lowerBounds[count] = lowerBounds[replicate];
+				upperBounds[count] = upperBounds[replicate];
+				smallestSizes[count] = smallestSizes[replicate];
+				++count;
+			}
+		}
+		this.lowerBounds = Arrays.copyOf(lowerBounds, count);
+		this.upperBounds = Arrays.copyOf(upperBounds, count);
+		this.smallestSizes = Arrays.copyOf(smallestSizes, count);
+		Arrays.sort(this.lowerBounds);
+		Arrays.sort(this.upperBounds);
+		Arrays.sort(this.smallestSizes);
+	}
+
+	/**
+	 * This method marks the bootstrap as partial. The budget
+	 * cancelled the remaining replicates.
+	 */
+	public void setPartial() {
+		this.partial = true;
+	}
+
+	public boolean isPartial() {
+		return partial;
+	}
+
+	/**
+	 * This method writes the bootstrap without the pair.
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	void write(DataOutputStream out) throws IOException {
+		out.writeDouble(this.optimalBox[0]);
+		out.writeDouble(this.optimalBox[1]);
+		out.writeInt(this.smallestSize);
+		out.writeInt(this.replicates);
+		out.writeInt(this.smallestSizes.length);
+		for (int i = 0; i < this.smallestSizes.length; ++i) {
+			out.writeDouble(this.lowerBounds[i]);
+			out.writeDouble(this.upperBounds[i]);
+			out.writeInt(this.smallestSizes[i]);
+		}
+	}
+
+	/**
+	 * This method reads a bootstrap of the pair. The replicates
+	 * without optimal box were dropped before it was written.
+	 *
+	 * @param in
+	 * @param inputFile
+	 * @param secretA
+	 * @param secretB
+	 * @return BootstrapResults
+	 * @throws IOException
+	 */
+	static BootstrapResults read(DataInputStream in, String inputFile, Secret secretA, Secret secretB) throws IOException {
+		double[] optimalBox = new double[] {in.readDouble(), in.readDouble()};
+		int smallestSize = in.readInt();
+		int replicates = in.readInt();
+		int count = in.readInt();
+		double[] lowerBounds = new double[count];
+		double[] upperBounds = new double[count];
+		int[] smallestSizes = new int[count];
+		for (int i = 0; i < count; ++i) {
+			lowerBounds[i] = in.readDouble();
+			upperBounds[i] = in.readDouble();
+			smallestSizes[i] = in.readInt();
+		}
+		BootstrapResults results = new BootstrapResults(inputFile, secretA, secretB, optimalBox, smallestSize, lowerBounds, upperBounds, smallestSizes);
+		results.replicates = replicates;
+		return results;
+	}
+
+	/**
+	 * This method prints the bootstrap into the output file.
+	 * 
+	 * @param outputFile
+	 * @param partialColumn true to append if the bootstrap is partial
+	 */
+	public void printBootstrapResult(File outputFile, boolean partialColumn) {
+		String output = this.inputFile + ";" + this.secretA.getFileName() + "<" + this.secretB.getFileName() + ";" + this.optimalBox[0] + "-" + this.optimalBox[1] + ";" + this.getLowerBoundInterval() + ";" + this.getUpperBoundInterval() + ";" + this.smallestSize + ";" + this.getSmallestSizeInterval() + ";" + this.replicates + ";" + this.getCountOptimalBoxes() + ";";
+		if(partialColumn) {
+			output += (this.partial ? "bootstrap" : "") + ";";
+		}
+
+		try {
+			BufferedWriter bw = new BufferedWriter(new FileWriter(outputFile, true));
+			bw.write(output);
+			bw.write('\n');
+			bw.close();
+		} catch (IOException e) {
+			logger.warning("Error while writing the bootstrap result csv.");
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * This method returns the number of replicates which
+	 * found an optimal box.
+	 * 
+	 * @return int number of replicates
+	 */
+	public int getCountOptimalBoxes() {
+		return this.smallestSizes.length;
+	}
+
+	/**
+	 * This method returns the interval of the lower bound
+	 * of the optimal box as "lower-upper" or "-", if no
+	 * replicate found an optimal box.
+	 * 
+	 * @return String interval
+	 */
+	public String getLowerBoundInterval() {
+		if(this.lowerBounds.length == 0) {
+			return "-";
+		}
+		return this.lowerBounds[getPosition(LOWER_PERMILLE, this.lowerBounds.length)] + "-" + this.lowerBounds[getPosition(UPPER_PERMILLE, this.lowerBounds.length)];
+	}
+
+	/**
+	 * This method returns the interval of the upper bound
+	 * of the optimal box as "lower-upper" or "-", if no
+	 * replicate found an optimal box.
+	 * 
+	 * @return String interval
+	 */
+	public String getUpperBoundInterval() {
+		if(this.upperBounds.length == 0) {
+			return "-";
+		}
+		return this.upperBounds[getPosition(LOWER_PERMILLE, this.upperBounds.length)] + "-" + this.upperBounds[getPosition(UPPER_PERMILLE, this.upperBounds.length)];
+	}
+
+	/**
+	 * This method returns the interval of the smallest size
+	 * as "lower-upper" or "-", if no replicate found an
+	 * optimal box.
+	 * 
+	 * @return String interval
+	 */
+	public String getSmallestSizeInterval() {
+		if(this.smallestSizes.length == 0) {
+			return "-";
+		}
+		return this.smallestSizes[getPosition(LOWER_PERMILLE, this.smallestSizes.length)] + "-" + this.smallestSizes[getPosition(UPPER_PERMILLE, this.smallestSizes.length)];
+	}
+
+	public Secret getSecretA() {
+		return secretA;
+	}
+
+	public Secret getSecretB() {
+		return secretB;
+	}
+
+	public int getReplicates() {
+		return replicates;
+	}
+
+	/**
+	 * This method returns the position of the permille
+	 * in a sorted array.
+	 * 
+	 * @param permille
+	 * @param size
+	 * @return int position
+	 */
+	private static int getPosition(int permille, int size) {
+		return Math.min((int) ((long) permille * size / 1000), size - 1);
+	}
+}
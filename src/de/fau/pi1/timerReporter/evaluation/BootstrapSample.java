@@ -0,0 +1,100 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.util.Arrays;
+
+import de.fau.pi1.timerReporter.dataset.MeasuredTimes;
+import de.fau.pi1.timerReporter.dataset.OrderedTimes;
+
+/**
+ * An object of this class represents a bootstrap replicate of the times
+ * of a secret. The replicate draws as many ranks of the sorted times as
+ * the secret has with replacement, the order of the draws is the
+ * measurement order of the replicate. The sorted times of the replicate
+ * and of its last times are counted from the drawn ranks, so they are
+ * never sorted. The arrays are reused by the next replicate.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class BootstrapSample implements MeasuredTimes {
+	private long[] source;
+	private int[] draws;
+	private int[] counts;
+	private long[] times;
+
+	/**
+	 * @param source sorted times of the secret, the array is not copied
+	 */
+	public BootstrapSample(long[] source) {
+		this.source = source;
+		this.draws = new int[source.length];
+		this.counts = new int[source.length];
+		this.times = new long[source.length];
+	}
+
+	/**
+	 * This method draws the next replicate.
+	 *
+	 * @param random
+	 */
+	public void resample(ReplicateRandom random) {
+		for (int i = 0; i < this.draws.length; ++i) {
+			this.draws[i] = random.nextInt(this.source.length);
+		}
+		this.count(0, this.times);
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedTimes#size()
+	 */
+	public int size() {
+		return this.times.length;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.OrderedTimes#getTime(int)
+	 */
+	public long getTime(int rank) {
+		return this.times[rank];
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.dataset.MeasuredTimes#getBisectedTimes(int)
+	 */
+	public OrderedTimes getBisectedTimes(int start) {
+		final long[] times = new long[this.draws.length - start];
+		this.count(start, times);
+		return new OrderedTimes() {
+			public int size() {
+				return times.length;
+			}
+
+			public long getTime(int rank) {
+				return times[rank];
+			}
+		};
+	}
+
+	/**
+	 * This method counts the draws from the position start and
+	 * writes their sorted times.
+	 *
+	 * @param start
+	 * @param times sorted times of the draws
+	 */
+	private void count(int start, long[] times) {
+		Arrays.fill(this.counts, 0);
+		for (int i = start; i < this.draws.length; ++i) {
+			++this.counts[this.draws[i]];
+		}
+
+		int pos = 0;
+		for (int rank = 0; rank < this.counts.length; ++rank) {
+			for (int count = this.counts[rank]; count > 0; --count) {
+				times[pos++] = this.source[rank];
+			}
+		}
+	}
+}
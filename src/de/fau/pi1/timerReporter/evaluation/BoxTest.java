@@ -1,12 +1,13 @@
 package de.fau.pi1.timerReporter.evaluation;
 
-import java.util.ArrayList;
-
-import de.fau.pi1.timerReporter.dataset.Time;
+import de.fau.pi1.timerReporter.dataset.OrderedTimes;
 
 /**
  * An object of this class represents the box test. It holds methods
- * to evaluate the measurements. 
+ * to evaluate the measurements. The bounds of the boxes are multiples
+ * of one step of the resolution, for example whole percentiles with a
+ * resolution of 100. The exact resolution has one step per time of the
+ * bigger time list, so the bounds are the exact sample ranks.
  * 
  * @FauTimerReporter
  * @author Isabell Schmitt
@@ -15,42 +16,28 @@ import de.fau.pi1.timerReporter.dataset.Time;
  *
  */
 public class BoxTest {
+	public static final int EXACT = 0;
 
 	/**
 	 * The method gives a boolean value, if it found one 
 	 * significant smaller box. Also it tests if the time 
-	 * array itself overlaps. Therefore, it iterates about
-	 * all possible boxes.
+	 * array itself overlaps. Therefore, it searches the
+	 * valid upper bounds of every lower bound.
 	 * 
 	 * @param timesA
 	 * @param timesB
+	 * @param resolution
 	 * @return boolean, if one box test (if significant smaller) is successful
 	 */
-	public static boolean boxTest(ArrayList<Time> timesA, ArrayList<Time> timesB) {
-
-		for (int i = 0; i < 100; ++i) { // percentile lower bound
-			for (int j = (i + 1); j <= 100; ++j) { // percentile upper bound
-
-				int lowerPosA = getPercentile(i, timesA.size());
-				int upperPosA = getPercentile(j, timesA.size());
-				if(lowerPosA == upperPosA) {
-					continue;
-				}	
-
-				int lowerPosB = getPercentile(i, timesB.size());
-				int upperPosB =  getPercentile(j, timesB.size());
-				if(lowerPosB == upperPosB) {
-					continue;
-				}
-
-				Long upperTimeA = timesA.get(upperPosA).getTime();
-				Long lowerTimeB = timesB.get(lowerPosB).getTime();
+	public static boolean boxTest(OrderedTimes timesA, OrderedTimes timesB, int resolution) {
+		resolution = getResolution(resolution, timesA, timesB);
+		int[][] upperBounds = getUpperBounds(timesA, timesB, resolution);
 
-				if(isSignificantlySmaller(upperTimeA, lowerTimeB)) {
-					return true;
-				}
+		for (int i = 0; i < resolution; ++i) { // percentile lower bound
+			if(upperBounds[0][i] <= upperBounds[1][i]) {
+				return true;
 			}
-		} 
+		}
 		return false;
 	}
 
@@ -60,24 +47,26 @@ public class BoxTest {
 	 * @param timesA
 	 * @param timesB
 	 * @param optimalBox
-	 * @return 
+	 * @param resolution
+	 * @return
 	 */
-	public static boolean boxTestSmaller(ArrayList<Time> timesA, ArrayList<Time> timesB, double[] optimalBox) {
+	public static boolean boxTestSmaller(OrderedTimes timesA, OrderedTimes timesB, double[] optimalBox, int resolution) {
+		resolution = getResolution(resolution, timesA, timesB);
 
-		int lowerPosA = getPercentile((int) (optimalBox[0] * 100), timesA.size());
-		int upperPosA = getPercentile((int) (optimalBox[1] * 100), timesA.size());
+		int lowerPosA = getPercentile((int) (optimalBox[0] * resolution), timesA.size(), resolution);
+		int upperPosA = getPercentile((int) (optimalBox[1] * resolution), timesA.size(), resolution);
 		if(lowerPosA == upperPosA) {
 			return false;
 		}
 
-		int lowerPosB = getPercentile((int) (optimalBox[0] * 100), timesB.size());
-		int upperPosB =  getPercentile((int) (optimalBox[1] * 100), timesB.size());
+		int lowerPosB = getPercentile((int) (optimalBox[0] * resolution), timesB.size(), resolution);
+		int upperPosB =  getPercentile((int) (optimalBox[1] * resolution), timesB.size(), resolution);
 		if(lowerPosB == upperPosB) {
 			return false;
 		}
 
-		Long upperTimeA = timesA.get(upperPosA).getTime();
-		Long lowerTimeB = timesB.get(lowerPosB).getTime();
+		long upperTimeA = timesA.getTime(upperPosA);
+		long lowerTimeB = timesB.getTime(lowerPosB);
 
 		if(isSignificantlySmaller(upperTimeA, lowerTimeB)) {
 			return true;
@@ -91,26 +80,28 @@ public class BoxTest {
 	 * @param timesA
 	 * @param timesB
 	 * @param optimalBox
+	 * @param resolution
 	 * @return
 	 */
-	public static boolean boxTestOverlap(ArrayList<Time> timesA, ArrayList<Time> timesB, double[] optimalBox) {
+	public static boolean boxTestOverlap(OrderedTimes timesA, OrderedTimes timesB, double[] optimalBox, int resolution) {
+		resolution = getResolution(resolution, timesA, timesB);
 
-		int lowerPosA = getPercentile((int) (optimalBox[0] * 100), timesA.size());
-		int upperPosA = getPercentile((int) (optimalBox[1] * 100), timesA.size());
+		int lowerPosA = getPercentile((int) (optimalBox[0] * resolution), timesA.size(), resolution);
+		int upperPosA = getPercentile((int) (optimalBox[1] * resolution), timesA.size(), resolution);
 		if(lowerPosA == upperPosA) {
 			return false;
 		}
 
-		int lowerPosB = getPercentile((int) (optimalBox[0] * 100), timesB.size());
-		int upperPosB =  getPercentile((int) (optimalBox[1] * 100), timesB.size());
+		int lowerPosB = getPercentile((int) (optimalBox[0] * resolution), timesB.size(), resolution);
+		int upperPosB =  getPercentile((int) (optimalBox[1] * resolution), timesB.size(), resolution);
 		if(lowerPosB == upperPosB) {
 			return false;
 		}
 
-		Long lowerTimeA = timesA.get(lowerPosA).getTime();
-		Long upperTimeA = timesA.get(upperPosA).getTime();
-		Long lowerTimeB = timesB.get(lowerPosB).getTime();
-		Long upperTimeB = timesB.get(upperPosB).getTime();
+		long lowerTimeA = timesA.getTime(lowerPosA);
+		long upperTimeA = timesA.getTime(upperPosA);
+		long lowerTimeB = timesB.getTime(lowerPosB);
+		long upperTimeB = timesB.getTime(upperPosB);
 
 		if(!isSignificantlyDifferent(lowerTimeA, upperTimeA, lowerTimeB, upperTimeB)) {
 			return true;
@@ -121,47 +112,61 @@ public class BoxTest {
 
 	/**
 	 * This method searches the optimal box of the two time lists. The optimal
-	 * box holds most of all times and has a valid box test.
+	 * box holds most of all times and has a valid box test. Every valid box
+	 * increments the boxes of the time line between its bounds. The counts
+	 * of all valid boxes of one lower bound form a constant and a falling
+	 * ramp, so they are added to difference arrays of the slope and the 
+	 * offset and summed up once.
 	 * 
 	 * @param timesA
 	 * @param timesB
+	 * @param timeline
+	 * @param resolution
 	 * @return ArrayList<Integer> lower and upper bound of the optimal box
 	 */
-	public static double[] optimalBox(ArrayList<Time> timesA, ArrayList<Time> timesB, Timeline timeline) {
+	public static double[] optimalBox(OrderedTimes timesA, OrderedTimes timesB, Timeline timeline, int resolution) {
+		resolution = getResolution(resolution, timesA, timesB);
 		double[] optimalBox = new double[2];
 		int lowerBound = 0;
 		int upperBound = 0;
+		int[][] upperBounds = getUpperBounds(timesA, timesB, resolution);
+		long[] slopes = new long[resolution + 2];
+		long[] offsets = new long[resolution + 2];
 
-		for (int i = 0; i < 100; ++i) { // percentile lower bound
-			for (int j = (i + 1); j <= 100; ++j) { // percentile upper bound
-
-				int lowerPosA = getPercentile(i, timesA.size());
-				int upperPosA = getPercentile(j, timesA.size());
-				if(lowerPosA == upperPosA) {
-					continue;
-				}
-
-				int lowerPosB = getPercentile(i, timesB.size());
-				int upperPosB =  getPercentile(j, timesB.size());
-				if(lowerPosB == upperPosB) {
-					continue;
-				}
-
-				Long upperTimeA = timesA.get(upperPosA).getTime();
-				Long lowerTimeB = timesB.get(lowerPosB).getTime();
-
-				if(isSignificantlySmaller(upperTimeA, lowerTimeB)) {
-					incrementTimeline(i, j, timeline);
-					if ((upperBound - lowerBound) < (j - i)) {
-						lowerBound = i;
-						upperBound = j;
-					}
-				} 
+		for (int i = 0; i < resolution; ++i) { // percentile lower bound
+			int first = upperBounds[0][i];
+			int last = upperBounds[1][i];
+			if(first > last) {
+				continue;
+			}
+
+			// the boxes i to first - 1 are in every valid box
+			offsets[i] += last - first + 1;
+			offsets[first] -= last - first + 1;
+
+			// the box k of first to last is in last - k + 1 valid boxes
+			slopes[first] -= 1;
+			slopes[last + 1] += 1;
+			offsets[first] += last + 1;
+			offsets[last + 1] -= last + 1;
+
+			// the widest valid box of a lower bound ends at the last upper bound
+			if ((upperBound - lowerBound) < (last - i)) {
+				lowerBound = i;
+				upperBound = last;
 			}
 		}
 
-		optimalBox[0] = lowerBound / 100.0;
-		optimalBox[1] = upperBound / 100.0;
+		long slope = 0;
+		long offset = 0;
+		for (int k = 0; k <= resolution; ++k) {
+			slope += slopes[k];
+			offset += offsets[k];
+			timeline.setBox(k, slope * k + offset);
+		}
+
+		optimalBox[0] = lowerBound / (double) resolution;
+		optimalBox[1] = upperBound / (double) resolution;
 		return optimalBox;
 	}
 
@@ -176,8 +181,8 @@ public class BoxTest {
 	 * @param upperTimeB
 	 * @return boolean, if the boxes significant different
 	 */
-	private static boolean isSignificantlyDifferent(Long lowerTimeA, Long upperTimeA, Long lowerTimeB, Long upperTimeB) {
-		return ( (upperTimeA.compareTo(lowerTimeB) < 0) || (upperTimeB.compareTo(lowerTimeA) < 0) );
+	private static boolean isSignificantlyDifferent(long lowerTimeA, long upperTimeA, long lowerTimeB, long upperTimeB) {
+		return ( (upperTimeA < lowerTimeB) || (upperTimeB < lowerTimeA) );
 	}
 
 	/**
@@ -191,37 +196,93 @@ public class BoxTest {
 	 * @param upperTimeB
 	 * @return boolean, if the boxes significant smaller
 	 */
-	private static boolean isSignificantlySmaller(Long upperTimeA, Long lowerTimeB) {
-		return (upperTimeA.compareTo(lowerTimeB) < 0);
+	private static boolean isSignificantlySmaller(long upperTimeA, long lowerTimeB) {
+		return (upperTimeA < lowerTimeB);
 	}
 
 	/**
-	 * This method increments the time line counter. Every significantly smaller
-	 * box of the measurement increases the related boxes in the time line. 
+	 * This method returns the interval of the valid upper bounds of
+	 * every lower bound. The upper bounds first[i] to last[i] of the
+	 * lower bound i select other positions than i in both time lists
+	 * and the upper time of A is smaller than the lower time of B. The
+	 * positions and the percentile times grow with the bounds, so both
+	 * ends of the intervals only move up and are found in one sweep.
 	 * 
-	 * @param lowerBound
-	 * @param upperBound
-	 * @param timeline
+	 * @param timesA
+	 * @param timesB
+	 * @param resolution
+	 * @return int[][] first and last valid upper bound of every lower bound
 	 */
-	private static void incrementTimeline(int lowerBound, int upperBound, Timeline timeline) {
-		for (int i = lowerBound; i <= upperBound; ++i) {
-			timeline.incrementBox(i);
+	private static int[][] getUpperBounds(OrderedTimes timesA, OrderedTimes timesB, int resolution) {
+		long[] percentilesA = getPercentileTimes(timesA, resolution);
+		long[] percentilesB = getPercentileTimes(timesB, resolution);
+		int[][] upperBounds = new int[2][resolution];
+		int first = 1;
+		int last = 0;
+
+		for (int i = 0; i < resolution; ++i) { // percentile lower bound
+			first = Math.max(first, i + 1);
+			while(first <= resolution && (getPercentile(first, timesA.size(), resolution) == getPercentile(i, timesA.size(), resolution)
+					|| getPercentile(first, timesB.size(), resolution) == getPercentile(i, timesB.size(), resolution))) {
+				++first;
+			}
+			while(last < resolution && isSignificantlySmaller(percentilesA[last + 1], percentilesB[i])) {
+				++last;
+			}
+			upperBounds[0][i] = first;
+			upperBounds[1][i] = last;
+		}
+		return upperBounds;
+	}
+
+	/**
+	 * This method returns the times of all steps of the resolution. 
+	 * Every time is selected once, so the box searches only read 
+	 * the table. 
+	 * 
+	 * @param times
+	 * @param resolution
+	 * @return long[] time of every step
+	 */
+	private static long[] getPercentileTimes(OrderedTimes times, int resolution) {
+		long[] percentiles = new long[resolution + 1];
+		for (int p = 0; p <= resolution; ++p) {
+			percentiles[p] = times.getTime(getPercentile(p, times.size(), resolution));
 		}
+		return percentiles;
 	}
 
 	/**
-	 * This method returns the position of the percentile in 
-	 * the time list. 
+	 * This method returns the position of the step p of the
+	 * resolution in the time list. With a resolution of 100
+	 * the steps are the percentiles.
 	 * 
 	 * @param p
 	 * @param size
+	 * @param resolution
 	 * @return int position in the time list
 	 */
-	private static int getPercentile(int p, int size) {
-		if(p != 100) {
-			return (p * size) / 100;
+	private static int getPercentile(int p, int size, int resolution) {
+		if(p != resolution) {
+			return (int) (((long) p * size) / resolution);
 		} else {
 			return size - 1;
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * This method returns the number of steps of the resolution. The
+	 * exact resolution has one step per time of the bigger time list.
+	 * 
+	 * @param resolution resolution or EXACT
+	 * @param timesA
+	 * @param timesB
+	 * @return int number of steps
+	 */
+	public static int getResolution(int resolution, OrderedTimes timesA, OrderedTimes timesB) {
+		if(resolution == EXACT) {
+			return Math.max(timesA.size(), timesB.size());
+		}
+		return resolution;
+	}
+}
@@ -1,6 +1,8 @@
 package de.fau.pi1.timerReporter.evaluation;
 
 import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -8,7 +10,6 @@ import java.util.ArrayList;
 import java.util.logging.Logger;
 
 import de.fau.pi1.timerReporter.dataset.Secret;
-import de.fau.pi1.timerReporter.tools.Folder;
 
 /**
  * @FauTimerReporter
@@ -25,15 +26,25 @@ public class BoxTestResults {
 	private double[] optimalBox = new double[2];
 	private ArrayList<Integer> smallestSize = new ArrayList<Integer>();
 	private ArrayList<Double> confidenceInterval = new ArrayList<Double>();
-	private ArrayList<ArrayList<String>> subsetOverlapA = new ArrayList<ArrayList<String>>();
-	private ArrayList<ArrayList<String>> subsetOverlapB = new ArrayList<ArrayList<String>>();
-	private ArrayList<ArrayList<String>> significantDifferent = new ArrayList<ArrayList<String>>();
+	private ArrayList<ValidationVector> subsetOverlapA = new ArrayList<ValidationVector>();
+	private ArrayList<ValidationVector> subsetOverlapB = new ArrayList<ValidationVector>();
+	private ArrayList<ValidationVector> significantDifferent = new ArrayList<ValidationVector>();
+	private ArrayList<TestResult> testResults;
+	private String partialStep = null;
 
-	public BoxTestResults(String inputFile, Secret secretA, Secret secretB, double[] optimalBox) {
+	/**
+	 * @param inputFile
+	 * @param secretA
+	 * @param secretB
+	 * @param optimalBox
+	 * @param testResults results of the two-sample tests, which are appended to every row
+	 */
+	public BoxTestResults(String inputFile, Secret secretA, Secret secretB, double[] optimalBox, ArrayList<TestResult> testResults) {
 		this.inputFile = inputFile;
 		this.secretA = secretA;
 		this.secretB = secretB;
 		this.optimalBox = optimalBox;
+		this.testResults = testResults;
 	}
 
 	/**
@@ -44,7 +55,7 @@ public class BoxTestResults {
 	 * @param subsetOverlapB
 	 * @param significantDifferent
 	 */
-	public void saveValidation(int smallestSize, double confidenceInterval, ArrayList<String> subsetOverlapA, ArrayList<String> subsetOverlapB, ArrayList<String> significantDifferent) {
+	public void saveValidation(int smallestSize, double confidenceInterval, ValidationVector subsetOverlapA, ValidationVector subsetOverlapB, ValidationVector significantDifferent) {
 		this.smallestSize.add(smallestSize);
 		this.confidenceInterval.add(confidenceInterval);
 		this.subsetOverlapA.add(subsetOverlapA);
@@ -52,16 +63,125 @@ public class BoxTestResults {
 		this.significantDifferent.add(significantDifferent);
 	}
 
+	/**
+	 * This method saves a smallest size without validation.
+	 * Its validation columns stay empty.
+	 * 
+	 * @param smallestSize
+	 */
+	public void saveSmallestSize(int smallestSize) {
+		this.smallestSize.add(smallestSize);
+		this.confidenceInterval.add(null);
+		this.subsetOverlapA.add(null);
+		this.subsetOverlapB.add(null);
+		this.significantDifferent.add(null);
+	}
+
+	/**
+	 * This method marks the results as partial. The evaluation
+	 * of the pair was cancelled before the step.
+	 * 
+	 * @param partialStep name of the cancelled step
+	 */
+	public void setPartial(String partialStep) {
+		this.partialStep = partialStep;
+	}
+
+	/**
+	 * This method returns true, if the evaluation of the pair
+	 * was cancelled.
+	 * 
+	 * @return boolean
+	 */
+	public boolean isPartial() {
+		return this.partialStep != null;
+	}
+
+	public String getPartialStep() {
+		return partialStep;
+	}
+
+	/**
+	 * This method writes the optimal box and the saved sizes
+	 * without the pair and the two-sample tests.
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	void write(DataOutputStream out) throws IOException {
+		out.writeDouble(this.optimalBox[0]);
+		out.writeDouble(this.optimalBox[1]);
+		out.writeInt(this.smallestSize.size());
+		for (int i = 0; i < this.smallestSize.size(); ++i) {
+			out.writeInt(this.smallestSize.get(i));
+			out.writeBoolean(this.confidenceInterval.get(i) != null);
+			if(this.confidenceInterval.get(i) != null) {
+				out.writeDouble(this.confidenceInterval.get(i));
+				this.subsetOverlapA.get(i).write(out);
+				this.subsetOverlapB.get(i).write(out);
+				this.significantDifferent.get(i).write(out);
+			}
+		}
+	}
+
+	/**
+	 * This method reads the box test results of the pair.
+	 *
+	 * @param in
+	 * @param inputFile
+	 * @param secretA
+	 * @param secretB
+	 * @param testResults results of the two-sample tests of the pair
+	 * @return BoxTestResults
+	 * @throws IOException
+	 */
+	static BoxTestResults read(DataInputStream in, String inputFile, Secret secretA, Secret secretB, ArrayList<TestResult> testResults) throws IOException {
+		BoxTestResults results = new BoxTestResults(inputFile, secretA, secretB, new double[] {in.readDouble(), in.readDouble()}, testResults);
+		int rows = in.readInt();
+		for (int i = 0; i < rows; ++i) {
+			int smallestSize = in.readInt();
+			if(in.readBoolean()) {
+				double confidenceInterval = in.readDouble();
+				ValidationVector subsetOverlapA = ValidationVector.read(in);
+				ValidationVector subsetOverlapB = ValidationVector.read(in);
+				results.saveValidation(smallestSize, confidenceInterval, subsetOverlapA, subsetOverlapB, ValidationVector.read(in));
+			} else {
+				results.saveSmallestSize(smallestSize);
+			}
+		}
+		return results;
+	}
+
 	/**
 	 * This method prints the box test results into the
-	 * output file.
+	 * output file. Partial results without a smallest size
+	 * are printed in one row with empty size columns and
+	 * cancelled two-sample tests with empty test columns.
 	 * 
 	 * @param outputFile
+	 * @param tests number of the two-sample tests
+	 * @param partialColumn true to append the cancelled step
 	 */
-	public void printBoxTestResult(File outputFile) {
+	public void printBoxTestResult(File outputFile, int tests, boolean partialColumn) {
 		String output = "";
-		for(int i = 0; i < smallestSize.size(); ++i){
-			output = this.inputFile + ";" + this.secretA.getFileName() + "<" + this.secretB.getFileName() + ";" + optimalBox[0] +"-" + optimalBox[1] + ";" + this.smallestSize.get(i) + ";" + this.confidenceInterval.get(i) + ";" + Folder.convertArrayListToString(subsetOverlapA.get(i)) + ";" + this.countValid(subsetOverlapA.get(i), "o") + ";" + this.countValid(subsetOverlapA.get(i), "x") + ";" + Folder.convertArrayListToString(subsetOverlapB.get(i)) + ";" + this.countValid(subsetOverlapB.get(i), "o") + ";" + this.countValid(subsetOverlapB.get(i), "x") + ";" + Folder.convertArrayListToString(significantDifferent.get(i)) + ";" + this.countValid(significantDifferent.get(i), "o") + ";"  + this.countValid(significantDifferent.get(i), "x") + ";"  ;
+		int rows = (this.smallestSize.isEmpty() && this.isPartial()) ? 1 : this.smallestSize.size();
+		for(int i = 0; i < rows; ++i){
+			if(this.smallestSize.isEmpty()) {
+				output = this.inputFile + ";" + this.secretA.getFileName() + "<" + this.secretB.getFileName() + ";" + optimalBox[0] +"-" + optimalBox[1] + ";;;;;;;;;;;;";
+			} else if(this.confidenceInterval.get(i) == null) {
+				output = this.inputFile + ";" + this.secretA.getFileName() + "<" + this.secretB.getFileName() + ";" + optimalBox[0] +"-" + optimalBox[1] + ";" + this.smallestSize.get(i) + ";;;;;;;;;;;";
+			} else {
+				output = this.inputFile + ";" + this.secretA.getFileName() + "<" + this.secretB.getFileName() + ";" + optimalBox[0] +"-" + optimalBox[1] + ";" + this.smallestSize.get(i) + ";" + this.confidenceInterval.get(i) + ";" + subsetOverlapA.get(i) + ";" + subsetOverlapA.get(i).countValid() + ";" + subsetOverlapA.get(i).countInvalid() + ";" + subsetOverlapB.get(i) + ";" + subsetOverlapB.get(i).countValid() + ";" + subsetOverlapB.get(i).countInvalid() + ";" + significantDifferent.get(i) + ";" + significantDifferent.get(i).countValid() + ";"  + significantDifferent.get(i).countInvalid() + ";"  ;
+			}
+			for (TestResult testResult : this.testResults) {
+				output += testResult.getStatistic() + ";" + testResult.getPValue() + ";";
+			}
+			for (int j = this.testResults.size(); j < tests; ++j) {
+				output += ";;";
+			}
+			if(partialColumn) {
+				output += (this.isPartial() ? this.partialStep : "") + ";";
+			}
 
 			try {
 				BufferedWriter bw = new BufferedWriter(new FileWriter(outputFile, true));
@@ -77,24 +197,6 @@ public class BoxTestResults {
 		}
 	}
 
-	/**
-	 * This method counts how often the string exists
-	 * in the array list.
-	 * 
-	 * @param validationResults
-	 * @param valid
-	 * @return
-	 */
-	public int countValid(ArrayList<String> validationResults, String valid) {
-		int counter = 0;
-		for (String validate : validationResults) {
-			if(validate.equals(valid)) {
-				++counter;
-			}
-		}
-		return counter;
-	}
-
 	public String getInputFile() {
 		return inputFile;
 	}
@@ -119,17 +221,21 @@ public class BoxTestResults {
 		return confidenceInterval;
 	}
 
-	public ArrayList<ArrayList<String>> getSubsetOverlapA() {
+	public ArrayList<ValidationVector> getSubsetOverlapA() {
 		return subsetOverlapA;
 	}
 
-	public ArrayList<ArrayList<String>> getSubsetOverlapB() {
+	public ArrayList<ValidationVector> getSubsetOverlapB() {
 		return subsetOverlapB;
 	}
 
-	public ArrayList<ArrayList<String>> getSignificantDifferent() {
+	public ArrayList<ValidationVector> getSignificantDifferent() {
 		return significantDifferent;
 	}
+
+	public ArrayList<TestResult> getTestResults() {
+		return testResults;
+	}
 }
 
 
@@ -0,0 +1,103 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.util.logging.Logger;
+
+/**
+ * An object of this class bounds the evaluation phase by a time budget
+ * and a memory budget. The pair jobs ask the budget between their steps,
+ * so they are cancelled cooperatively and keep their results so far. The
+ * time budget starts, when the budget is created. The memory budget is
+ * compared with the used heap after a garbage collection. The garbage is
+ * collected at most once per second, so the jobs don't wait for a
+ * collection at every step near the limit. Once exhausted, the budget
+ * stays exhausted.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class Budget {
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+	private static final long COLLECTION_INTERVAL = 1000000000L;
+
+	private long deadline;
+	private long memory;
+	private volatile boolean exhausted = false;
+	private long nextCollection = System.nanoTime();
+
+	/**
+	 * @param seconds time budget in seconds or 0 for no time budget
+	 * @param megabytes memory budget in megabytes or 0 for no memory budget
+	 */
+	public Budget(int seconds, int megabytes) {
+		this.deadline = (seconds > 0) ? System.nanoTime() + seconds * 1000000000L : Long.MAX_VALUE;
+		this.memory = (megabytes > 0) ? megabytes * (1L << 20) : Long.MAX_VALUE;
+	}
+
+	/**
+	 * This method returns true, if a time budget or a memory
+	 * budget is set.
+	 *
+	 * @return boolean
+	 */
+	public boolean isBounded() {
+		return this.deadline != Long.MAX_VALUE || this.memory != Long.MAX_VALUE;
+	}
+
+	/**
+	 * This method returns true, if the deadline has passed or the
+	 * used heap exceeds the memory budget.
+	 *
+	 * @return boolean
+	 */
+	public boolean isExhausted() {
+		if(this.exhausted) {
+			return true;
+		}
+
+		if(this.deadline != Long.MAX_VALUE && System.nanoTime() - this.deadline > 0) {
+			this.exhaust("the time budget is exhausted");
+		} else if(this.memory != Long.MAX_VALUE && this.getUsedMemory() > this.memory && this.isOverMemory()) {
+			this.exhaust("the memory budget is exhausted");
+		}
+		return this.exhausted;
+	}
+
+	/**
+	 * This method returns true, if the used heap still exceeds the
+	 * memory budget after a garbage collection. If the garbage was
+	 * collected less than a second ago, the heap is not checked again.
+	 *
+	 * @return boolean
+	 */
+	private synchronized boolean isOverMemory() {
+		long now = System.nanoTime();
+		if(now - this.nextCollection < 0) {
+			return false;
+		}
+
+		// the garbage of finished steps doesn't count
+		System.gc();
+		this.nextCollection = System.nanoTime() + COLLECTION_INTERVAL;
+		return this.getUsedMemory() > this.memory;
+	}
+
+	/**
+	 * This method marks the budget as exhausted and logs the
+	 * reason once.
+	 *
+	 * @param reason
+	 */
+	private synchronized void exhaust(String reason) {
+		if(!this.exhausted) {
+			this.exhausted = true;
+			logger.warning(reason + ", the remaining steps of the pairs are cancelled and their results so far are marked as partial.");
+		}
+	}
+
+	private long getUsedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
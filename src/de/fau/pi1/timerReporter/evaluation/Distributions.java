@@ -0,0 +1,76 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+/**
+ * This class holds the distribution functions of the p-values of the
+ * two-sample tests.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class Distributions {
+
+	/**
+	 * This method returns the complementary error function with
+	 * a relative error below 1.2e-7 by the Chebyshev fit of
+	 * Numerical Recipes.
+	 *
+	 * @param x
+	 * @return double erfc(x)
+	 */
+	public static double erfc(double x) {
+		double z = Math.abs(x);
+		double t = 1 / (1 + 0.5 * z);
+		double result = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+				+ t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+				+ t * (-0.82215223 + t * 0.17087277)))))))));
+		return (x >= 0) ? result : 2 - result;
+	}
+
+	/**
+	 * This method returns the x with erfc(x) = p for p between 0
+	 * and 1 by bisection of the complementary error function.
+	 *
+	 * @param p
+	 * @return double x
+	 */
+	public static double inverseErfc(double p) {
+		double low = 0;
+		double high = 10;
+		for (int i = 0; i < 64; ++i) {
+			double middle = (low + high) / 2;
+			if(erfc(middle) > p) {
+				low = middle;
+			} else {
+				high = middle;
+			}
+		}
+		return (low + high) / 2;
+	}
+
+	/**
+	 * This method returns the probability that the scaled
+	 * Kolmogorov statistic exceeds lambda.
+	 *
+	 * @param lambda
+	 * @return double probability
+	 */
+	public static double kolmogorov(double lambda) {
+		if(lambda < 0.2) {
+			return 1;
+		}
+
+		double sum = 0;
+		double sign = 1;
+		for (int j = 1; j <= 100; ++j) {
+			double term = sign * Math.exp(-2 * j * j * lambda * lambda);
+			sum += term;
+			if(Math.abs(term) < 1e-10 * sum) {
+				break;
+			}
+			sign = -sign;
+		}
+		return Math.max(0, Math.min(1, 2 * sum));
+	}
+}
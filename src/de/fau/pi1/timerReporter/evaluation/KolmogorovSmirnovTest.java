@@ -0,0 +1,42 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import de.fau.pi1.timerReporter.dataset.OrderedTimes;
+
+/**
+ * An object of this class represents the two-sample Kolmogorov-Smirnov
+ * test. The statistic D is the biggest distance between the empirical
+ * distribution functions of A and B. The p-value is taken from the
+ * asymptotic Kolmogorov distribution of the effective sample size.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class KolmogorovSmirnovTest implements TwoSampleTest {
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.evaluation.TwoSampleTest#getName()
+	 */
+	public String getName() {
+		return "Kolmogorov-Smirnov D";
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.evaluation.TwoSampleTest#test(de.fau.pi1.timerReporter.dataset.OrderedTimes, de.fau.pi1.timerReporter.dataset.OrderedTimes)
+	 */
+	public double[] test(OrderedTimes timesA, OrderedTimes timesB) {
+		double n1 = timesA.size();
+		double n2 = timesB.size();
+		double d = 0;
+
+		MergeSweep sweep = new MergeSweep(timesA, timesB);
+		while(sweep.next()) {
+			double distance = Math.abs((sweep.getBelowA() + sweep.getCountA()) / n1 - (sweep.getBelowB() + sweep.getCountB()) / n2);
+			d = Math.max(d, distance);
+		}
+
+		double effective = Math.sqrt(n1 * n2 / (n1 + n2));
+		return new double[] {d, Distributions.kolmogorov((effective + 0.12 + 0.11 / effective) * d)};
+	}
+}
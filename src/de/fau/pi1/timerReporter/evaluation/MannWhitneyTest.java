@@ -0,0 +1,51 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import de.fau.pi1.timerReporter.dataset.OrderedTimes;
+
+/**
+ * An object of this class represents the Mann-Whitney U test. The
+ * statistic U counts the pairs of a time of A and a time of B in which
+ * the time of A is bigger, equal times count half. The p-value is taken
+ * from the normal approximation with the correction of ties and the
+ * continuity correction.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class MannWhitneyTest implements TwoSampleTest {
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.evaluation.TwoSampleTest#getName()
+	 */
+	public String getName() {
+		return "Mann-Whitney U";
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.evaluation.TwoSampleTest#test(de.fau.pi1.timerReporter.dataset.OrderedTimes, de.fau.pi1.timerReporter.dataset.OrderedTimes)
+	 */
+	public double[] test(OrderedTimes timesA, OrderedTimes timesB) {
+		double n1 = timesA.size();
+		double n2 = timesB.size();
+		double n = n1 + n2;
+		double u = 0;
+		double ties = 0;
+
+		MergeSweep sweep = new MergeSweep(timesA, timesB);
+		while(sweep.next()) {
+			u += sweep.getCountA() * (sweep.getBelowB() + sweep.getCountB() / 2.0);
+			double t = sweep.getCountA() + sweep.getCountB();
+			ties += t * t * t - t;
+		}
+
+		double mean = n1 * n2 / 2;
+		double variance = n1 * n2 / 12 * ((n + 1) - ties / (n * (n - 1)));
+		if(variance <= 0) {
+			return new double[] {u, 1};
+		}
+		double z = Math.max(0, Math.abs(u - mean) - 0.5) / Math.sqrt(variance);
+		return new double[] {u, Math.min(1, Distributions.erfc(z / Math.sqrt(2)))};
+	}
+}
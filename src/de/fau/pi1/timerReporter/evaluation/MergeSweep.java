@@ -0,0 +1,109 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import de.fau.pi1.timerReporter.dataset.OrderedTimes;
+
+/**
+ * An object of this class sweeps two sorted time lists in one merge. Every
+ * step of the sweep visits the next distinct time of both lists with the
+ * number of equal times of each list and the number of smaller times of
+ * each list, so rank statistics with ties are computed in linear time.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class MergeSweep {
+	private OrderedTimes timesA;
+	private OrderedTimes timesB;
+	private int posA = 0;
+	private int posB = 0;
+	private int countA = 0;
+	private int countB = 0;
+	private long time;
+
+	/**
+	 * @param timesA
+	 * @param timesB
+	 */
+	public MergeSweep(OrderedTimes timesA, OrderedTimes timesB) {
+		this.timesA = timesA;
+		this.timesB = timesB;
+	}
+
+	/**
+	 * This method steps to the next distinct time.
+	 *
+	 * @return boolean, if there is a next time
+	 */
+	public boolean next() {
+		this.posA += this.countA;
+		this.posB += this.countB;
+		this.countA = 0;
+		this.countB = 0;
+
+		boolean hasA = this.posA < this.timesA.size();
+		boolean hasB = this.posB < this.timesB.size();
+		if(!hasA && !hasB) {
+			return false;
+		}
+
+		if(!hasB || (hasA && this.timesA.getTime(this.posA) <= this.timesB.getTime(this.posB))) {
+			this.time = this.timesA.getTime(this.posA);
+		} else {
+			this.time = this.timesB.getTime(this.posB);
+		}
+
+		while(this.posA + this.countA < this.timesA.size() && this.timesA.getTime(this.posA + this.countA) == this.time) {
+			++this.countA;
+		}
+		while(this.posB + this.countB < this.timesB.size() && this.timesB.getTime(this.posB + this.countB) == this.time) {
+			++this.countB;
+		}
+		return true;
+	}
+
+	public long getTime() {
+		return time;
+	}
+
+	/**
+	 * This method returns the number of times of A
+	 * equal to the current time.
+	 *
+	 * @return int number of times
+	 */
+	public int getCountA() {
+		return countA;
+	}
+
+	/**
+	 * This method returns the number of times of B
+	 * equal to the current time.
+	 *
+	 * @return int number of times
+	 */
+	public int getCountB() {
+		return countB;
+	}
+
+	/**
+	 * This method returns the number of times of A
+	 * smaller than the current time.
+	 *
+	 * @return int number of times
+	 */
+	public int getBelowA() {
+		return posA;
+	}
+
+	/**
+	 * This method returns the number of times of B
+	 * smaller than the current time.
+	 *
+	 * @return int number of times
+	 */
+	public int getBelowB() {
+		return posB;
+	}
+}
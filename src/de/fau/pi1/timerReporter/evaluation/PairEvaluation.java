@@ -0,0 +1,723 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import de.fau.pi1.timerReporter.dataset.OrderedTimes;
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.plots.PlotPool;
+import de.fau.pi1.timerReporter.tools.FileId;
+
+/**
+ * An object of this class represents the job to evaluate one secret pair.
+ * The job holds the optimal box, the time line and the box test results of
+ * the pair, so the pairs can be evaluated in parallel. The log records, the
+ * plots and the names of the time lines depend on the order of the pairs,
+ * therefore they are recorded as events and merged in the order of the
+ * pairs afterwards.
+ *
+ * The selected two-sample tests compare the times of the pair before the
+ * box tests. If bootstrap replicates are requested, the searches of a found optimal
+ * box are repeated for every replicate in ranges on the validation pool.
+ * Secrets of quantile sketches keep no measurement order, so their pairs
+ * are not validated.
+ *
+ * The job asks the budget of the evaluation before every step, and the
+ * size searches, the bootstrap and the validation ask it while they run.
+ * If the budget is exhausted, the remaining steps are cancelled and the
+ * box test results so far are marked as partial.
+ *
+ * The events and the results of a complete pair can be written and read
+ * again, so a rerun of an incremental input file restores the pairs whose
+ * secrets got no new times instead of evaluating them.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class PairEvaluation implements Callable<Boolean> {
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+	private static final int MIN_RANGE_SIZE = 1024;
+
+	private String inputFile;
+	private Secret secretA;
+	private Secret secretB;
+	private double[] optimalBox;
+	private int smallestSize;
+	private int validSize = 0;
+	private int resolution;
+	private boolean exactSize;
+	private PlotPool plotPool;
+	private ExecutorService validationPool;
+	private int threads;
+	private int replicates;
+	private long seed;
+	private ArrayList<TwoSampleTest> tests;
+	private ArrayList<Timeline> timelines;
+	private Budget budget;
+	private String partialStep = null;
+	private ArrayList<TestResult> testResults = new ArrayList<TestResult>();
+	private BootstrapResults bootstrapResults = null;
+	private ArrayList<BoxTestResults> boxTestResults = new ArrayList<BoxTestResults>();
+	private ArrayList<Event> events = new ArrayList<Event>();
+
+	/**
+	 * @param inputFile
+	 * @param secretA
+	 * @param secretB
+	 * @param optimalBox optimal box of the user or null to search the optimal box
+	 * @param smallestSize smallest size of the user or 0 to search the smallest size
+	 * @param resolution resolution of the box bounds or BoxTest.EXACT
+	 * @param exactSize true to search the exact smallest sizes, false to bisect and double them
+	 * @param plotPool
+	 * @param validationPool thread pool of the subset validation and the bootstrap
+	 * @param threads number of threads of the validation pool
+	 * @param replicates number of bootstrap replicates or 0 for no bootstrap
+	 * @param seed seed of the bootstrap replicates
+	 * @param tests two-sample tests of the pair
+	 * @param timelines time lines of the evaluation, the time line of the pair is added when it is merged
+	 * @param budget budget of the evaluation
+	 */
+	protected PairEvaluation(String inputFile, Secret secretA, Secret secretB, double[] optimalBox, int smallestSize, int resolution, boolean exactSize, PlotPool plotPool, ExecutorService validationPool, int threads, int replicates, long seed, ArrayList<TwoSampleTest> tests, ArrayList<Timeline> timelines, Budget budget) {
+		this.inputFile = inputFile;
+		this.secretA = secretA;
+		this.secretB = secretB;
+		this.optimalBox = optimalBox;
+		this.smallestSize = smallestSize;
+		this.resolution = resolution;
+		this.exactSize = exactSize;
+		this.plotPool = plotPool;
+		this.validationPool = validationPool;
+		this.threads = threads;
+		this.replicates = replicates;
+		this.seed = seed;
+		this.tests = tests;
+		this.timelines = timelines;
+		this.budget = budget;
+	}
+
+	/**
+	 * This method evaluates the pair. If no optimal box is given,
+	 * it searches the optimal box first. If no smallest size is
+	 * given, it searches the smallest size. Afterwards, it starts
+	 * the validation phase. If the budget is exhausted, the results
+	 * so far are marked as partial.
+	 */
+	@Override
+	public Boolean call() {
+		this.evaluate();
+		if(this.partialStep != null) {
+			if(this.boxTestResults.isEmpty()) {
+				this.boxTestResults.add(new BoxTestResults(this.inputFile, this.secretA, this.secretB, (this.optimalBox != null) ? this.optimalBox : new double[2], this.testResults));
+			}
+			for (BoxTestResults results : this.boxTestResults) {
+				results.setPartial(this.partialStep);
+			}
+			this.log(Level.WARNING, this.secretA.getName() + " < " + this.secretB.getName() + ": the budget is exhausted, the " + this.partialStep + " was cancelled, the results are partial.");
+		}
+		return true;
+	}
+
+	/**
+	 * This method runs the steps of the pair evaluation.
+	 */
+	private void evaluate() {
+		if(!this.tests.isEmpty() && this.isCancelled("two-sample test")) {
+			return;
+		}
+
+		for (TwoSampleTest test : this.tests) {
+			double[] result = test.test(this.secretA, this.secretB);
+			this.testResults.add(new TestResult(this.secretA, this.secretB, test.getName(), result[0], result[1]));
+			this.log(Level.INFO, this.secretA.getName() + " < " + this.secretB.getName() + ": " + test.getName() + " " + result[0] + ", p-value " + result[1]);
+		}
+
+		if(this.isCancelled("optimal box search")) {
+			return;
+		}
+
+		if(this.optimalBox == null) {
+			if(this.searchOptimalBox()) {
+				int smallestSize = (this.smallestSize == 0) ? this.searchSmallestSize() : this.smallestSize;
+				if(this.isPartial()) {
+					return;
+				}
+				if(this.replicates > 0 && !this.isCancelled("bootstrap")) {
+					this.bootstrap(smallestSize);
+				}
+				this.openValidationPhase(smallestSize);
+			}
+		} else {
+			int smallestSize = (this.smallestSize == 0) ? this.searchSmallestSize() : this.smallestSize;
+			if(this.isPartial()) {
+				return;
+			}
+			if(smallestSize != 0) {
+				this.plot("Filtered Measurments: User Input Optimal Box (" + this.secretA.getName() + "-" + this.secretB.getName() + ")", this.optimalBox[0], this.optimalBox[1]);
+
+				this.openValidationPhase(smallestSize);
+			} else {
+				this.log(Level.WARNING, this.secretA.getName() + " < " + this.secretB.getName() + ": no significant different result found! You need to measure more times.");
+			}
+		}
+	}
+
+	/**
+	 * This method returns true, if the budget is exhausted. The
+	 * first cancelled step is recorded.
+	 *
+	 * @param step name of the next step
+	 * @return boolean
+	 */
+	private boolean isCancelled(String step) {
+		if(this.budget.isExhausted()) {
+			if(this.partialStep == null) {
+				this.partialStep = step;
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * This method merges the events of the pair in the order they
+	 * happened and returns the box test results. It must be called
+	 * in the order of the pairs.
+	 *
+	 * @return ArrayList<BoxTestResults> box test results of the pair
+	 */
+	protected ArrayList<BoxTestResults> merge() {
+		for (Event event : this.events) {
+			event.run();
+		}
+		return this.boxTestResults;
+	}
+
+	/**
+	 * This method returns the results of the two-sample tests.
+	 *
+	 * @return ArrayList<TestResult> test results
+	 */
+	protected ArrayList<TestResult> getTestResults() {
+		return this.testResults;
+	}
+
+	/**
+	 * This method returns the bootstrap of the pair or null,
+	 * if the pair wasn't bootstrapped.
+	 *
+	 * @return BootstrapResults
+	 */
+	protected BootstrapResults getBootstrapResults() {
+		return this.bootstrapResults;
+	}
+
+	/**
+	 * This method returns true, if a step of the pair was
+	 * cancelled by the budget.
+	 *
+	 * @return boolean
+	 */
+	protected boolean isPartial() {
+		return this.partialStep != null;
+	}
+
+	/**
+	 * This method returns the smallest size, which was validated
+	 * without wrong results, or 0, if no size was valid.
+	 *
+	 * @return int valid size
+	 */
+	protected int getValidSize() {
+		return this.validSize;
+	}
+
+	/**
+	 * This method searchs only the optimal box and returns
+	 * a boolean if an optimal box found. If no optimal box 
+	 * is found, there are no significant differences. The
+	 * user should try to measure more timings to find a 
+	 * significant differences.
+	 * 
+	 * @return boolean
+	 */
+	private boolean searchOptimalBox() {
+
+		OrderedTimes timesA = this.secretA;
+		OrderedTimes timesB = this.secretB;
+
+		// first step: search optimal box
+		Timeline timeline = new Timeline("", BoxTest.getResolution(this.resolution, timesA, timesB));
+		this.events.add(new TimelineEvent(timeline));
+		this.optimalBox = BoxTest.optimalBox(timesA, timesB, timeline, this.resolution);
+
+		if(this.optimalBox[0] != 0 || this.optimalBox[1] != 0) { 	
+			// if a optimal box found, there are significant different results!
+			this.log(Level.INFO, this.secretA.getName() + " < " + this.secretB.getName() + ": optimal box " + this.optimalBox[0] + "-" + this.optimalBox[1]);
+			this.plot("Filtered Measurments: Optimal Box (" + this.secretA.getName() + "-" + this.secretB.getName() + ")", this.optimalBox[0], this.optimalBox[1]);
+			return true;
+		} else {
+			// there is no significant different result found! The user needs
+			// to measure more times.
+			this.log(Level.WARNING, this.secretA.getName() + " < " + this.secretB.getName() + ": no significant different result found! You need to measure more times.");
+			return false;
+		}
+	}
+
+	/**
+	 * This method searchs the smallest size of the boxes per secret. 
+	 * The smallest size is the smallest range that contains
+	 * significant different times. If the budget is exhausted,
+	 * the search is cancelled.
+	 * 
+	 * @return int smallest size or 0, if the search was cancelled
+	 */
+	private int searchSmallestSize() {
+		if(this.isCancelled("smallest size search")) {
+			return 0;
+		}
+
+		int smallestSize;
+		if(this.exactSize) {
+			smallestSize = SampleSizeSearch.exactSmallestSize(this.secretA, this.secretB, this.resolution, this.budget);
+		} else {
+			smallestSize = SampleSizeSearch.bisectSmallestSize(this.secretA, this.secretB, this.resolution, this.budget);
+		}
+		if(this.isCancelled("smallest size search")) {
+			return 0;
+		}
+
+		// because both secrets contains the smallest size, it is only
+		// logged if the secrets were bisected
+		if(this.exactSize || smallestSize != Math.min(this.secretA.size(), this.secretB.size())) {
+			this.log(Level.INFO, this.secretA.getName() + " < " + this.secretB.getName() + ": amount of minimal measures per secret: " + smallestSize); 
+		}
+		return smallestSize;
+	}
+
+	/**
+	 * This method repeats the search of the optimal box and of the
+	 * smallest size for the bootstrap replicates of the pair. The
+	 * replicates are evaluated in ranges in parallel. If the budget
+	 * cancels the ranges, the replicates evaluated so far are kept
+	 * and the bootstrap is partial.
+	 * 
+	 * @param smallestSize smallest size of the measurement
+	 */
+	private void bootstrap(int smallestSize) {
+		long[] timesA = this.secretA.getTimes(0, this.secretA.size());
+		long[] timesB = this.secretB.getTimes(0, this.secretB.size());
+		double[] lowerBounds = new double[this.replicates];
+		double[] upperBounds = new double[this.replicates];
+		int[] smallestSizes = new int[this.replicates];
+
+		int numberRanges = Math.min(this.threads, this.replicates);
+		ArrayList<BootstrapJob> ranges = new ArrayList<BootstrapJob>();
+		for (int range = 0; range < numberRanges; ++range) {
+			int from = (int) ((long) this.replicates * range / numberRanges);
+			int to = (int) ((long) this.replicates * (range + 1) / numberRanges);
+			ranges.add(new BootstrapJob(timesA, timesB, this.seed, this.resolution, this.exactSize, from, to, lowerBounds, upperBounds, smallestSizes, this.budget));
+		}
+
+		ArrayList<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+		for (int range = 1; range < numberRanges; ++range) {
+			futures.add(this.validationPool.submit(ranges.get(range)));
+		}
+		ranges.get(0).call();
+		for (Future<Boolean> future : futures) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				throw new RuntimeException(e.getCause());
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		// the evaluated replicates of the ranges are moved together
+		int evaluated = 0;
+		boolean cancelled = false;
+		for (BootstrapJob range : ranges) {
+			int length = range.getEnd() - range.getFrom();
+			System.arraycopy(lowerBounds, range.getFrom(), lowerBounds, evaluated, length);
+			System.arraycopy(upperBounds, range.getFrom(), upperBounds, evaluated, length);
+			System.arraycopy(smallestSizes, range.getFrom(), smallestSizes, evaluated, length);
+			evaluated += length;
+			cancelled |= range.isCancelled();
+		}
+
+		this.bootstrapResults = new BootstrapResults(this.inputFile, this.secretA, this.secretB, this.optimalBox, smallestSize, Arrays.copyOf(lowerBounds, evaluated), Arrays.copyOf(upperBounds, evaluated), Arrays.copyOf(smallestSizes, evaluated));
+		if(cancelled && this.isCancelled("bootstrap")) {
+			this.bootstrapResults.setPartial();
+		}
+		this.log(Level.INFO, this.secretA.getName() + " < " + this.secretB.getName() + ": bootstrap found an optimal box in " + this.bootstrapResults.getCountOptimalBoxes() + " of " + evaluated + " replicates, lower bound " + this.bootstrapResults.getLowerBoundInterval() + ", upper bound " + this.bootstrapResults.getUpperBoundInterval() + ", smallest size " + this.bootstrapResults.getSmallestSizeInterval());
+	}
+
+	/**
+	 * This method opens the validation phase and double the smallest size, if it is needed
+	 * and starts the validation phase again.
+	 * 
+	 * @param smallestSize
+	 */
+	private void openValidationPhase(int smallestSize) {
+		if(!this.secretA.hasMeasurementOrder() || !this.secretB.hasMeasurementOrder()) {
+			// the subsets need the measurement order, which the sketches don't keep
+			this.boxTestResults.add(new BoxTestResults(this.inputFile, this.secretA, this.secretB, this.optimalBox, this.testResults));
+			this.boxTestResults.get(this.boxTestResults.size() - 1).saveSmallestSize(smallestSize);
+			this.log(Level.INFO, this.secretA.getName() + " < " + this.secretB.getName() + ": approximate amount of minimal measures per secret: " + smallestSize + ", the validation phase needs the measurement order of every time");
+			return;
+		}
+
+		if(this.exactSize) {
+			this.searchValidSize(smallestSize);
+			return;
+		}
+
+		if(this.isCancelled("validation phase")) {
+			return;
+		}
+		this.boxTestResults.add(new BoxTestResults(this.inputFile, this.secretA, this.secretB, this.optimalBox, this.testResults));
+		int newSmallestSize = 0;
+
+		if(this.validationPhase(smallestSize)) {
+			this.validSize = smallestSize;
+			this.log(Level.INFO, this.secretA.getName() + " < " + this.secretB.getName() + ": VALID amount of minimal measures per secret: " + smallestSize);
+		} else {
+			newSmallestSize = this.doubleSmallestSize(smallestSize);
+			if(newSmallestSize != 0) {
+				this.openValidationPhase(newSmallestSize);
+			}
+		}
+	}
+
+	/**
+	 * This method searches the exact smallest valid size from the smallest
+	 * size up to the size of the smaller secret. Every tested size is
+	 * validated once and saved in its own box test result.
+	 * 
+	 * @param smallestSize
+	 */
+	private void searchValidSize(int smallestSize) {
+		SampleSizeSearch search = new SampleSizeSearch(this.budget) {
+			protected boolean test(int size) {
+				boxTestResults.add(new BoxTestResults(inputFile, secretA, secretB, optimalBox, testResults));
+				return validationPhase(size);
+			}
+		};
+
+		int validSize = search.searchUp(smallestSize, Math.min(this.secretA.size(), this.secretB.size()));
+		if(search.isCancelled()) {
+			this.isCancelled("validation phase");
+		}
+		if(validSize != 0) {
+			this.validSize = validSize;
+			this.log(Level.INFO, this.secretA.getName() + " < " + this.secretB.getName() + ": VALID amount of minimal measures per secret: " + validSize);
+		}
+	}
+
+	/**
+	 * This method validates the results of the calibration phase. Therefore, 
+	 * it splits the measured times into subsets. Each subsets has the size 
+	 * of the smallest size found in the calibration phase. Than, it tests 
+	 * if all boxes are significant different. If all boxes of secretA and secretB
+	 * are significant different, it starts the box test with only boxes of secretA
+	 * and than with boxes of secretB. If all boxes of a secret overlaps, it has
+	 * found a valid result. Many subsets are validated in ranges in parallel.
+	 * 
+	 * @param smallestSize
+	 * @return boolean
+	 */
+	private boolean validationPhase(int smallestSize) {
+		Secret secretA = this.secretA;
+		Secret secretB = this.secretB;
+
+		// number of all possible subsets with a size of smallestSize
+		int numberSubsets; 
+		if((secretA.size() / smallestSize) <= (secretB.size() / smallestSize)) {
+			numberSubsets = (secretA.size() / smallestSize);
+		} else {
+			numberSubsets = (secretB.size() / smallestSize);
+		}
+
+		// rest of the size modulo all subsets
+		int restA = secretA.size() % (numberSubsets * smallestSize);
+		int restB = secretB.size() % (numberSubsets * smallestSize);
+
+		// split the subsets into ranges, which are validated in parallel
+		int numberRanges = Math.max(1, Math.min(this.threads * 4, numberSubsets / MIN_RANGE_SIZE));
+		ArrayList<SubsetValidation> ranges = new ArrayList<SubsetValidation>();
+		for (int range = 0; range < numberRanges; ++range) {
+			int from = (int) ((long) numberSubsets * range / numberRanges);
+			int to = (int) ((long) numberSubsets * (range + 1) / numberRanges);
+			ranges.add(new SubsetValidation(secretA, secretB, restA, restB, smallestSize, this.optimalBox, this.resolution, from, to, this.budget));
+		}
+
+		int countWrongResults = 0;
+		boolean cancelled = false;
+		ValidationVector validateSubsetSignificantDifferent = new ValidationVector();
+		ValidationVector validateSubsetOverlapA = new ValidationVector();
+		ValidationVector validateSubsetOverlapB = new ValidationVector();
+
+		ArrayList<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+		for (int range = 1; range < numberRanges; ++range) {
+			futures.add(this.validationPool.submit(ranges.get(range)));
+		}
+		for (int range = 0; range < numberRanges; ++range) {
+			try {
+				countWrongResults += (range == 0) ? ranges.get(0).call() : futures.get(range - 1).get();
+			} catch (ExecutionException e) {
+				throw new RuntimeException(e.getCause());
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+			cancelled |= ranges.get(range).isCancelled();
+			validateSubsetSignificantDifferent.append(ranges.get(range).getSignificantDifferent());
+			validateSubsetOverlapA.append(ranges.get(range).getOverlapA());
+			validateSubsetOverlapB.append(ranges.get(range).getOverlapB());
+		}
+
+		// a cancelled validation is not saved, the size is neither valid nor invalid
+		if(cancelled && this.isCancelled("validation phase")) {
+			return false;
+		}
+
+		double confidenceInterval = 100 - (countWrongResults * 100 / numberSubsets);
+
+		this.boxTestResults.get(this.boxTestResults.size() - 1).saveValidation(smallestSize, confidenceInterval, validateSubsetOverlapA, validateSubsetOverlapB, validateSubsetSignificantDifferent);
+		this.log(Level.FINEST, "\n\"o\" = successful box test \n\"x\" = unsuccesful box test\n");
+		this.log(Level.FINEST, secretA.getName() + " overlaps: " + validateSubsetOverlapA);
+		this.log(Level.FINEST, secretB.getName() + " overlaps: " + validateSubsetOverlapB);
+		this.log(Level.FINEST, secretA.getName() + " < " + secretB.getName() + ": " + validateSubsetSignificantDifferent);
+
+		this.log(Level.INFO, secretA.getName() + " < " + secretB.getName() + ": validate smallest size " + smallestSize + ": " + countWrongResults + " out of " + numberSubsets + " comparisons returned wrong results.");
+
+		if(countWrongResults != 0) {
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * This method doubles the smallest size only if the new smallest size
+	 * is smaller than both time lists.
+	 * 
+	 * @param smallestSize
+	 * @return int new smallest size
+	 */
+	private int doubleSmallestSize(int smallestSize) {
+		int newSmallestSize = (smallestSize * 2);
+
+		if(newSmallestSize <= this.secretA.size() && newSmallestSize <= this.secretB.size()) {
+			return newSmallestSize;
+		} else {
+			return 0;
+		}
+	}
+
+	/**
+	 * This method records a plot of the box, which is
+	 * added to the plot pool when the pair is merged.
+	 * 
+	 * @param name
+	 * @param lowerBound
+	 * @param upperBound
+	 */
+	private void plot(String name, double lowerBound, double upperBound) {
+		this.events.add(new PlotEvent(name, lowerBound, upperBound));
+	}
+
+	/**
+	 * This method records a log message, which is published when
+	 * the pair is merged. The source of the record is the caller.
+	 * 
+	 * @param level
+	 * @param message
+	 */
+	private void log(Level level, String message) {
+		if(!logger.isLoggable(level)) {
+			return;
+		}
+
+		StackTraceElement caller = new Throwable().getStackTrace()[1];
+		this.events.add(new LogEvent(level, message, caller.getClassName(), caller.getMethodName()));
+	}
+
+	/**
+	 * This method writes the valid size, the events, the two-sample
+	 * tests, the box test results and the bootstrap of the pair. It
+	 * must be called before the pair is merged.
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	protected void write(DataOutputStream out) throws IOException {
+		out.writeInt(this.validSize);
+		out.writeInt(this.events.size());
+		for (Event event : this.events) {
+			event.write(out);
+		}
+		out.writeInt(this.testResults.size());
+		for (TestResult testResult : this.testResults) {
+			PairResults.writeString(out, testResult.getName());
+			out.writeDouble(testResult.getStatistic());
+			out.writeDouble(testResult.getPValue());
+		}
+		out.writeInt(this.boxTestResults.size());
+		for (BoxTestResults results : this.boxTestResults) {
+			results.write(out);
+		}
+		out.writeBoolean(this.bootstrapResults != null);
+		if(this.bootstrapResults != null) {
+			this.bootstrapResults.write(out);
+		}
+	}
+
+	/**
+	 * This method reads the written pair instead of evaluating it.
+	 * The pair is merged as if it was evaluated. If the pair can't
+	 * be read completely, it is left unchanged.
+	 *
+	 * @param in
+	 * @throws IOException
+	 */
+	protected void read(DataInputStream in) throws IOException {
+		int validSize = in.readInt();
+		ArrayList<Event> events = new ArrayList<Event>();
+		int count = in.readInt();
+		for (int i = 0; i < count; ++i) {
+			byte type = in.readByte();
+			if(type == TimelineEvent.TYPE) {
+				events.add(new TimelineEvent(Timeline.read(in)));
+			} else if(type == PlotEvent.TYPE) {
+				events.add(new PlotEvent(PairResults.readString(in), in.readDouble(), in.readDouble()));
+			} else if(type == LogEvent.TYPE) {
+				Level level = Level.parse(PairResults.readString(in));
+				events.add(new LogEvent(level, PairResults.readString(in), PairResults.readString(in), PairResults.readString(in)));
+			} else {
+				throw new IOException("Unknown event " + type);
+			}
+		}
+		ArrayList<TestResult> testResults = new ArrayList<TestResult>();
+		count = in.readInt();
+		for (int i = 0; i < count; ++i) {
+			testResults.add(new TestResult(this.secretA, this.secretB, PairResults.readString(in), in.readDouble(), in.readDouble()));
+		}
+		ArrayList<BoxTestResults> boxTestResults = new ArrayList<BoxTestResults>();
+		count = in.readInt();
+		for (int i = 0; i < count; ++i) {
+			boxTestResults.add(BoxTestResults.read(in, this.inputFile, this.secretA, this.secretB, testResults));
+		}
+		BootstrapResults bootstrapResults = in.readBoolean() ? BootstrapResults.read(in, this.inputFile, this.secretA, this.secretB) : null;
+
+		// the pair is only changed, if it was read completely
+		this.validSize = validSize;
+		this.events = events;
+		this.testResults = testResults;
+		this.boxTestResults = boxTestResults;
+		this.bootstrapResults = bootstrapResults;
+	}
+
+	/**
+	 * An event of the pair, which is run when the pair is merged.
+	 */
+	private abstract class Event implements Runnable {
+
+		/**
+		 * This method writes the type and the data of the event.
+		 *
+		 * @param out
+		 * @throws IOException
+		 */
+		abstract void write(DataOutputStream out) throws IOException;
+	}
+
+	/**
+	 * This event names the time line of the pair and adds it to
+	 * the time lines of the evaluation.
+	 */
+	private class TimelineEvent extends Event {
+		static final byte TYPE = 0;
+		private Timeline timeline;
+
+		TimelineEvent(Timeline timeline) {
+			this.timeline = timeline;
+		}
+
+		public void run() {
+			this.timeline.setName("timeline-" + FileId.getId() + "-" + secretA.getFileName() + "-smaller-" + secretB.getFileName() + ".png");
+			timelines.add(this.timeline);
+		}
+
+		void write(DataOutputStream out) throws IOException {
+			out.writeByte(TYPE);
+			this.timeline.write(out);
+		}
+	}
+
+	/**
+	 * This event adds a plot of the box to the plot pool.
+	 */
+	private class PlotEvent extends Event {
+		static final byte TYPE = 1;
+		private String name;
+		private double lowerBound;
+		private double upperBound;
+
+		PlotEvent(String name, double lowerBound, double upperBound) {
+			this.name = name;
+			this.lowerBound = lowerBound;
+			this.upperBound = upperBound;
+		}
+
+		public void run() {
+			plotPool.plot(this.name, this.lowerBound, this.upperBound);
+		}
+
+		void write(DataOutputStream out) throws IOException {
+			out.writeByte(TYPE);
+			PairResults.writeString(out, this.name);
+			out.writeDouble(this.lowerBound);
+			out.writeDouble(this.upperBound);
+		}
+	}
+
+	/**
+	 * This event publishes a log record with the source of the
+	 * record.
+	 */
+	private class LogEvent extends Event {
+		static final byte TYPE = 2;
+		private LogRecord record;
+
+		LogEvent(Level level, String message, String sourceClassName, String sourceMethodName) {
+			this.record = new LogRecord(level, message);
+			this.record.setLoggerName(logger.getName());
+			this.record.setSourceClassName(sourceClassName);
+			this.record.setSourceMethodName(sourceMethodName);
+		}
+
+		public void run() {
+			logger.log(this.record);
+		}
+
+		void write(DataOutputStream out) throws IOException {
+			out.writeByte(TYPE);
+			PairResults.writeString(out, this.record.getLevel().getName());
+			PairResults.writeString(out, this.record.getMessage());
+			PairResults.writeString(out, this.record.getSourceClassName());
+			PairResults.writeString(out, this.record.getSourceMethodName());
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+
+/**
+ * An object of this class keeps the results of the evaluated pairs of an
+ * incremental input file from one run to the next. A pair is keyed by the
+ * file names and the sizes of its secrets. The rows of the input file are
+ * only appended, so a secret of the same size got no new times and its
+ * pairs are restored instead of evaluated. The results are only valid for
+ * the same configuration of the evaluation. Pairs cancelled by the budget
+ * are not kept, they are evaluated again by the next run.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class PairResults {
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+	private static final int VERSION = 1;
+
+	private File file;
+	private String configuration;
+	private HashMap<String, byte[]> previous = new HashMap<String, byte[]>();
+	private LinkedHashMap<String, byte[]> results = new LinkedHashMap<String, byte[]>();
+	private int restored = 0;
+
+	/**
+	 * This constructor reads the results of the previous run. If the
+	 * file is missing, broken or of another configuration, no pair is
+	 * restored.
+	 *
+	 * @param file results of the previous run
+	 * @param configuration configuration of the evaluation
+	 */
+	public PairResults(File file, String configuration) {
+		this.file = file;
+		this.configuration = configuration;
+		if(!file.isFile()) {
+			return;
+		}
+
+		try {
+			DataInputStream in = new DataInputStream(new FileInputStream(file));
+			try {
+				if(in.readInt() != VERSION || !readString(in).equals(configuration)) {
+					return;
+				}
+				int pairs = in.readInt();
+				for (int i = 0; i < pairs; ++i) {
+					String key = readString(in);
+					byte[] result = new byte[in.readInt()];
+					in.readFully(result);
+					this.previous.put(key, result);
+				}
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			this.previous.clear();
+		}
+	}
+
+	/**
+	 * This method restores the results of the pair, if its secrets
+	 * have the same sizes as in the previous run.
+	 *
+	 * @param pair
+	 * @param secretA
+	 * @param secretB
+	 * @return boolean true, if the pair was restored
+	 */
+	boolean restore(PairEvaluation pair, Secret secretA, Secret secretB) {
+		String key = getKey(secretA, secretB);
+		byte[] result = this.previous.get(key);
+		if(result == null) {
+			return false;
+		}
+
+		try {
+			pair.read(new DataInputStream(new ByteArrayInputStream(result)));
+		} catch (IOException e) {
+			return false;
+		}
+		this.results.put(key, result);
+		++this.restored;
+		return true;
+	}
+
+	/**
+	 * This method keeps the results of an evaluated pair. It must
+	 * be called before the pair is merged.
+	 *
+	 * @param pair
+	 * @param secretA
+	 * @param secretB
+	 */
+	void add(PairEvaluation pair, Secret secretA, Secret secretB) {
+		String key = getKey(secretA, secretB);
+		if(pair.isPartial() || this.results.containsKey(key)) {
+			return;
+		}
+
+		try {
+			ByteArrayOutputStream result = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(result);
+			pair.write(out);
+			out.close();
+			this.results.put(key, result.toByteArray());
+		} catch (IOException e) {
+			logger.warning("Error while keeping the results of " + secretA.getName() + " < " + secretB.getName() + ".");
+		}
+	}
+
+	/**
+	 * This method returns the number of restored pairs.
+	 *
+	 * @return int restored pairs
+	 */
+	public int getRestored() {
+		return this.restored;
+	}
+
+	/**
+	 * This method writes the results of the pairs of this run.
+	 * The results of the previous run are replaced at once.
+	 */
+	public void write() {
+		try {
+			File tmp = File.createTempFile("results", ".tmp", this.file.getAbsoluteFile().getParentFile());
+			DataOutputStream out = new DataOutputStream(new FileOutputStream(tmp));
+			try {
+				out.writeInt(VERSION);
+				writeString(out, this.configuration);
+				out.writeInt(this.results.size());
+				for (Map.Entry<String, byte[]> result : this.results.entrySet()) {
+					writeString(out, result.getKey());
+					out.writeInt(result.getValue().length);
+					out.write(result.getValue());
+				}
+			} finally {
+				out.close();
+			}
+
+			this.file.delete();
+			if(!tmp.renameTo(this.file)) {
+				tmp.delete();
+				logger.warning("Error writing the pair results " + this.file + ".");
+			}
+		} catch (IOException e) {
+			logger.warning("Error writing the pair results " + this.file + ".");
+		}
+	}
+
+	/**
+	 * This method returns the key of the pair.
+	 *
+	 * @param secretA
+	 * @param secretB
+	 * @return String key
+	 */
+	private static String getKey(Secret secretA, Secret secretB) {
+		return secretA.getFileName() + "<" + secretB.getFileName() + ";" + secretA.size() + ";" + secretB.size();
+	}
+
+	/**
+	 * This method writes a string of any length in UTF-8.
+	 *
+	 * @param out
+	 * @param string
+	 * @throws IOException
+	 */
+	static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes("UTF-8");
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * This method reads a string written in UTF-8.
+	 *
+	 * @param in
+	 * @return String
+	 * @throws IOException
+	 */
+	static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, "UTF-8");
+	}
+}
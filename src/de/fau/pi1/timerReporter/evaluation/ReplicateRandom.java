@@ -0,0 +1,43 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+/**
+ * An object of this class generates the random numbers of one bootstrap
+ * replicate with the SplitMix64 generator. Every replicate starts at its
+ * own position of the sequence of the seed, so the replicates are split
+ * from one seed and don't depend on the thread which computes them.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class ReplicateRandom {
+	private static final long GAMMA = 0x9E3779B97F4A7C15L;
+	private long state;
+
+	/**
+	 * @param seed
+	 * @param replicate number of the replicate
+	 */
+	public ReplicateRandom(long seed, int replicate) {
+		this.state = mix(seed + replicate * GAMMA);
+	}
+
+	/**
+	 * This method returns the next random number between 0
+	 * and the bound (exclusive).
+	 *
+	 * @param bound
+	 * @return int random number
+	 */
+	public int nextInt(int bound) {
+		this.state += GAMMA;
+		return (int) ((mix(this.state) >>> 1) % bound);
+	}
+
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,214 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.util.HashMap;
+
+import de.fau.pi1.timerReporter.dataset.MeasuredTimes;
+import de.fau.pi1.timerReporter.dataset.OrderedTimes;
+
+/**
+ * An object of this class searches the exact minimal sample size of a
+ * monotone test. The test is expected to pass for all sizes above the
+ * minimal size and to fail below it. The search steps exponentially away
+ * from the start size until the result of the test changes and then
+ * bisects the bracket, so it needs a logarithmic number of tests. Every
+ * size is tested at most once.
+ *
+ * The searches of the smallest size of a secret pair are shared by the
+ * evaluation of the pairs and the bootstrap of their replicates. They ask
+ * the budget of the evaluation before every test. Once it is exhausted,
+ * the remaining tests count as failed, so the search ends with the
+ * smallest size that passed so far.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public abstract class SampleSizeSearch {
+	private HashMap<Integer, Boolean> results = new HashMap<Integer, Boolean>();
+	private Budget budget;
+	private boolean cancelled = false;
+
+	/**
+	 * @param budget budget of the evaluation
+	 */
+	public SampleSizeSearch(Budget budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * This method searches the smallest size of a secret pair by
+	 * bisection. The last half of the times of both secrets is taken
+	 * as long as a box test of them succeeds, so the smallest size is
+	 * the size of the last times with a successful box test.
+	 *
+	 * @param secretA
+	 * @param secretB
+	 * @param resolution
+	 * @param budget budget of the evaluation
+	 * @return int smallest size
+	 */
+	public static int bisectSmallestSize(MeasuredTimes secretA, MeasuredTimes secretB, int resolution, Budget budget) {
+		int smallestSize = 0;
+
+		OrderedTimes timesA = secretA;
+		OrderedTimes timesB = secretB;
+
+		float bisector = 100; 
+
+		do {
+
+			// in the validation phase the measurement is split
+			// into smallest subsets, so the smallest subset 
+			// must be smaller or equal than the size of the 
+			// smallest time lists
+			if(timesA.size() <= timesB.size()) {
+				smallestSize = timesA.size();
+			} else {
+				smallestSize = timesB.size();
+			}
+
+			bisector -= (bisector / 2);
+
+			timesA = secretA.getBisectedTimes((int)(secretA.size() - (secretA.size() * bisector / 100.0)));
+			timesB = secretB.getBisectedTimes((int)(secretB.size() - (secretB.size() * bisector / 100.0)));
+			
+			if(timesA.size() <= 10 || timesB.size() <= 10) {
+				break;
+			}
+
+		} while(!budget.isExhausted() && BoxTest.boxTest(timesA, timesB, resolution)); // tests if a box is significant different
+
+		return smallestSize;
+	}
+
+	/**
+	 * This method searches the exact smallest size of the last times
+	 * of both secrets with a significant different result. 
+	 *
+	 * @param secretA
+	 * @param secretB
+	 * @param resolution
+	 * @param budget budget of the evaluation
+	 * @return int smallest size
+	 */
+	public static int exactSmallestSize(final MeasuredTimes secretA, final MeasuredTimes secretB, final int resolution, Budget budget) {
+		final int sizeA = secretA.size();
+		final int sizeB = secretB.size();
+
+		SampleSizeSearch search = new SampleSizeSearch(budget) {
+			protected boolean test(int size) {
+				return BoxTest.boxTest(secretA.getBisectedTimes(sizeA - size), secretB.getBisectedTimes(sizeB - size), resolution);
+			}
+		};
+
+		// the last times of both secrets must be more than ten
+		return search.searchDown(Math.min(sizeA, sizeB), 10);
+	}
+
+	/**
+	 * This method tests the sample size.
+	 *
+	 * @param size
+	 * @return boolean, if the test passes with the size
+	 */
+	protected abstract boolean test(int size);
+
+	/**
+	 * This method returns the memoized result of the test. If the
+	 * budget is exhausted, the size is not tested and fails.
+	 *
+	 * @param size
+	 * @return boolean, if the test passes with the size
+	 */
+	private boolean isPassed(int size) {
+		Boolean result = this.results.get(size);
+		if(result == null) {
+			if(this.budget.isExhausted()) {
+				this.cancelled = true;
+				return false;
+			}
+			result = this.test(size);
+			this.results.put(size, result);
+		}
+		return result;
+	}
+
+	/**
+	 * This method returns true, if the budget cancelled a test
+	 * of the search.
+	 *
+	 * @return boolean
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * This method searches the smallest passing size up to the start
+	 * size. The size halves until the test fails, afterwards the last
+	 * bracket is bisected. Sizes up to the minimum are not tested and
+	 * count as failed.
+	 *
+	 * @param start passing size
+	 * @param minimum highest size, which is not tested
+	 * @return int smallest passing size
+	 */
+	public int searchDown(int start, int minimum) {
+		int passed = start;
+		int failed = passed / 2;
+		while(failed > minimum && this.isPassed(failed)) {
+			passed = failed;
+			failed = passed / 2;
+		}
+		failed = Math.max(failed, minimum);
+		return this.bisect(failed, passed, minimum);
+	}
+
+	/**
+	 * This method searches the smallest passing size from the start size
+	 * up to the maximum. The size doubles until the test passes,
+	 * afterwards the last bracket is bisected.
+	 *
+	 * @param start
+	 * @param maximum highest size
+	 * @return int smallest passing size or 0, if no size up to the maximum passes
+	 */
+	public int searchUp(int start, int maximum) {
+		if(this.isPassed(start)) {
+			return start;
+		}
+
+		int failed = start;
+		int passed = (int) Math.min(2L * start, maximum);
+		while(!this.isPassed(passed)) {
+			if(passed == maximum) {
+				return 0;
+			}
+			failed = passed;
+			passed = (int) Math.min(2L * passed, maximum);
+		}
+		return this.bisect(failed, passed, 0);
+	}
+
+	/**
+	 * This method bisects the bracket between a failed and a passing
+	 * size to the smallest passing size.
+	 *
+	 * @param failed
+	 * @param passed
+	 * @param minimum highest size, which is not tested
+	 * @return int smallest passing size
+	 */
+	private int bisect(int failed, int passed, int minimum) {
+		while(passed - failed > 1) {
+			int middle = (failed + passed) >>> 1;
+			if(middle > minimum && this.isPassed(middle)) {
+				passed = middle;
+			} else {
+				failed = middle;
+			}
+		}
+		return passed;
+	}
+}
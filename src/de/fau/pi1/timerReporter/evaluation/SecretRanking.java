@@ -0,0 +1,208 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.logging.Logger;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.dataset.SecretStatistics;
+
+/**
+ * An object of this class ranks many secrets into groups of equivalent
+ * timings instead of testing every ordered pair. The secrets are ordered
+ * by their median and every secret is compared with the first secret of
+ * the current group. If the box test of both directions fails, the secret
+ * joins the group, otherwise it opens the next group.
+ *
+ * Most comparisons are decided by the percentile tables of the secrets.
+ * A box of A is only significantly smaller than a box of B, if the time
+ * of A at a percentile is smaller than the time of B at the next
+ * percentile. With whole percentiles as box bounds, the box between two
+ * neighbouring percentiles is valid, if the time of A at the upper
+ * percentile is smaller than the time of B at the lower percentile. Only
+ * the comparisons which are not decided by these bounds run a box test.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class SecretRanking {
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+
+	private ArrayList<Secret> secrets;
+	private int resolution;
+	private ArrayList<ArrayList<Secret>> groups = new ArrayList<ArrayList<Secret>>();
+	private ArrayList<Secret> comparisons = new ArrayList<Secret>();
+	private ArrayList<String> decisions = new ArrayList<String>();
+	private int countBounds = 0;
+	private int countBoxTests = 0;
+
+	/**
+	 * @param secrets
+	 * @param resolution resolution of the box bounds or BoxTest.EXACT
+	 */
+	public SecretRanking(ArrayList<Secret> secrets, int resolution) {
+		this.secrets = new ArrayList<Secret>(secrets);
+		this.resolution = resolution;
+	}
+
+	/**
+	 * This method orders the secrets by their median and
+	 * splits them into groups of equivalent timings.
+	 */
+	public void rank() {
+		Collections.sort(this.secrets, new Comparator<Secret>() {
+			public int compare(Secret a, Secret b) {
+				long medianA = a.getStatistics().getMedian();
+				long medianB = b.getStatistics().getMedian();
+				if(medianA != medianB) {
+					return (medianA < medianB) ? -1 : 1;
+				}
+				return Double.compare(a.getStatistics().getMean(), b.getStatistics().getMean());
+			}
+		});
+
+		ArrayList<Secret> group = null;
+		for (Secret secret : this.secrets) {
+			if(group == null) {
+				group = new ArrayList<Secret>();
+				this.comparisons.add(secret);
+				this.decisions.add("first");
+			} else if(this.isDifferent(group.get(0), secret)) {
+				this.groups.add(group);
+				group = new ArrayList<Secret>();
+			}
+			group.add(secret);
+		}
+		if(group != null) {
+			this.groups.add(group);
+		}
+
+		for (int i = 0; i < this.groups.size(); ++i) {
+			StringBuilder names = new StringBuilder();
+			for (Secret secret : this.groups.get(i)) {
+				names.append((names.length() == 0) ? "" : ", ").append(secret.getName());
+			}
+			logger.info("ranking: group " + (i + 1) + ": " + names);
+		}
+		logger.info("ranking: " + this.secrets.size() + " secrets in " + this.groups.size() + " groups, " + this.countBounds + " comparisons decided by the percentile bounds, " + this.countBoxTests + " by box tests");
+	}
+
+	/**
+	 * This method returns the pairs of the first secrets of
+	 * neighbouring groups in both directions. These pairs
+	 * are evaluated completely.
+	 *
+	 * @return ArrayList<Secret[]> pairs of secrets
+	 */
+	public ArrayList<Secret[]> getPairs() {
+		ArrayList<Secret[]> pairs = new ArrayList<Secret[]>();
+		for (int i = 1; i < this.groups.size(); ++i) {
+			Secret faster = this.groups.get(i - 1).get(0);
+			Secret slower = this.groups.get(i).get(0);
+			pairs.add(new Secret[] {faster, slower});
+			pairs.add(new Secret[] {slower, faster});
+		}
+		return pairs;
+	}
+
+	/**
+	 * This method prints the groups into a file. Every secret
+	 * has one row in the order of the ranking.
+	 *
+	 * @param inputFile
+	 * @param outputFile
+	 */
+	public void printRanking(String inputFile, File outputFile) {
+		try {
+			BufferedWriter bw = new BufferedWriter(new FileWriter(outputFile));
+			bw.write("Input File;Rank;Group;Secret;Median;Compared With;Decision;");
+			bw.write('\n');
+			int rank = 0;
+			for (int i = 0; i < this.groups.size(); ++i) {
+				for (Secret secret : this.groups.get(i)) {
+					bw.write(inputFile + ";" + (rank + 1) + ";" + (i + 1) + ";" + secret.getFileName() + ";" + secret.getStatistics().getMedian() + ";" + this.comparisons.get(rank).getFileName() + ";" + this.decisions.get(rank) + ";");
+					bw.write('\n');
+					++rank;
+				}
+			}
+			bw.close();
+		} catch (IOException e) {
+			logger.warning("Error while writing the ranking csv.");
+			System.exit(1);
+		}
+	}
+
+	public ArrayList<ArrayList<Secret>> getGroups() {
+		return groups;
+	}
+
+	/**
+	 * This method returns true, if a box of one secret is significantly
+	 * smaller than a box of the other secret. The decision is recorded
+	 * for the ranking.
+	 *
+	 * @param first first secret of the group
+	 * @param secret
+	 * @return boolean
+	 */
+	private boolean isDifferent(Secret first, Secret secret) {
+		this.comparisons.add(first);
+		int boundFirst = this.getBound(first, secret);
+		int boundSecret = this.getBound(secret, first);
+		if(boundFirst > 0 || boundSecret > 0) {
+			++this.countBounds;
+			this.decisions.add("bound");
+			return true;
+		} else if(boundFirst < 0 && boundSecret < 0) {
+			++this.countBounds;
+			this.decisions.add("bound");
+			return false;
+		}
+
+		++this.countBoxTests;
+		this.decisions.add("box test");
+		return (boundFirst == 0 && BoxTest.boxTest(first, secret, this.resolution))
+				|| (boundSecret == 0 && BoxTest.boxTest(secret, first, this.resolution));
+	}
+
+	/**
+	 * This method decides the box test of A and B by the percentile
+	 * tables. It returns 1, if a box of A is significantly smaller
+	 * than a box of B, -1, if no box of A is significantly smaller
+	 * and 0, if the percentiles don't decide the box test.
+	 *
+	 * @param secretA
+	 * @param secretB
+	 * @return int 1, -1 or 0
+	 */
+	private int getBound(Secret secretA, Secret secretB) {
+		SecretStatistics statisticsA = secretA.getStatistics();
+		SecretStatistics statisticsB = secretB.getStatistics();
+		boolean isNeighbourBox = false;
+		boolean isPossible = false;
+		for (int p = 0; p < 100; ++p) {
+			isNeighbourBox |= statisticsA.getPercentile(p + 1) < statisticsB.getPercentile(p);
+			isPossible |= statisticsA.getPercentile(p) < statisticsB.getPercentile(p + 1);
+		}
+
+		// the box between neighbouring percentiles is a box of every resolution
+		// of whole percentile steps, its bounds select different positions
+		boolean isAligned = this.resolution != BoxTest.EXACT && this.resolution % 100 == 0;
+		if(isNeighbourBox && isAligned && secretA.size() >= 100 && secretB.size() >= 100) {
+			return 1;
+		}
+
+		// with whole percentiles a valid box contains a valid neighbour box
+		if(!isPossible || (this.resolution == 100 && !isNeighbourBox)) {
+			return -1;
+		}
+		return 0;
+	}
+}
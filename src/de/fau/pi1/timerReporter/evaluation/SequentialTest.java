@@ -0,0 +1,121 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.reader.StoppingRule;
+import de.fau.pi1.timerReporter.tools.Conf;
+
+/**
+ * An object of this class represents the stopping rule of the sequential
+ * reader. After every prefix, every undecided pair of secrets is compared
+ * by the Mann-Whitney U test. The error rate of a pair is spent over the
+ * prefixes by the O'Brien-Fleming function of Lan and DeMets,
+ * alpha(t) = erfc(erfc^-1(alpha) / sqrt(t)) for the fraction t of the
+ * input file, and every prefix tests at the increment of the spent error
+ * rate. The sum of the increments is alpha, so the error rate of a pair
+ * is kept over all prefixes.
+ *
+ * A significant pair is decided, if the box test finds an optimal box of
+ * one order and the validation phase of the prefix finds a valid smallest
+ * size. Decided pairs are not tested again. The reader stops, when every
+ * pair is decided. Pairs without a difference are never decided, so their
+ * measurements are read up to the end of the file.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class SequentialTest implements StoppingRule {
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+
+	private double alpha = Double.parseDouble(Conf.get("sequentialAlpha"));
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private int resolution = StatisticEvaluation.getResolution(Conf.get("resolution"));
+	private boolean exactSize = Conf.get("sizeSearch").equals("exact");
+	private MannWhitneyTest test = new MannWhitneyTest();
+	private HashSet<String> decided = new HashSet<String>();
+	private double spent = 0;
+	private int look = 0;
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.StoppingRule#isStopped(java.util.ArrayList, double)
+	 */
+	public boolean isStopped(ArrayList<Secret> secrets, double fraction) {
+		++this.look;
+		double spending = Distributions.erfc(Distributions.inverseErfc(this.alpha) / Math.sqrt(fraction));
+		double level = spending - this.spent;
+		this.spent = spending;
+
+		int pairs = 0;
+		int undecided = 0;
+		ExecutorService validationPool = Executors.newFixedThreadPool(this.threads);
+		try {
+			for (int i = 0; i < secrets.size(); ++i) {
+				for (int j = i + 1; j < secrets.size(); ++j) {
+					Secret secretA = secrets.get(i);
+					Secret secretB = secrets.get(j);
+					++pairs;
+					if(this.decided.contains(secretA.getFileName() + "-" + secretB.getFileName())) {
+						continue;
+					}
+
+					double p = this.test.test(secretA, secretB)[1];
+					if(p <= level) {
+						Secret[] pair = this.getOrder(secretA, secretB, validationPool);
+						if(pair != null) {
+							this.decided.add(secretA.getFileName() + "-" + secretB.getFileName());
+							logger.info("sequential: " + pair[0].getName() + " < " + pair[1].getName() + " decided after " + secretA.size() + " and " + secretB.size() + " measurements, p-value " + p);
+							continue;
+						}
+					}
+					++undecided;
+				}
+			}
+		} finally {
+			validationPool.shutdown();
+		}
+
+		logger.info("sequential look " + this.look + ": " + Math.round(fraction * 100) + "% of the input file, significance level " + level + ", " + undecided + " of " + pairs + " pairs undecided");
+		return pairs > 0 && undecided == 0;
+	}
+
+	/**
+	 * This method returns the pair in the order, in which the
+	 * box test and the validation phase of the prefix find a
+	 * valid smallest size, or null, if no order is valid.
+	 *
+	 * @param secretA
+	 * @param secretB
+	 * @param validationPool
+	 * @return Secret[] faster and slower secret
+	 */
+	private Secret[] getOrder(Secret secretA, Secret secretB, ExecutorService validationPool) {
+		if(this.isValid(secretA, secretB, validationPool)) {
+			return new Secret[] {secretA, secretB};
+		} else if(this.isValid(secretB, secretA, validationPool)) {
+			return new Secret[] {secretB, secretA};
+		}
+		return null;
+	}
+
+	/**
+	 * This method evaluates the pair on the prefix without plots
+	 * and returns true, if a smallest size was valid.
+	 *
+	 * @param secretA
+	 * @param secretB
+	 * @param validationPool
+	 * @return boolean
+	 */
+	private boolean isValid(Secret secretA, Secret secretB, ExecutorService validationPool) {
+		PairEvaluation pair = new PairEvaluation("", secretA, secretB, null, 0, this.resolution, this.exactSize, null, validationPool, this.threads, 0, 0, new ArrayList<TwoSampleTest>(), null, new Budget(0, 0));
+		pair.call();
+		return pair.getValidSize() != 0;
+	}
+}
@@ -5,15 +5,16 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import de.fau.pi1.timerReporter.dataset.Dataset;
 import de.fau.pi1.timerReporter.dataset.Secret;
-import de.fau.pi1.timerReporter.dataset.Time;
 import de.fau.pi1.timerReporter.plots.PlotPool;
-import de.fau.pi1.timerReporter.tools.FileId;
-import de.fau.pi1.timerReporter.tools.Folder;
+import de.fau.pi1.timerReporter.tools.Conf;
 
 /**
  * An object of this class performs the statistic evaluation. Therefore, it starts
@@ -26,6 +27,15 @@ import de.fau.pi1.timerReporter.tools.Folder;
  * If one range isn't significantly different, the validation phase sets the smallest
  * size up and begins again.
  * 
+ * The secret pairs are independent, so every pair is evaluated in its own
+ * job of a thread pool. Measurements of many secrets can be ranked into
+ * groups of equivalent secrets first, then only the neighbouring groups
+ * are evaluated. With the sketch storage, the percentiles are approximate
+ * and the pairs are not validated. The evaluation can be bounded by a time
+ * budget and a memory budget, the pairs keep their results so far.
+ * If the reader keeps the results of the pairs between runs, the pairs of
+ * secrets without new times are restored instead of evaluated.
+ * 
  * @FauTimerReporter
  * @author Isabell Schmitt
  * @version 1.0
@@ -40,6 +50,16 @@ public class StatisticEvaluation {
 	private ArrayList<Timeline> timelines = new ArrayList<Timeline>();
 	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
 	private ArrayList<BoxTestResults> boxTestResults = new ArrayList<BoxTestResults>();
+	private ArrayList<BootstrapResults> bootstrapResults = new ArrayList<BootstrapResults>();
+	private ArrayList<TestResult> testResults = new ArrayList<TestResult>();
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private int resolution = getResolution(Conf.get("resolution"));
+	private boolean exactSize = Conf.get("sizeSearch").equals("exact");
+	private int replicates = Integer.parseInt(Conf.get("bootstrap"));
+	private long seed = Long.parseLong(Conf.get("bootstrapSeed"));
+	private ArrayList<TwoSampleTest> tests = getTests(Conf.get("tests"));
+	private SecretRanking ranking = null;
+	private Budget budget = null;
 
 	public StatisticEvaluation(Dataset dataSet, PlotPool plotPool) {
 		this.dataSet = dataSet;
@@ -48,6 +68,33 @@ public class StatisticEvaluation {
 		this.optimalBox =  new double[2];
 		this.optimalBox[0] = 0.0;
 		this.optimalBox[1] = 0.0;
+
+		if(!this.hasMeasurementOrder()) {
+			if(this.resolution == BoxTest.EXACT) {
+				logger.warning("The exact resolution needs every time, it can't be used with the sketch storage.");
+				System.exit(1);
+			}
+			if(this.replicates > 0) {
+				logger.warning("The bootstrap needs every time, it can't be used with the sketch storage.");
+				System.exit(1);
+			}
+			logger.info("approximate analysis: the percentiles are read from quantile sketches with a normalized rank error of " + Conf.get("sketchError"));
+		}
+	}
+
+	/**
+	 * This method returns true, if every secret keeps the
+	 * measurement order of its times.
+	 *
+	 * @return boolean
+	 */
+	private boolean hasMeasurementOrder() {
+		for (Secret secret : this.dataSet.getSecrets()) {
+			if(!secret.hasMeasurementOrder()) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -86,35 +133,7 @@ public class StatisticEvaluation {
 	 * 
 	 */
 	public void calibrationPhase() {
-		// iterate over all secret combination
-		for (Secret secretA : this.dataSet.getSecrets()) {
-			for (Secret secretB : this.dataSet.getSecrets()) {
-				if(secretA != secretB) {
-					if(this.optimalBox[0] == 0.0 && this.optimalBox[1] == 0.0) {
-						if(searchOptimalBox(secretA, secretB)) {
-							int smallestSize = searchSmallestSize(secretA, secretB);
-							this.openValidationPhase(secretA, secretB, smallestSize, this.optimalBox);
-						}
-
-						this.optimalBox =  new double[2];
-						this.optimalBox[0] = 0.0;
-						this.optimalBox[1] = 0.0;
-
-					} else {
-						int smallestSize = searchSmallestSize(secretA, secretB);
-						if(smallestSize != 0) {
-							plotPool.plot("Filtered Measurments: User Input Optimal Box (" + secretA.getName() + "-" + secretB.getName() + ")", this.optimalBox[0], this.optimalBox[1]);
-
-							this.openValidationPhase(secretA, secretB, smallestSize, this.optimalBox);
-						} else {
-							logger.warning(secretA.getName() + " < " + secretB.getName() + ": no significant different result found! You need to measure more times.");
-
-						}
-					}
-				}
-
-			}
-		}
+		this.evaluatePairs(0);
 	}
 
 	/**
@@ -124,271 +143,176 @@ public class StatisticEvaluation {
 	 * @param int smallest size 
 	 */
 	public void onlyValidationPhase(int smallestSize) {
-		// iterate over all secret combination
-		for (Secret secretA : this.dataSet.getSecrets()) {
-			for (Secret secretB : this.dataSet.getSecrets()) {
-				if(secretA != secretB) {
-					if(this.optimalBox[0] == 0.0 && this.optimalBox[1] == 0.0) {
-						if(searchOptimalBox(secretA, secretB)) {
-							this.openValidationPhase(secretA, secretB, smallestSize, this.optimalBox);
-						}
-
-						this.optimalBox =  new double[2];
-						this.optimalBox[0] = 0.0;
-						this.optimalBox[1] = 0.0;
-
-					} else {
-						if(smallestSize != 0) {
-							plotPool.plot("Filtered Measurments: User Input Optimal Box (" + secretA.getName() + "-" + secretB.getName() + ")", this.optimalBox[0], this.optimalBox[1]);
-
-							this.openValidationPhase(secretA, secretB, smallestSize, this.optimalBox);
-						} else {
-							logger.warning(secretA.getName() + " < " + secretB.getName() + ": no significant different result found! You need to measure more times.");
-						}
-					}
-				}
-			}
-		}
+		this.evaluatePairs(smallestSize);
 	}
 
 	/**
-	 * This method searchs only the optimal box and returns
-	 * a boolean if an optimal box found. If no optimal box 
-	 * is found, there are no significant differences. The
-	 * user should try to measure more timings to find a 
-	 * significant differences.
+	 * This method evaluates every secret pair in the thread pool.
+	 * The pairs are merged in the order of the secrets, so the
+	 * results, the log and the plots are the same as of a serial
+	 * evaluation.
 	 * 
-	 * @param secretA
-	 * @param secretB
-	 * @return boolean
+	 * @param smallestSize smallest size or 0 to search the smallest size
 	 */
-	private boolean searchOptimalBox(Secret secretA, Secret secretB) {
-
-		ArrayList<Time> timesA = secretA.getTimes();
-		ArrayList<Time> timesB = secretB.getTimes();
-
-		// first step: search optimal box
-		Timeline timeline = new Timeline("timeline-" + FileId.getId() + "-" + secretA.getFileName() + "-smaller-" +secretB.getFileName() + ".png");
-		this.timelines.add(timeline);
-		this.optimalBox = BoxTest.optimalBox(timesA, timesB, timeline);
-
-		if(this.optimalBox[0] != 0 || this.optimalBox[1] != 0) { 	
-			// if a optimal box found, there are significant different results!
-			logger.info(secretA.getName() + " < " + secretB.getName() + ": optimal box " + optimalBox[0] + "-" + optimalBox[1]);
-			plotPool.plot("Filtered Measurments: Optimal Box (" + secretA.getName() + "-" + secretB.getName() + ")", this.optimalBox[0], this.optimalBox[1]);
-			return true;
-		} else {
-			// there is no significant different result found! The user needs
-			// to measure more times.
-			logger.warning(secretA.getName() + " < " + secretB.getName() + ": no significant different result found! You need to measure more times.");
-			return false;
+	private void evaluatePairs(int smallestSize) {
+		double[] userOptimalBox = null;
+		if(this.optimalBox[0] != 0.0 || this.optimalBox[1] != 0.0) {
+			userOptimalBox = this.optimalBox;
 		}
-	}
-
-	/**
-	 * This method searchs the smallest size of the boxes per secret. 
-	 * The smallest size is the smallest range that contains
-	 * significant different times.
-	 * 
-	 * @param secretA
-	 * @param secretB
-	 */
-	private int searchSmallestSize(Secret secretA, Secret secretB) {
 
-		int smallestSize = 0;
+		if(this.budget == null) {
+			this.budget = new Budget(Integer.parseInt(Conf.get("timeBudget")), Integer.parseInt(Conf.get("memoryBudget")));
+		}
 
-		ArrayList<Time> timesA = secretA.getTimes();
-		ArrayList<Time> timesB = secretB.getTimes();
+		ExecutorService threadPool = Executors.newFixedThreadPool(this.threads);
+		ExecutorService validationPool = Executors.newFixedThreadPool(this.threads);
 
-		float bisector = 100; 
-		int isSmallestSizeBisected = 0;
+		PairResults pairResults = null;
+		if(this.dataSet.getResultsFile() != null) {
+			pairResults = new PairResults(this.dataSet.getResultsFile(), this.getConfiguration(userOptimalBox, smallestSize));
+		}
 
-		do {
+		ArrayList<Secret[]> secretPairs = this.getPairs();
+		ArrayList<PairEvaluation> pairs = new ArrayList<PairEvaluation>();
+		for (Secret[] pair : secretPairs) {
+			pairs.add(new PairEvaluation(this.dataSet.getInputFile(), pair[0], pair[1], userOptimalBox, smallestSize, this.resolution, this.exactSize, this.plotPool, validationPool, this.threads, this.replicates, this.seed, this.tests, this.timelines, this.budget));
+		}
 
-			// in the validation phase the measurement is split
-			// into smallest subsets, so the smallest subset 
-			// must be smaller or equal than the size of the 
-			// smallest time lists
-			if(timesA.size() <= timesB.size()) {
-				smallestSize = timesA.size();
-			} else {
-				smallestSize = timesB.size();
+		try {
+			// a restored pair has no job
+			ArrayList<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+			for (int i = 0; i < pairs.size(); ++i) {
+				if(pairResults != null && pairResults.restore(pairs.get(i), secretPairs.get(i)[0], secretPairs.get(i)[1])) {
+					futures.add(null);
+				} else {
+					futures.add(threadPool.submit(pairs.get(i)));
+				}
 			}
 
-			++isSmallestSizeBisected;
-
-			bisector -= (bisector / 2);
-
-			timesA = secretA.getBisectedTimes((int)(secretA.getTimes().size() - (secretA.getTimes().size() * bisector / 100.0)));
-			timesB = secretB.getBisectedTimes((int)(secretB.getTimes().size() - (secretB.getTimes().size() * bisector / 100.0)));
-
-			Collections.sort(timesA);
-			Collections.sort(timesB);
-			
-			if(timesA.size() <= 10 || timesB.size() <= 10) {
-				break;
+			for (int i = 0; i < pairs.size(); ++i) {
+				try {
+					if(futures.get(i) != null) {
+						futures.get(i).get();
+					}
+				} catch (ExecutionException e) {
+					throw new RuntimeException(e.getCause());
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				if(pairResults != null) {
+					pairResults.add(pairs.get(i), secretPairs.get(i)[0], secretPairs.get(i)[1]);
+				}
+				this.boxTestResults.addAll(pairs.get(i).merge());
+				this.testResults.addAll(pairs.get(i).getTestResults());
+				if(pairs.get(i).getBootstrapResults() != null) {
+					this.bootstrapResults.add(pairs.get(i).getBootstrapResults());
+				}
 			}
+		} finally {
+			threadPool.shutdown();
+			validationPool.shutdown();
+		}
 
-		} while(BoxTest.boxTest(timesA, timesB)); // tests if a box is significant different
-
-
-		// because both secrets contains the smallest size
-		if(isSmallestSizeBisected != 1) {
-			logger.info(secretA.getName() + " < " + secretB.getName() + ": amount of minimal measures per secret: " + smallestSize); 
+		int partial = 0;
+		for (PairEvaluation pair : pairs) {
+			partial += pair.isPartial() ? 1 : 0;
+		}
+		if(partial > 0) {
+			logger.warning(partial + " of " + pairs.size() + " pairs were cancelled by the budget, their results are partial.");
 		}
 
-		return smallestSize;
+		if(pairResults != null) {
+			logger.info("incremental: " + pairResults.getRestored() + " of " + pairs.size() + " pairs restored from the previous run");
+			pairResults.write();
+		}
 	}
 
 	/**
-	 * This method opens the validation phase and double the smallest size, if it is needed
-	 * and starts the validation phase again.
-	 * 
-	 * @param secretA
-	 * @param secretB
-	 * @param smallestSize
-	 * @param optimalBox
+	 * This method returns the configuration of the evaluation, which
+	 * the results of a pair depend on.
+	 *
+	 * @param userOptimalBox optimal box of the user or null
+	 * @param smallestSize smallest size of the user or 0
+	 * @return String configuration
 	 */
-	private void openValidationPhase(Secret secretA, Secret secretB, int smallestSize, double[] optimalBox) {
-		this.boxTestResults.add(new BoxTestResults(this.dataSet.getInputFile(), secretA, secretB, this.optimalBox));
-		int newSmallestSize = 0;
-
-		if(this.validationPhase(secretA, secretB, smallestSize, optimalBox)) {
-			logger.info(secretA.getName() + " < " + secretB.getName() + ": VALID amount of minimal measures per secret: " + smallestSize);
-		} else {
-			newSmallestSize = this.doubleSmallestSize(secretA, secretB, smallestSize);
-			if(newSmallestSize != 0) {
-				this.openValidationPhase(secretA, secretB, newSmallestSize, optimalBox);
-			}
+	private String getConfiguration(double[] userOptimalBox, int smallestSize) {
+		String configuration = "resolution=" + Conf.get("resolution") + ";sizeSearch=" + Conf.get("sizeSearch") + ";tests=" + Conf.get("tests")
+				+ ";bootstrap=" + this.replicates + ";bootstrapSeed=" + this.seed + ";storage=" + Conf.get("storage") + ";verbose=" + Conf.get("verbose");
+		if(userOptimalBox != null) {
+			configuration += ";optimalBox=" + userOptimalBox[0] + "-" + userOptimalBox[1];
 		}
+		return configuration + ";smallestSize=" + smallestSize;
 	}
 
 	/**
-	 * This method validates the results of the calibration phase. Therefore, 
-	 * it splits the measured times into subsets. Each subsets has the size 
-	 * of the smallest size found in the calibration phase. Than, it tests 
-	 * if all boxes are significant different. If all boxes of secretA and secretB
-	 * are significant different, it starts the box test with only boxes of secretA
-	 * and than with boxes of secretB. If all boxes of a secret overlaps, it has
-	 * found a valid result.
+	 * This method returns the secret pairs to evaluate. These are all
+	 * combinations of the secrets or, if the secrets are ranked, the
+	 * first secrets of neighbouring groups.
 	 * 
-	 * @param secretA
-	 * @param secretB
-	 * @param smallestSize
-	 * @param optimalBox
-	 * @return boolean
+	 * @return ArrayList<Secret[]> pairs of secrets
 	 */
-	private boolean validationPhase(Secret secretA, Secret secretB, int smallestSize, double[] optimalBox) {
-
-		// number of all possible subsets with a size of smallestSize
-		int numberSubsets; 
-		if((secretA.getTimes().size() / smallestSize) <= (secretB.getTimes().size() / smallestSize)) {
-			numberSubsets = (secretA.getTimes().size() / smallestSize);
-		} else {
-			numberSubsets = (secretB.getTimes().size() / smallestSize);
-		}
-
-		// rest of the size modulo all subsets
-		int restA = secretA.getTimes().size() % (numberSubsets * smallestSize);
-		int restB = secretB.getTimes().size() % (numberSubsets * smallestSize);
-
-		ArrayList<Time> subsetA; 
-		ArrayList<Time> subsetB;
-
-		int countWrongResults = 0;
-
-		ArrayList<String> validateSubsetSignificantDifferent = new ArrayList<String>();
-		ArrayList<String> validateSubsetOverlapA = new ArrayList<String>();
-		ArrayList<String> validateSubsetOverlapB = new ArrayList<String>();
-		ArrayList<Time> prevSubsetA = new ArrayList<Time>();
-		ArrayList<Time> prevSubsetB = new ArrayList<Time>();
-
-
-		for (int i = 0; i < numberSubsets; ++i) {
-
-			int countInvalid = 0;
-			// the rest will be deducted at the beginning
-			subsetA = secretA.getBisectedTimes(restA + (smallestSize * i), smallestSize);
-			subsetB = secretB.getBisectedTimes(restB + (smallestSize * i), smallestSize);
-
-			Collections.sort(subsetA);
-			Collections.sort(subsetB);
-
-			if (BoxTest.boxTestSmaller(subsetA, subsetB, optimalBox)) {
-				validateSubsetSignificantDifferent.add("o");
-
-			} else {
-				validateSubsetSignificantDifferent.add("x");
-				//logger.info("subset " + i + ": wrong result");
-				++countInvalid;
+	private ArrayList<Secret[]> getPairs() {
+		if(Conf.get("pairs").equals("ranked")) {
+			if(this.ranking == null) {
+				this.ranking = new SecretRanking(this.dataSet.getSecrets(), this.resolution);
+				this.ranking.rank();
 			}
-			
-			if(i != 0) {
-				if (BoxTest.boxTestOverlap(prevSubsetA, subsetA, optimalBox)) {
-					validateSubsetOverlapA.add("o");
-
-				} else {
-					validateSubsetOverlapA.add("x");
-					//logger.info("subset " + i + ": only significant different");
-					++countInvalid;
-				} 
-
-				if (BoxTest.boxTestOverlap(prevSubsetB, subsetB, optimalBox)) {
-					validateSubsetOverlapB.add("o");
-					//logger.info("subset " + i + ": right result");
+			return this.ranking.getPairs();
+		}
 
-				} else {
-					validateSubsetOverlapB.add("x");
-					//logger.info("subset " + i + ": only significant different, subset A overlaps");
-					++countInvalid;
+		// iterate over all secret combination
+		ArrayList<Secret[]> pairs = new ArrayList<Secret[]>();
+		for (Secret secretA : this.dataSet.getSecrets()) {
+			for (Secret secretB : this.dataSet.getSecrets()) {
+				if(secretA != secretB) {
+					pairs.add(new Secret[] {secretA, secretB});
 				}
 			}
-
-			if(countInvalid > 0) {
-				++countWrongResults;
-			}
-
-			prevSubsetA = new ArrayList<Time>();
-			prevSubsetB = new ArrayList<Time>();
-
-			prevSubsetA = subsetA;
-			prevSubsetB = subsetB;
 		}
+		return pairs;
+	}
 
-		double confidenceInterval = 100 - (countWrongResults * 100 / numberSubsets);
-
-		this.boxTestResults.get(this.boxTestResults.size() - 1).saveValidation(smallestSize, confidenceInterval, validateSubsetOverlapA, validateSubsetOverlapB, validateSubsetSignificantDifferent);
-		logger.finest("\n\"o\" = successful box test \n\"x\" = unsuccesful box test\n");
-		logger.finest(secretA.getName() + " overlaps: " + Folder.convertArrayListToString(validateSubsetOverlapA));
-		logger.finest(secretB.getName() + " overlaps: " + Folder.convertArrayListToString(validateSubsetOverlapB));
-		logger.finest(secretA.getName() + " < " + secretB.getName() + ": " + Folder.convertArrayListToString(validateSubsetSignificantDifferent));
-
-		logger.info(secretA.getName() + " < " + secretB.getName() + ": validate smallest size " + smallestSize + ": " + countWrongResults + " out of " + numberSubsets + " comparisons returned wrong results.");
-
-		if(countWrongResults != 0) {
-			return false;
+	/**
+	 * This method returns the resolution of the box bounds with
+	 * the name percent, permille, permyriad or exact.
+	 * 
+	 * @param name
+	 * @return int number of steps or BoxTest.EXACT
+	 */
+	public static int getResolution(String name) {
+		if(name.equals("permille")) {
+			return 1000;
+		} else if(name.equals("permyriad")) {
+			return 10000;
+		} else if(name.equals("exact")) {
+			return BoxTest.EXACT;
 		}
-
-		return true;
+		return 100;
 	}
 
 	/**
-	 * This method doubles the smallest size only if the new smallest size
-	 * is smaller than both time lists.
+	 * This method returns the two-sample tests of a comma separated
+	 * list of the names mwu, ks and ad or none.
 	 * 
-	 * @param secretA
-	 * @param secretB
-	 * @param smallestSize
-	 * @return int new smallest size
+	 * @param names
+	 * @return ArrayList<TwoSampleTest> tests
 	 */
-	private int doubleSmallestSize(Secret secretA, Secret secretB, int smallestSize) {
-		int newSmallestSize = (smallestSize * 2);
-
-		if(newSmallestSize <= secretA.getTimes().size() && newSmallestSize <= secretB.getTimes().size()) {
-			return newSmallestSize;
-		} else {
-			return 0;
+	public static ArrayList<TwoSampleTest> getTests(String names) {
+		ArrayList<TwoSampleTest> tests = new ArrayList<TwoSampleTest>();
+		for (String name : names.split(",")) {
+			name = name.trim();
+			if(name.equals("mwu")) {
+				tests.add(new MannWhitneyTest());
+			} else if(name.equals("ks")) {
+				tests.add(new KolmogorovSmirnovTest());
+			} else if(name.equals("ad")) {
+				tests.add(new AndersonDarlingTest());
+			} else if(!name.equals("none")) {
+				logger.warning("No valide input for the value of tests: " + name);
+				System.exit(1);
+			}
 		}
+		return tests;
 	}
 
 	/**
@@ -417,6 +341,13 @@ public class StatisticEvaluation {
 	 */
 	public void printBoxTestResults(File outputFile) {
 		String output = "Input File;SecretA < SecretB;Optimal Box;Smallest Size;Confidence Interval;Graphic Overlaps Subset A;valid;invalid;Graphic Overlaps Subset B;valid;invalid;Graphic Significant Difference;valid;invalid;";
+		for (TwoSampleTest test : this.tests) {
+			output += test.getName() + ";p-Value;";
+		}
+		boolean partialColumn = this.budget != null && this.budget.isBounded();
+		if(partialColumn) {
+			output += "Partial;";
+		}
 		try {
 			BufferedWriter bw = new BufferedWriter(new FileWriter(outputFile));
 			for (int i=0; i < output.length(); i++){
@@ -429,11 +360,53 @@ public class StatisticEvaluation {
 			System.exit(1);
 		}
 		for (BoxTestResults boxTest : this.boxTestResults) {
-			boxTest.printBoxTestResult(outputFile);
+			boxTest.printBoxTestResult(outputFile, this.tests.size(), partialColumn);
+		}
+	}
+
+	/**
+	 * This method prints the bootstrap results into a file.
+	 * 
+	 * @param outputFile
+	 */
+	public void printBootstrapResults(File outputFile) {
+		boolean partialColumn = this.budget != null && this.budget.isBounded();
+		try {
+			BufferedWriter bw = new BufferedWriter(new FileWriter(outputFile));
+			bw.write("Input File;SecretA < SecretB;Optimal Box;Lower Bound Interval;Upper Bound Interval;Smallest Size;Smallest Size Interval;Replicates;Replicates with Optimal Box;");
+			if(partialColumn) {
+				bw.write("Partial;");
+			}
+			bw.write('\n');
+			bw.close();
+		} catch (IOException e) {
+			logger.warning("Error while writing the bootstrap result csv.");
+			System.exit(1);
+		}
+		for (BootstrapResults bootstrap : this.bootstrapResults) {
+			bootstrap.printBootstrapResult(outputFile, partialColumn);
 		}
 	}
 
+	/**
+	 * This method prints the groups of the ranked secrets into 
+	 * a file. It should be called after the calibration phase.
+	 * 
+	 * @param outputFile
+	 */
+	public void printRanking(File outputFile) {
+		this.ranking.printRanking(this.dataSet.getInputFile(), outputFile);
+	}
+
 	public ArrayList<BoxTestResults> getBoxTestResults() {
 		return boxTestResults;
 	}
+
+	public ArrayList<TestResult> getTestResults() {
+		return testResults;
+	}
+
+	public ArrayList<BootstrapResults> getBootstrapResults() {
+		return bootstrapResults;
+	}
 }
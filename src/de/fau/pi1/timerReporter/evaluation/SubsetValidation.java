@@ -0,0 +1,143 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.util.concurrent.Callable;
+
+import de.fau.pi1.timerReporter.dataset.OrderedTimes;
+import de.fau.pi1.timerReporter.dataset.Secret;
+
+/**
+ * An object of this class represents the job to validate a range of the
+ * subsets of a secret pair. Every subset is tested if it is significant
+ * different and if it overlaps the previous subset of the same secret.
+ * The results are recorded in validation vectors, which are appended in
+ * the order of the ranges afterwards. The budget of the evaluation is
+ * asked after every few subsets, so a long range can be cancelled.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class SubsetValidation implements Callable<Integer> {
+	private static final int BUDGET_INTERVAL = 256;
+
+	private Secret secretA;
+	private Secret secretB;
+	private int restA;
+	private int restB;
+	private int smallestSize;
+	private double[] optimalBox;
+	private int resolution;
+	private int from;
+	private int to;
+	private Budget budget;
+	private boolean cancelled = false;
+	private ValidationVector significantDifferent = new ValidationVector();
+	private ValidationVector overlapA = new ValidationVector();
+	private ValidationVector overlapB = new ValidationVector();
+
+	/**
+	 * @param secretA
+	 * @param secretB
+	 * @param restA times of secret A before the first subset
+	 * @param restB times of secret B before the first subset
+	 * @param smallestSize size of a subset
+	 * @param optimalBox
+	 * @param resolution
+	 * @param from first subset
+	 * @param to subset after the last subset
+	 * @param budget budget of the evaluation
+	 */
+	protected SubsetValidation(Secret secretA, Secret secretB, int restA, int restB, int smallestSize, double[] optimalBox, int resolution, int from, int to, Budget budget) {
+		this.secretA = secretA;
+		this.secretB = secretB;
+		this.restA = restA;
+		this.restB = restB;
+		this.smallestSize = smallestSize;
+		this.optimalBox = optimalBox;
+		this.resolution = resolution;
+		this.from = from;
+		this.to = to;
+		this.budget = budget;
+	}
+
+	/**
+	 * This method validates the subsets and returns the number
+	 * of subsets with a wrong result. If the budget is exhausted,
+	 * the range is cancelled.
+	 */
+	@Override
+	public Integer call() {
+		int countWrongResults = 0;
+		OrderedTimes prevSubsetA = null;
+		OrderedTimes prevSubsetB = null;
+		if(this.from != 0) {
+			prevSubsetA = this.getSubset(this.secretA, this.restA, this.from - 1);
+			prevSubsetB = this.getSubset(this.secretB, this.restB, this.from - 1);
+		}
+
+		for (int i = this.from; i < this.to; ++i) {
+			if((i - this.from) % BUDGET_INTERVAL == 0 && this.budget.isExhausted()) {
+				this.cancelled = true;
+				break;
+			}
+
+			OrderedTimes subsetA = this.getSubset(this.secretA, this.restA, i);
+			OrderedTimes subsetB = this.getSubset(this.secretB, this.restB, i);
+
+			boolean valid = BoxTest.boxTestSmaller(subsetA, subsetB, this.optimalBox, this.resolution);
+			this.significantDifferent.add(valid);
+
+			if(i != 0) {
+				boolean overlapA = BoxTest.boxTestOverlap(prevSubsetA, subsetA, this.optimalBox, this.resolution);
+				boolean overlapB = BoxTest.boxTestOverlap(prevSubsetB, subsetB, this.optimalBox, this.resolution);
+				this.overlapA.add(overlapA);
+				this.overlapB.add(overlapB);
+				valid &= overlapA && overlapB;
+			}
+
+			if(!valid) {
+				++countWrongResults;
+			}
+
+			prevSubsetA = subsetA;
+			prevSubsetB = subsetB;
+		}
+		return countWrongResults;
+	}
+
+	/**
+	 * This method returns the subset i of the secret. The rest
+	 * of the times is deducted at the beginning.
+	 *
+	 * @param secret
+	 * @param rest
+	 * @param i
+	 * @return OrderedTimes subset
+	 */
+	private OrderedTimes getSubset(Secret secret, int rest, int i) {
+		return secret.getBisectedTimes(rest + (this.smallestSize * i), this.smallestSize);
+	}
+
+	/**
+	 * This method returns true, if the range was cancelled
+	 * before all subsets were validated.
+	 *
+	 * @return boolean
+	 */
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	public ValidationVector getSignificantDifferent() {
+		return this.significantDifferent;
+	}
+
+	public ValidationVector getOverlapA() {
+		return this.overlapA;
+	}
+
+	public ValidationVector getOverlapB() {
+		return this.overlapB;
+	}
+}
@@ -0,0 +1,55 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+
+/**
+ * An object of this class holds the result of a two-sample
+ * test of a secret pair.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class TestResult {
+	private Secret secretA;
+	private Secret secretB;
+	private String name;
+	private double statistic;
+	private double pValue;
+
+	/**
+	 * @param secretA
+	 * @param secretB
+	 * @param name name of the test
+	 * @param statistic
+	 * @param pValue two-sided p-value
+	 */
+	public TestResult(Secret secretA, Secret secretB, String name, double statistic, double pValue) {
+		this.secretA = secretA;
+		this.secretB = secretB;
+		this.name = name;
+		this.statistic = statistic;
+		this.pValue = pValue;
+	}
+
+	public Secret getSecretA() {
+		return secretA;
+	}
+
+	public Secret getSecretB() {
+		return secretB;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public double getStatistic() {
+		return statistic;
+	}
+
+	public double getPValue() {
+		return pValue;
+	}
+}
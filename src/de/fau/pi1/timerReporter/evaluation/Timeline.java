@@ -3,7 +3,10 @@ package de.fau.pi1.timerReporter.evaluation;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.util.logging.Logger;
 
 import javax.imageio.ImageIO;
@@ -19,6 +22,10 @@ import de.fau.pi1.timerReporter.tools.Folder;
  * is significant smaller box too, the time line increments the box 12 to box 20.
  * So the range are brighter as the range between box 10 to box 11.
  * 
+ * With a finer resolution than percentiles the time line has one box per
+ * step of the resolution. If there are more boxes than pixel columns, a
+ * column shows the highest count of its boxes.
+ * 
  * @FauTimerReporter
  * @author Isabell Schmitt
  * @version 1.0
@@ -27,13 +34,25 @@ import de.fau.pi1.timerReporter.tools.Folder;
  */
 
 public class Timeline {
+	private static final int WIDTH = 606;
 	private String name = "";
-	private int[] timeline = new int[101];
+	private int resolution;
+	private long[] timeline;
 	private Color[] colorList = new Color[6];
 	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
 	
 	public Timeline(String name) {
+		this(name, 100);
+	}
+
+	/**
+	 * @param name
+	 * @param resolution number of steps between the first and the last box
+	 */
+	public Timeline(String name, int resolution) {
 		this.name = name;
+		this.resolution = resolution;
+		this.timeline = new long[Math.min(resolution + 1, WIDTH)];
 
 		for(int i = 0; i < this.timeline.length; i++) {
 			this.timeline[i] = 0;
@@ -50,6 +69,39 @@ public class Timeline {
 	public String getName() {
 		return name;
 	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * This method writes the resolution and the boxes of
+	 * the time line. The name is set when it is merged.
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	void write(DataOutputStream out) throws IOException {
+		out.writeInt(this.resolution);
+		for (int i = 0; i < this.timeline.length; ++i) {
+			out.writeLong(this.timeline[i]);
+		}
+	}
+
+	/**
+	 * This method reads a time line without name.
+	 *
+	 * @param in
+	 * @return Timeline
+	 * @throws IOException
+	 */
+	static Timeline read(DataInputStream in) throws IOException {
+		Timeline timeline = new Timeline("", in.readInt());
+		for (int i = 0; i < timeline.timeline.length; ++i) {
+			timeline.timeline[i] = in.readLong();
+		}
+		return timeline;
+	}
 	
 	/**
 	 * This method stores the graphic of the timeline.
@@ -77,7 +129,33 @@ public class Timeline {
 	 * @param box position
 	 */
 	public void incrementBox(int i) {
-		this.timeline[i]++;
+		this.timeline[this.getColumn(i)]++;
+	}
+	
+	/**
+	 * This method sets the number of windows which overlay 
+	 * at the box. If the box shares its pixel column with
+	 * other boxes, the column keeps the highest number.
+	 * 
+	 * @param i box position
+	 * @param count number of windows
+	 */
+	public void setBox(int i, long count) {
+		int column = this.getColumn(i);
+		this.timeline[column] = Math.max(this.timeline[column], count);
+	}
+
+	/**
+	 * This method returns the column of the box.
+	 * 
+	 * @param i box position
+	 * @return int column
+	 */
+	private int getColumn(int i) {
+		if(this.timeline.length == this.resolution + 1) {
+			return i;
+		}
+		return (int) ((long) i * WIDTH / (this.resolution + 1));
 	}
 	
 	/**
@@ -85,8 +163,8 @@ public class Timeline {
 	 * 
 	 * @return int
 	 */
-	private int findMax() {
-		int max = 0;
+	private long findMax() {
+		long max = 0;
 		for(int i = 0; i < this.timeline.length; i++) {
 			if (this.timeline[i] > max) {
 				max = timeline[i];
@@ -122,44 +200,45 @@ public class Timeline {
 	 * last box is the box stands for the percentile of 100. If the 
 	 * boxes 35-40 are white, it means that, most of the boxes in this 
 	 * range are significant smaller. The maximum of significant smaller 
-	 * boxes is contained in this range. 
+	 * boxes is contained in this range. With a finer resolution the 
+	 * boxes are narrower, down to one pixel column.
 	 * 
 	 * @param g
 	 */
 	private void paint(Graphics g)
 	{
 		double var = this.findMax()/5.0;
-		int i = 0;
-		while(i < timeline.length) {
-			
-			if( i == 0 || i == 20 || i == 40 || i == 60 || i == 80 || i == 100) {
-				g.setColor(this.colorList[0]);
-				g.drawLine(54 + (6*i), 56 , 54 + (6*i), (50 + 10));
-				g.drawString(i + "", 50+(6*i), (50+23));
-			}
+		int boxWidth = WIDTH / this.timeline.length;
+
+		for (int p = 0; p <= 100; p += 20) {
+			int x = 50 + (int) ((long) this.getColumn((int) ((long) p * this.resolution / 100)) * WIDTH / this.timeline.length);
+			g.setColor(this.colorList[0]);
+			g.drawLine(x + 4, 56 , x + 4, (50 + 10));
+			g.drawString(p + "", x, (50+23));
+		}
+
+		for (int i = 0; i < this.timeline.length; ++i) {
+			int x = 50 + (int) ((long) i * WIDTH / this.timeline.length);
 			
 			if(timeline[i] == 0) {
 				g.setColor(this.colorList[0]);
-				g.fill3DRect(50+(6*i), 50, 5, 5, true);
-				i++;
-				
-			} else {
-				if(timeline[i] <= var) {
-					g.setColor(this.colorList[1]);
-				} else if (timeline[i] <= (var*2)) {
-					g.setColor(this.colorList[2]);
-				} else if (timeline[i] <= (var*3)) {
-					g.setColor(this.colorList[3]);
-				} else if (timeline[i] <= (var*4)) {
-					g.setColor(this.colorList[4]);
-				} else if (timeline[i] <= (var*5)) {
-					g.setColor(this.colorList[5]);
-				}
-
-				g.fill3DRect(50+(6*i), 50, 5, 5, true);
-				i++;
+			} else if(timeline[i] <= var) {
+				g.setColor(this.colorList[1]);
+			} else if (timeline[i] <= (var*2)) {
+				g.setColor(this.colorList[2]);
+			} else if (timeline[i] <= (var*3)) {
+				g.setColor(this.colorList[3]);
+			} else if (timeline[i] <= (var*4)) {
+				g.setColor(this.colorList[4]);
+			} else if (timeline[i] <= (var*5)) {
+				g.setColor(this.colorList[5]);
 			}
 
+			if(boxWidth > 1) {
+				g.fill3DRect(x, 50, boxWidth - 1, 5, true);
+			} else {
+				g.fillRect(x, 50, 1, 5);
+			}
 		}
 	}
 }
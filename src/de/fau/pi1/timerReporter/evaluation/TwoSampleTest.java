@@ -0,0 +1,33 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import de.fau.pi1.timerReporter.dataset.OrderedTimes;
+
+/**
+ * This interface represents a two-sample test of the times of two secrets.
+ * The times are sorted already, so a test sweeps both time lists once and
+ * doesn't sort them again.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public interface TwoSampleTest {
+
+	/**
+	 * This method returns the name of the test.
+	 *
+	 * @return String name
+	 */
+	public String getName();
+
+	/**
+	 * This method tests if the times of A and B are drawn from
+	 * the same distribution.
+	 *
+	 * @param timesA
+	 * @param timesB
+	 * @return double[] statistic and two-sided p-value
+	 */
+	public double[] test(OrderedTimes timesA, OrderedTimes timesB);
+}
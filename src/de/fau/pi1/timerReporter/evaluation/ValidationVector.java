@@ -0,0 +1,161 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * An object of this class holds the results of the box tests of the
+ * validation phase as a vector of bits. A set bit is a successful box
+ * test, shown as "o", a clear bit an unsuccessful box test, shown as "x".
+ * The valid and invalid results are counted by the population count of
+ * the words.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class ValidationVector {
+	private long[] words = new long[1];
+	private int size = 0;
+
+	/**
+	 * This method adds the result of a box test.
+	 *
+	 * @param valid
+	 */
+	public void add(boolean valid) {
+		this.appendBits(valid ? 1L : 0L, 1);
+	}
+
+	/**
+	 * This method adds all results of the other vector.
+	 *
+	 * @param other
+	 */
+	public void append(ValidationVector other) {
+		for (int i = 0; i < other.size; i += 64) {
+			this.appendBits(other.words[i >>> 6], Math.min(64, other.size - i));
+		}
+	}
+
+	/**
+	 * This method appends the lowest bits of the word. All
+	 * higher bits of the word must be clear.
+	 *
+	 * @param word
+	 * @param bits number of bits, at most 64
+	 */
+	private void appendBits(long word, int bits) {
+		int end = this.size + bits;
+		if(((end + 63) >>> 6) > this.words.length) {
+			this.words = Arrays.copyOf(this.words, Math.max(this.words.length * 2, (end + 63) >>> 6));
+		}
+
+		int shift = this.size & 63;
+		this.words[this.size >>> 6] |= word << shift;
+		if(shift != 0 && shift + bits > 64) {
+			this.words[(this.size >>> 6) + 1] |= word >>> (64 - shift);
+		}
+		this.size = end;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * This method writes the results as words.
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	void write(DataOutputStream out) throws IOException {
+		out.writeInt(this.size);
+		for (int i = 0; i < (this.size + 63) >>> 6; ++i) {
+			out.writeLong(this.words[i]);
+		}
+	}
+
+	/**
+	 * This method reads the results written as words.
+	 *
+	 * @param in
+	 * @return ValidationVector
+	 * @throws IOException
+	 */
+	static ValidationVector read(DataInputStream in) throws IOException {
+		ValidationVector vector = new ValidationVector();
+		vector.size = in.readInt();
+		vector.words = new long[Math.max(1, (vector.size + 63) >>> 6)];
+		for (int i = 0; i < (vector.size + 63) >>> 6; ++i) {
+			vector.words[i] = in.readLong();
+		}
+		return vector;
+	}
+
+	/**
+	 * This method returns the number of successful box tests.
+	 *
+	 * @return int number of valid results
+	 */
+	public int countValid() {
+		int count = 0;
+		for (int i = 0; i < this.words.length; ++i) {
+			count += Long.bitCount(this.words[i]);
+		}
+		return count;
+	}
+
+	/**
+	 * This method returns the number of unsuccessful box tests.
+	 *
+	 * @return int number of invalid results
+	 */
+	public int countInvalid() {
+		return this.size - this.countValid();
+	}
+
+	/**
+	 * This method returns the results as graphic of "o" and "x".
+	 * The runs of equal results are found word by word.
+	 */
+	@Override
+	public String toString() {
+		char[] graphic = new char[this.size];
+		int pos = 0;
+		while(pos < this.size) {
+			boolean valid = this.isValid(pos);
+			int end = Math.min(this.nextChange(pos, valid), this.size);
+			Arrays.fill(graphic, pos, end, valid ? 'o' : 'x');
+			pos = end;
+		}
+		return new String(graphic);
+	}
+
+	private boolean isValid(int pos) {
+		return (this.words[pos >>> 6] & (1L << pos)) != 0;
+	}
+
+	/**
+	 * This method returns the first position from pos on with
+	 * another result than valid.
+	 *
+	 * @param pos
+	 * @param valid
+	 * @return int position of the next change
+	 */
+	private int nextChange(int pos, boolean valid) {
+		int index = pos >>> 6;
+		long word = (valid ? ~this.words[index] : this.words[index]) & (-1L << pos);
+		while(word == 0) {
+			if(++index == this.words.length) {
+				return index << 6;
+			}
+			word = valid ? ~this.words[index] : this.words[index];
+		}
+		return (index << 6) + Long.numberOfTrailingZeros(word);
+	}
+}
@@ -0,0 +1,251 @@
+package de.fau.pi1.timerReporter.evaluation;
+
+import java.util.Arrays;
+
+import de.fau.pi1.timerReporter.reader.MeasurementSink;
+
+/**
+ * An object of this class screens a measurement for leakage with Welch's
+ * t-test while the rows are read, in the style of dudect. Every secret
+ * keeps only the count, the mean and the sum of squared differences of its
+ * times for every crop, which are updated in one pass by the method of
+ * Welford. The memory is constant per secret, no secret is stored and no
+ * time list is sorted.
+ *
+ * A crop keeps only the times below a percentile of the first rows of the
+ * measurement, which cuts off the long tail of interrupted measurements.
+ * The first rows are buffered until the thresholds of the crops are
+ * selected from them. The first crop keeps all times.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class WelchScreen implements MeasurementSink {
+	private static final int WARMUP_SIZE = 10000;
+
+	private int[] cropPercentiles;
+	private long[] thresholds = null;
+	private int[] warmupSecrets = new int[WARMUP_SIZE];
+	private long[] warmupTimes = new long[WARMUP_SIZE];
+	private int warmupCount = 0;
+	private int numberCrops;
+	private long[] counts = new long[0];
+	private double[] means = new double[0];
+	private double[] m2s = new double[0];
+	private int numberSecrets = 0;
+	private long count = 0;
+
+	/**
+	 * @param cropPercentiles percentiles of the crops behind the crop of all times
+	 */
+	public WelchScreen(int[] cropPercentiles) {
+		this.cropPercentiles = cropPercentiles;
+		this.numberCrops = cropPercentiles.length + 1;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.MeasurementSink#add(int, long)
+	 */
+	public void add(int secret, long time) {
+		++this.count;
+		if(this.thresholds == null) {
+			this.warmupSecrets[this.warmupCount] = secret;
+			this.warmupTimes[this.warmupCount] = time;
+			if(++this.warmupCount == WARMUP_SIZE) {
+				this.selectThresholds();
+			}
+			return;
+		}
+		this.update(secret, time);
+	}
+
+	/**
+	 * This method selects the thresholds of the crops, if the
+	 * measurement is shorter than the buffered first rows. It
+	 * must be called before the t values are read.
+	 */
+	public void flush() {
+		if(this.thresholds == null) {
+			this.selectThresholds();
+		}
+	}
+
+	/**
+	 * This method returns the t value of Welch's t-test of the
+	 * secrets A and B in the crop or 0, if a secret has less than
+	 * two times in the crop.
+	 *
+	 * @param secretA
+	 * @param secretB
+	 * @param crop
+	 * @return double t value
+	 */
+	public double getT(int secretA, int secretB, int crop) {
+		int a = secretA * this.numberCrops + crop;
+		int b = secretB * this.numberCrops + crop;
+		if(this.counts[a] < 2 || this.counts[b] < 2) {
+			return 0;
+		}
+
+		double varianceA = this.m2s[a] / (this.counts[a] - 1);
+		double varianceB = this.m2s[b] / (this.counts[b] - 1);
+		double error = Math.sqrt(varianceA / this.counts[a] + varianceB / this.counts[b]);
+		if(error == 0) {
+			return 0;
+		}
+		return (this.means[a] - this.means[b]) / error;
+	}
+
+	/**
+	 * This method returns the pair and the crop with the biggest
+	 * absolute t value.
+	 *
+	 * @return int[] secret A, secret B and crop or null, if there is no pair
+	 */
+	public int[] getMaximum() {
+		int[] maximum = null;
+		double maximumT = -1;
+		for (int a = 0; a < this.numberSecrets; ++a) {
+			for (int b = a + 1; b < this.numberSecrets; ++b) {
+				for (int crop = 0; crop < this.numberCrops; ++crop) {
+					double t = Math.abs(this.getT(a, b, crop));
+					if(t > maximumT) {
+						maximumT = t;
+						maximum = new int[] {a, b, crop};
+					}
+				}
+			}
+		}
+		return maximum;
+	}
+
+	/**
+	 * This method returns the percentile of the crop
+	 * or 100 for the crop of all times.
+	 *
+	 * @param crop
+	 * @return int percentile
+	 */
+	public int getCropPercentile(int crop) {
+		return (crop == 0) ? 100 : this.cropPercentiles[crop - 1];
+	}
+
+	/**
+	 * This method returns the number of times of the secret
+	 * in the crop.
+	 *
+	 * @param secret
+	 * @param crop
+	 * @return long number of times
+	 */
+	public long getCount(int secret, int crop) {
+		return this.counts[secret * this.numberCrops + crop];
+	}
+
+	public int getNumberSecrets() {
+		return numberSecrets;
+	}
+
+	/**
+	 * This method returns the number of screened rows.
+	 *
+	 * @return long number of rows
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * This method selects the thresholds of the crops from the
+	 * buffered rows and adds the buffered rows to the moments.
+	 */
+	private void selectThresholds() {
+		this.thresholds = new long[this.numberCrops];
+		this.thresholds[0] = Long.MAX_VALUE;
+		long[] times = Arrays.copyOf(this.warmupTimes, this.warmupCount);
+		for (int crop = 1; crop < this.numberCrops; ++crop) {
+			int pos = (int) ((long) this.cropPercentiles[crop - 1] * times.length / 100);
+			this.thresholds[crop] = (times.length == 0) ? Long.MAX_VALUE : select(times, Math.min(pos, times.length - 1));
+		}
+
+		for (int i = 0; i < this.warmupCount; ++i) {
+			this.update(this.warmupSecrets[i], this.warmupTimes[i]);
+		}
+		this.warmupSecrets = null;
+		this.warmupTimes = null;
+	}
+
+	/**
+	 * This method adds a time to the moments of the secret in every
+	 * crop, which keeps the time.
+	 *
+	 * @param secret
+	 * @param time
+	 */
+	private void update(int secret, long time) {
+		if(secret >= this.numberSecrets) {
+			this.numberSecrets = secret + 1;
+			int capacity = this.numberSecrets * this.numberCrops;
+			if(capacity > this.counts.length) {
+				capacity = Math.max(capacity, this.counts.length * 2);
+				this.counts = Arrays.copyOf(this.counts, capacity);
+				this.means = Arrays.copyOf(this.means, capacity);
+				this.m2s = Arrays.copyOf(this.m2s, capacity);
+			}
+		}
+
+		int offset = secret * this.numberCrops;
+		for (int crop = 0; crop < this.numberCrops; ++crop) {
+			if(time < this.thresholds[crop] || crop == 0) {
+				int i = offset + crop;
+				++this.counts[i];
+				double delta = time - this.means[i];
+				this.means[i] += delta / this.counts[i];
+				this.m2s[i] += delta * (time - this.means[i]);
+			}
+		}
+	}
+
+	/**
+	 * This method selects the time with the rank by quick select.
+	 * The order of the times is changed.
+	 *
+	 * @param times
+	 * @param rank
+	 * @return long time with the rank
+	 */
+	private static long select(long[] times, int rank) {
+		int low = 0;
+		int high = times.length - 1;
+		while(low < high) {
+			long pivot = times[(low + high) >>> 1];
+			int i = low;
+			int j = high;
+			while(i <= j) {
+				while(times[i] < pivot) {
+					++i;
+				}
+				while(times[j] > pivot) {
+					--j;
+				}
+				if(i <= j) {
+					long time = times[i];
+					times[i] = times[j];
+					times[j] = time;
+					++i;
+					--j;
+				}
+			}
+			if(rank <= j) {
+				high = j;
+			} else if(rank >= i) {
+				low = i;
+			} else {
+				return times[rank];
+			}
+		}
+		return times[rank];
+	}
+}
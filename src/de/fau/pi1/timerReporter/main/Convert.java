@@ -0,0 +1,81 @@
+package de.fau.pi1.timerReporter.main;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import com.martiansoftware.jsap.FlaggedOption;
+import com.martiansoftware.jsap.JSAP;
+import com.martiansoftware.jsap.JSAPException;
+import com.martiansoftware.jsap.JSAPResult;
+
+import de.fau.pi1.timerReporter.reader.BinaryConverter;
+import de.fau.pi1.timerReporter.reader.BinaryFormat;
+
+/**
+ * This class converts a csv input file into the binary measurement format,
+ * which can be read with the binary reader.
+ *
+ * Usage: java -cp ReportingTool.jar de.fau.pi1.timerReporter.main.Convert
+ * --inputFile=input.csv --outputFile=input.bin (--encoding=delta)
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @since 17.10.2026
+ *
+ */
+public class Convert {
+
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+
+	/**
+	 * @param args
+	 */
+	public static void main(String[] args) {
+		JSAP jsap = new JSAP();
+		try {
+			FlaggedOption inputFile = new FlaggedOption("inputFile")
+			.setShortFlag('i').setLongFlag("inputFile").setRequired(true);
+			inputFile.setHelp("Path and name of the csv file containing the measurements.");
+			jsap.registerParameter(inputFile);
+
+			FlaggedOption outputFile = new FlaggedOption("outputFile")
+			.setShortFlag('o').setLongFlag("outputFile").setRequired(true);
+			outputFile.setHelp("Path and name of the binary output file.");
+			jsap.registerParameter(outputFile);
+
+			FlaggedOption encoding = new FlaggedOption("encoding")
+			.setLongFlag("encoding").setDefault("delta");
+			encoding.setHelp("Encoding of the time column: plain, packed or delta (default).");
+			jsap.registerParameter(encoding);
+		} catch (JSAPException e) {
+		}
+
+		JSAPResult result = jsap.parse(args);
+		if(!result.success()) {
+			System.out.println("  Usage: java -cp ReportingTool.jar " + Convert.class.getName() + " " + jsap.getUsage());
+			System.out.println();
+			System.out.println(jsap.getHelp());
+			System.exit(1);
+		}
+
+		int encoding = BinaryFormat.getEncoding(result.getString("encoding"));
+		if(encoding < 0) {
+			logger.warning("No valide input for the value of encoding.");
+			System.exit(1);
+		}
+
+		BinaryConverter converter = new BinaryConverter(encoding);
+		try {
+			converter.convert(new File(result.getString("inputFile")), new File(result.getString("outputFile")));
+		} catch(NumberFormatException nfe) {
+			logger.warning("NumberFormatException in line " + (converter.getLineCount() + 1) + ": " + nfe.getMessage());
+			System.exit(1);
+		} catch (IOException e) {
+			logger.warning("E/A-Error: " + e.getMessage());
+			System.exit(1);
+		}
+
+		logger.info("Converted " + converter.getLineCount() + " measurements into " + result.getString("outputFile") + ".");
+	}
+}
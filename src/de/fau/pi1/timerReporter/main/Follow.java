@@ -0,0 +1,268 @@
+package de.fau.pi1.timerReporter.main;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.martiansoftware.jsap.FlaggedOption;
+import com.martiansoftware.jsap.JSAP;
+import com.martiansoftware.jsap.JSAPException;
+import com.martiansoftware.jsap.JSAPResult;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.dataset.SecretStatistics;
+import de.fau.pi1.timerReporter.evaluation.BoxTest;
+import de.fau.pi1.timerReporter.evaluation.Budget;
+import de.fau.pi1.timerReporter.evaluation.SampleSizeSearch;
+import de.fau.pi1.timerReporter.evaluation.StatisticEvaluation;
+import de.fau.pi1.timerReporter.evaluation.Timeline;
+import de.fau.pi1.timerReporter.reader.FileTail;
+import de.fau.pi1.timerReporter.reader.RowBatch;
+
+/**
+ * This class follows a growing csv input file while the measurement runs.
+ * A background thread reads the appended rows into a bounded queue. The
+ * rows are added to the secrets at once, and after every interval the new
+ * times are sorted and merged into the sorted times, the box test of every
+ * pair is searched again and a small status file is replaced. No plot and
+ * no report is written.
+ *
+ * Usage: java -cp ReportingTool.jar de.fau.pi1.timerReporter.main.Follow
+ * --inputFile=input.csv (--statusFile=status.csv) (--interval=10)
+ * (--duration=0) (--resolution=percent)
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @since 17.10.2026
+ *
+ */
+public class Follow {
+
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+	private static final int QUEUE_SIZE = 16;
+	private static final long POLL_MILLIS = 200;
+
+	private String inputFile;
+	private File statusFile;
+	private int resolution;
+	private Budget budget = new Budget(0, 0);
+	private ArrayList<Secret> secrets = new ArrayList<Secret>();
+	private ArrayList<Secret> pending = new ArrayList<Secret>();
+	private int rowCounter = 0;
+
+	/**
+	 * @param inputFile
+	 * @param statusFile
+	 * @param resolution resolution of the box bounds or BoxTest.EXACT
+	 */
+	public Follow(String inputFile, File statusFile, int resolution) {
+		this.inputFile = inputFile;
+		this.statusFile = statusFile;
+		this.resolution = resolution;
+	}
+
+	/**
+	 * @param args
+	 */
+	public static void main(String[] args) {
+		JSAP jsap = new JSAP();
+		try {
+			FlaggedOption inputFile = new FlaggedOption("inputFile")
+			.setShortFlag('i').setLongFlag("inputFile").setRequired(true);
+			inputFile.setHelp("Path and name of the csv file containing the measurements.");
+			jsap.registerParameter(inputFile);
+
+			FlaggedOption statusFile = new FlaggedOption("statusFile")
+			.setLongFlag("statusFile").setDefault("status.csv");
+			statusFile.setHelp("Path and name of the status file, which is replaced after every interval (default status.csv).");
+			jsap.registerParameter(statusFile);
+
+			FlaggedOption interval = new FlaggedOption("interval")
+			.setLongFlag("interval").setDefault("10");
+			interval.setHelp("Seconds between two evaluations of the box test (default 10).");
+			jsap.registerParameter(interval);
+
+			FlaggedOption duration = new FlaggedOption("duration")
+			.setLongFlag("duration").setDefault("0");
+			duration.setHelp("Seconds to follow the input file, 0 follows it until the process is stopped (default 0).");
+			jsap.registerParameter(duration);
+
+			FlaggedOption resolution = new FlaggedOption("resolution")
+			.setLongFlag("resolution").setDefault("percent");
+			resolution.setHelp("Resolution of the box bounds, percent, permille, permyriad or exact (default percent).");
+			jsap.registerParameter(resolution);
+		} catch (JSAPException e) {
+		}
+
+		JSAPResult result = jsap.parse(args);
+		if(!result.success()) {
+			System.out.println("  Usage: java -cp ReportingTool.jar " + Follow.class.getName() + " " + jsap.getUsage());
+			System.out.println();
+			System.out.println(jsap.getHelp());
+			System.exit(1);
+		}
+
+		long interval = 0;
+		long duration = -1;
+		try {
+			interval = Long.parseLong(result.getString("interval"));
+			duration = Long.parseLong(result.getString("duration"));
+		} catch(NumberFormatException nfe) {
+			interval = 0;
+		}
+		if(interval <= 0 || duration < 0) {
+			logger.warning("No valide input for the value of interval or duration.");
+			System.exit(1);
+		}
+
+		Follow follow = new Follow(result.getString("inputFile"), new File(result.getString("statusFile")), StatisticEvaluation.getResolution(result.getString("resolution")));
+		follow.follow(interval * 1000, duration * 1000);
+	}
+
+	/**
+	 * This method follows the input file and evaluates the secrets
+	 * after every interval until the duration has passed.
+	 *
+	 * @param intervalMillis
+	 * @param durationMillis duration or 0 to follow the file forever
+	 */
+	public void follow(long intervalMillis, long durationMillis) {
+		if(!new File(this.inputFile).isFile()) {
+			logger.warning("File " + this.inputFile + " not found.");
+			System.exit(1);
+		}
+
+		ArrayBlockingQueue<RowBatch> queue = new ArrayBlockingQueue<RowBatch>(QUEUE_SIZE);
+		FileTail tail = new FileTail(this.inputFile, queue, POLL_MILLIS);
+		Thread thread = new Thread(tail, "follow " + this.inputFile);
+		thread.setDaemon(true);
+		thread.start();
+
+		long start = System.currentTimeMillis();
+		long nextEvaluation = start + intervalMillis;
+		try {
+			long end = (durationMillis == 0) ? Long.MAX_VALUE : start + durationMillis;
+			while(System.currentTimeMillis() < end) {
+				RowBatch batch = queue.poll(Math.max(1, Math.min(nextEvaluation, end) - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+				if(batch != null) {
+					this.add(batch);
+				}
+				if(System.currentTimeMillis() >= nextEvaluation) {
+					this.evaluate();
+					nextEvaluation = System.currentTimeMillis() + intervalMillis;
+				}
+				if(tail.isFailed()) {
+					System.exit(1);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		tail.stop();
+		thread.interrupt();
+		for (RowBatch batch = queue.poll(); batch != null; batch = queue.poll()) {
+			this.add(batch);
+		}
+		this.evaluate();
+	}
+
+	/**
+	 * This method adds the rows of the batch to the unsorted times
+	 * of the secrets. The statistics are updated at once.
+	 *
+	 * @param batch
+	 */
+	private void add(RowBatch batch) {
+		for (String name : batch.getNewNames()) {
+			this.secrets.add(null);
+			this.pending.add(new Secret(name, "secret" + this.pending.size()));
+		}
+		for (int row = 0; row < batch.size(); ++row) {
+			this.pending.get(batch.getSecret(row)).addTime(this.rowCounter, batch.getTime(row));
+			++this.rowCounter;
+		}
+	}
+
+	/**
+	 * This method sorts the new times of every secret, merges them into
+	 * the sorted times and writes the status with the optimal box and
+	 * the smallest size of every pair.
+	 */
+	private void evaluate() {
+		for (int i = 0; i < this.pending.size(); ++i) {
+			Secret newTimes = this.pending.get(i);
+			if(newTimes.size() == 0) {
+				continue;
+			}
+			newTimes.sortTimes();
+			if(this.secrets.get(i) == null) {
+				this.secrets.set(i, newTimes);
+			} else {
+				this.secrets.get(i).merge(newTimes);
+			}
+			this.pending.set(i, new Secret(newTimes.getName(), newTimes.getFileName()));
+		}
+
+		StringBuilder status = new StringBuilder();
+		status.append("Input File;Measurements;Updated;\n");
+		status.append(this.inputFile + ";" + this.rowCounter + ";" + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()) + ";\n\n");
+		status.append("Secret;Measurements;Min;Median;Mean;Standard Deviation;\n");
+		for (Secret secret : this.secrets) {
+			if(secret != null) {
+				SecretStatistics statistics = secret.getStatistics();
+				status.append(secret.getName() + ";" + statistics.getCount() + ";" + statistics.getMin() + ";" + statistics.getMedian() + ";" + statistics.getMean() + ";" + statistics.getStandardDeviation() + ";\n");
+			}
+		}
+
+		status.append("\nSecretA < SecretB;Optimal Box;Smallest Size;\n");
+		int boxes = 0;
+		for (Secret secretA : this.secrets) {
+			for (Secret secretB : this.secrets) {
+				if(secretA == null || secretB == null || secretA == secretB) {
+					continue;
+				}
+				Timeline timeline = new Timeline("", BoxTest.getResolution(this.resolution, secretA, secretB));
+				double[] optimalBox = BoxTest.optimalBox(secretA, secretB, timeline, this.resolution);
+				if(optimalBox[0] != 0 || optimalBox[1] != 0) {
+					int smallestSize = SampleSizeSearch.bisectSmallestSize(secretA, secretB, this.resolution, this.budget);
+					status.append(secretA.getName() + "<" + secretB.getName() + ";" + optimalBox[0] + "-" + optimalBox[1] + ";" + smallestSize + ";\n");
+					++boxes;
+				} else {
+					status.append(secretA.getName() + "<" + secretB.getName() + ";;;\n");
+				}
+			}
+		}
+
+		this.writeStatus(status.toString());
+		logger.info("follow: " + this.rowCounter + " measurements, " + boxes + " pairs with an optimal box");
+	}
+
+	/**
+	 * This method replaces the status file. The status is written
+	 * to a temporary file first, so a reader never sees a half
+	 * written status.
+	 *
+	 * @param status
+	 */
+	private void writeStatus(String status) {
+		File tmp = new File(this.statusFile.getPath() + ".tmp");
+		try {
+			BufferedWriter bw = new BufferedWriter(new FileWriter(tmp));
+			bw.write(status);
+			bw.close();
+			if(!tmp.renameTo(this.statusFile) && !(this.statusFile.delete() && tmp.renameTo(this.statusFile))) {
+				logger.warning("Error while writing the status file " + this.statusFile + ".");
+			}
+		} catch (IOException e) {
+			logger.warning("Error while writing the status file " + this.statusFile + ".");
+		}
+	}
+}
@@ -9,9 +9,17 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import de.fau.pi1.timerReporter.dataset.Dataset;
+import de.fau.pi1.timerReporter.evaluation.SequentialTest;
 import de.fau.pi1.timerReporter.evaluation.StatisticEvaluation;
 import de.fau.pi1.timerReporter.plots.PlotPool;
+import de.fau.pi1.timerReporter.reader.Reader;
+import de.fau.pi1.timerReporter.reader.ReaderBinary;
+import de.fau.pi1.timerReporter.reader.ReaderCached;
 import de.fau.pi1.timerReporter.reader.ReaderCsv;
+import de.fau.pi1.timerReporter.reader.ReaderIncremental;
+import de.fau.pi1.timerReporter.reader.ReaderMapped;
+import de.fau.pi1.timerReporter.reader.ReaderParallel;
+import de.fau.pi1.timerReporter.reader.ReaderSequential;
 import de.fau.pi1.timerReporter.tools.Conf;
 import de.fau.pi1.timerReporter.tools.FileId;
 import de.fau.pi1.timerReporter.tools.Folder;
@@ -45,8 +53,14 @@ public class Main {
 		}
 		report = getReport();
 
+		if (Integer.parseInt(Conf.get("bootstrap")) < 0 || Integer.parseInt(Conf.get("timeBudget")) < 0
+				|| Integer.parseInt(Conf.get("memoryBudget")) < 0 || Integer.parseInt(Conf.get("cacheSize")) < 0) {
+			logger.warning("The number of bootstrap replicates, the time budget, the memory budget and the cache size must not be negative.");
+			System.exit(1);
+		}
+
 		// create new data set with secrets and times
-		ReaderCsv reader = new ReaderCsv();
+		Reader reader = getReader();
 		Dataset dataset = new Dataset(reader);
 		dataset.setName(Conf.get("name"));
 
@@ -73,6 +87,12 @@ public class Main {
 		statisticEvaluation.calibrationPhase();
 		
 		statisticEvaluation.printBoxTestResults(new File(report + Folder.getFileSep() + FileId.getId() + "-BoxTestResult.csv"));
+		if(Integer.parseInt(Conf.get("bootstrap")) > 0) {
+			statisticEvaluation.printBootstrapResults(new File(report + Folder.getFileSep() + FileId.getId() + "-BootstrapResult.csv"));
+		}
+		if(Conf.get("pairs").equals("ranked")) {
+			statisticEvaluation.printRanking(new File(report + Folder.getFileSep() + FileId.getId() + "-Ranking.csv"));
+		}
 
 		// store the time lines
 		ArrayList<String> timelineNames = statisticEvaluation.storeTimelines(report + sep + "images" + sep);
@@ -81,16 +101,19 @@ public class Main {
 		plotPool.close();
 
 		// write results in html and pdf
-		new WriteHTML(dataset, report, plotPool).write();
+		new WriteHTML(dataset, report, plotPool, statisticEvaluation.getTestResults(), statisticEvaluation.getBoxTestResults()).write();
 
 		try {
-			new WritePDF(dataset, report, plotPool, timelineNames).write();
+			new WritePDF(dataset, report, plotPool, timelineNames, statisticEvaluation.getTestResults(), statisticEvaluation.getBoxTestResults()).write();
 		} catch (Exception e) {
 			e.printStackTrace();
 			logger.warning("Error while writing the pdf.");
 			System.exit(1);
 		}
 
+		// close the sample files before the folder tmp is deleted
+		dataset.close();
+
 		//delet the folder tmp
 		Folder.deleteTmp();
 	}
@@ -117,6 +140,60 @@ public class Main {
 		return report;
 	}
 
+	/**
+	 * This method returns the reader of the input file
+	 * selected in the configuration. If a cache directory
+	 * is set, the reader is used through the snapshot cache.
+	 * 
+	 * @return Reader
+	 */
+	public static Reader getReader() {
+		Reader reader;
+		if (Conf.get("reader").equals("mapped")) {
+			reader = new ReaderMapped();
+		} else if (Conf.get("reader").equals("parallel")) {
+			reader = new ReaderParallel();
+		} else if (Conf.get("reader").equals("binary")) {
+			reader = new ReaderBinary();
+		} else if (Conf.get("reader").equals("sequential")) {
+			double alpha = Double.parseDouble(Conf.get("sequentialAlpha"));
+			if (!(alpha > 0 && alpha < 1) || Integer.parseInt(Conf.get("looks")) < 1) {
+				logger.warning("The sequential error rate must be between 0 and 1 and the number of looks must be positive.");
+				System.exit(1);
+			}
+			if (Conf.get("cacheDir") != null || Conf.get("storage").equals("sketch")) {
+				logger.warning("The sequential reader reads a prefix of the input file, it can't be used with the snapshot cache or the sketch storage.");
+				System.exit(1);
+			}
+			reader = new ReaderSequential(new SequentialTest());
+		} else if (Conf.get("reader").equals("incremental")) {
+			if (Conf.get("cacheDir") == null) {
+				logger.warning("The incremental reader keeps the state of the previous run in the cache directory, you have to specify it.");
+				System.exit(1);
+			}
+			reader = new ReaderIncremental();
+		} else {
+			reader = new ReaderCsv();
+		}
+
+		if (Conf.get("storage").equals("sketch")) {
+			double error = Double.parseDouble(Conf.get("sketchError"));
+			if (!(error > 0 && error < 1)) {
+				logger.warning("The sketch error must be between 0 and 1.");
+				System.exit(1);
+			}
+			if (Conf.get("cacheDir") != null) {
+				logger.warning("The snapshot cache needs every time, it can't be used with the sketch storage.");
+				System.exit(1);
+			}
+		}
+
+		if (Conf.get("cacheDir") != null && !Conf.get("reader").equals("incremental")) {
+			return new ReaderCached(reader);
+		}
+		return reader;
+	}
+
 	/**
 	 * This method sets the logger level to finest.
 	 * 
@@ -0,0 +1,157 @@
+package de.fau.pi1.timerReporter.main;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.logging.Logger;
+
+import com.martiansoftware.jsap.FlaggedOption;
+import com.martiansoftware.jsap.JSAP;
+import com.martiansoftware.jsap.JSAPException;
+import com.martiansoftware.jsap.JSAPResult;
+
+import de.fau.pi1.timerReporter.evaluation.WelchScreen;
+import de.fau.pi1.timerReporter.reader.LineScanner;
+import de.fau.pi1.timerReporter.reader.SecretDictionary;
+
+/**
+ * This class screens a csv input file for leakage with Welch's t-test
+ * before the full evaluation. The file is read in steps and the screen
+ * stops as soon as the t value of a pair of secrets exceeds the threshold.
+ * No secret is stored and no time is sorted, so the screen runs in
+ * constant memory.
+ *
+ * Usage: java -cp ReportingTool.jar de.fau.pi1.timerReporter.main.Screen
+ * --inputFile=input.csv (--crop=50,90) (--threshold=4.5)
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @since 17.10.2026
+ *
+ */
+public class Screen {
+
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+	private static final long STEP_SIZE = 1L << 25;
+
+	/**
+	 * @param args
+	 */
+	public static void main(String[] args) {
+		JSAP jsap = new JSAP();
+		try {
+			FlaggedOption inputFile = new FlaggedOption("inputFile")
+			.setShortFlag('i').setLongFlag("inputFile").setRequired(true);
+			inputFile.setHelp("Path and name of the csv file containing the measurements.");
+			jsap.registerParameter(inputFile);
+
+			FlaggedOption crop = new FlaggedOption("crop")
+			.setLongFlag("crop").setDefault("none");
+			crop.setHelp("Comma separated percentiles of the first measurements, below which the times are tested as well (default none).");
+			jsap.registerParameter(crop);
+
+			FlaggedOption threshold = new FlaggedOption("threshold")
+			.setLongFlag("threshold").setDefault("4.5");
+			threshold.setHelp("Absolute t value, which stops the screen with a leakage (default 4.5).");
+			jsap.registerParameter(threshold);
+		} catch (JSAPException e) {
+		}
+
+		JSAPResult result = jsap.parse(args);
+		if(!result.success()) {
+			System.out.println("  Usage: java -cp ReportingTool.jar " + Screen.class.getName() + " " + jsap.getUsage());
+			System.out.println();
+			System.out.println(jsap.getHelp());
+			System.exit(1);
+		}
+
+		int[] crops = null;
+		double threshold = 0;
+		try {
+			crops = getCrops(result.getString("crop"));
+			threshold = Double.parseDouble(result.getString("threshold"));
+		} catch(NumberFormatException nfe) {
+			crops = null;
+		}
+		if(crops == null || !(threshold > 0)) {
+			logger.warning("No valide input for the value of crop or threshold.");
+			System.exit(1);
+		}
+
+		WelchScreen screen = new WelchScreen(crops);
+		SecretDictionary dictionary = new SecretDictionary();
+		LineScanner scanner = null;
+		int[] maximum = null;
+		double maximumT = 0;
+		try {
+			RandomAccessFile file = new RandomAccessFile(new File(result.getString("inputFile")), "r");
+			try {
+				FileChannel channel = file.getChannel();
+				scanner = new LineScanner(LineScanner.detectDelimiter(channel), dictionary, screen);
+				long size = channel.size();
+				long position = 0;
+				while(position < size) {
+					long end = (size - position > STEP_SIZE) ? LineScanner.nextLineStart(channel, position + STEP_SIZE) : size;
+					scanner.scan(channel, position, end);
+					position = end;
+					if(position == size) {
+						screen.flush();
+					}
+
+					maximum = screen.getMaximum();
+					maximumT = (maximum == null) ? 0 : screen.getT(maximum[0], maximum[1], maximum[2]);
+					logger.info("screen: " + screen.getCount() + " measurements (" + (100 * position / size) + "%), max |t| = " + String.format("%.2f", Math.abs(maximumT)));
+					if(Math.abs(maximumT) >= threshold) {
+						break;
+					}
+				}
+			} finally {
+				file.close();
+			}
+		} catch(NumberFormatException nfe) {
+			logger.warning("NumberFormatException in line " + (scanner.getLineCount() + 1) + ": " + nfe.getMessage());
+			System.exit(1);
+		} catch (IOException e) {
+			logger.warning("E/A-Error: " + e.getMessage());
+			System.exit(1);
+		}
+
+		if(maximum == null) {
+			logger.warning("The input file contains less than two secrets.");
+			System.exit(1);
+		}
+
+		String secretA = dictionary.getName(maximum[0]);
+		String secretB = dictionary.getName(maximum[1]);
+		String crop = (maximum[2] == 0) ? "all times" : "times below the " + screen.getCropPercentile(maximum[2]) + ". percentile";
+		String t = String.format("%.2f", maximumT);
+		if(Math.abs(maximumT) >= threshold) {
+			logger.info("Leakage: Welch's t-test of " + secretA + " and " + secretB + " has t = " + t + " on the " + crop + " after " + screen.getCount() + " measurements.");
+		} else {
+			logger.info("No leakage: the biggest t value is " + t + " of " + secretA + " and " + secretB + " on the " + crop + " after " + screen.getCount() + " measurements.");
+		}
+	}
+
+	/**
+	 * This method parses the comma separated crop percentiles.
+	 *
+	 * @param crop
+	 * @return int[] percentiles or null, if a percentile is not between 1 and 99
+	 */
+	private static int[] getCrops(String crop) {
+		if(crop.equals("none")) {
+			return new int[0];
+		}
+
+		String[] values = crop.split(",");
+		int[] crops = new int[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			crops[i] = Integer.parseInt(values[i].trim());
+			if(crops[i] < 1 || crops[i] > 99) {
+				return null;
+			}
+		}
+		return crops;
+	}
+}
@@ -1,15 +1,10 @@
 package de.fau.pi1.timerReporter.plots;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.util.HashMap;
 
 import de.fau.pi1.timerReporter.dataset.Dataset;
-import de.fau.pi1.timerReporter.dataset.Secret;
 import de.fau.pi1.timerReporter.tools.FileId;
-import de.fau.pi1.timerReporter.tools.Folder;
 import de.fau.pi1.timerReporter.tools.Replacer;
 
 /**
@@ -22,13 +17,12 @@ import de.fau.pi1.timerReporter.tools.Replacer;
  *
  */
 public class Cdf extends Plot {
-	private String uniqueName = null;
+	private PlotData plotData;
 	private Dataset dataSet;
 	
-	protected Cdf(Dataset dataSet, double lowerBound, double upperBound) {
-		this.dataSet = dataSet;
-		Folder.checkDir("reportingTool_tmp" + sep);
-		this.writeMetadata(lowerBound, upperBound);
+	protected Cdf(PlotData plotData) {
+		this.plotData = plotData;
+		this.dataSet = plotData.getDataSet();
 	}
 	
 	@Override
@@ -43,7 +37,7 @@ public class Cdf extends Plot {
 
 		StringBuilder secrets = new StringBuilder();
 		for(int i = 0; i < dataSet.getSecrets().size(); i++){
-			secrets.append("\"" + "reportingTool_tmp" + gSep + uniqueName + "-" + "cdf_" + dataSet.getSecrets().get(i).getFileName() + ".txt" + "\"" +
+			secrets.append("\"" + plotData.getDataFile("cdf", dataSet.getSecrets().get(i)) + "\"" +
 					" using 2:3 title \"Secret " + dataSet.getSecrets().get(i).getName().replaceAll("([\\\\{}_\\^#&$%~\"])", "") + "\" with linespoints");
 			if((i + 1) < dataSet.getSecrets().size()) {
 				secrets.append(",\\\n");
@@ -55,44 +49,4 @@ public class Cdf extends Plot {
 		
 		return replacedTemplate;
 	}
-	
-	/**
-	 * This method writes the cdf meta data file.
-	 * 
-	 * @param lowerBound
-	 * @param upperBound
-	 */
-	private void writeMetadata(double lowerBound, double upperBound) {
-		uniqueName = FileId.getUniqueName();
-
-		for (Secret secret : this.dataSet.getSecrets()) {
-
-			int lowerPos = (int)((secret.getTimes().size()-1) * lowerBound);
-			int upperPos = (int)((secret.getTimes().size()-1) * upperBound);
-			double prob = 0;
-			Long oldTime = secret.getTimes().get(lowerPos).getTime();
-			int size = ((upperPos - lowerPos) + 1);
-			
-			try {
-				File file = new File("reportingTool_tmp" + sep + uniqueName + "-" + "cdf_" + secret.getFileName() + ".txt");
-				FileWriter writer = new FileWriter(file);
-				BufferedWriter bw = new BufferedWriter(writer);
-
-				for (int i = lowerPos; i <= upperPos; i++) {
-					if (oldTime.equals(secret.getTimes().get(i).getTime()) == false) {
-						bw.write(i + "\t" + oldTime + "\t" + prob + "\n");
-						oldTime = secret.getTimes().get(i).getTime();
-					}
-					
-					prob = prob + 1.0 / size;
-				}
-				
-				bw.write(size + "\t" + oldTime + "\t" + prob + "\n");
-				bw.close();
-			} catch (IOException e){
-				logger.warning("Error writing file of cdf.");
-				System.exit(1);
-			} 
-		}
-	}
 }
@@ -0,0 +1,379 @@
+package de.fau.pi1.timerReporter.plots;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+import de.fau.pi1.timerReporter.dataset.Dataset;
+import de.fau.pi1.timerReporter.dataset.OrderedSampleStore;
+import de.fau.pi1.timerReporter.dataset.OrderedTimes;
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.tools.Conf;
+import de.fau.pi1.timerReporter.tools.FileId;
+import de.fau.pi1.timerReporter.tools.Folder;
+
+/**
+ * An object of this class writes the data files of the scatterplot, the
+ * box plot, the cdf and the histogram of one bound window. The box plot,
+ * the cdf and the histogram of a secret are read in one walk over the
+ * runs of equal sorted times. Only the scatterplot walks the secret
+ * numbers, because it keeps the measurement order. The plots reference
+ * the written files in their gnuplot files.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class PlotData {
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+	private static final int numBin = Integer.parseInt(Conf.get("numBin"));
+
+	private final String uniqueName = FileId.getUniqueName();
+	private String sep = Folder.getFileSep();
+	private String gSep = Folder.getFileGSep();
+	private Dataset dataSet;
+	private double lowerBound;
+	private double upperBound;
+	private double[] binEdges;
+
+	/**
+	 * @param dataSet
+	 * @param lowerBound
+	 * @param upperBound
+	 */
+	protected PlotData(Dataset dataSet, double lowerBound, double upperBound) {
+		this.dataSet = dataSet;
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+		Folder.checkDir("reportingTool_tmp" + sep);
+		this.writeMetadata();
+	}
+
+	public Dataset getDataSet() {
+		return dataSet;
+	}
+
+	/**
+	 * This method returns the path of the data file of a plot and
+	 * a secret, as it is referenced in the gnuplot file.
+	 *
+	 * @param plot name of the plot
+	 * @param secret
+	 * @return String path of the data file
+	 */
+	protected String getDataFile(String plot, Secret secret) {
+		return "reportingTool_tmp" + gSep + this.uniqueName + "-" + plot + "_" + secret.getFileName() + ".txt";
+	}
+
+	/**
+	 * This method writes the data files of all plots and secrets. The
+	 * histograms of all secrets share the bins between the smallest and
+	 * the biggest time, so the ranges of the histograms are found before
+	 * the sorted times are walked.
+	 */
+	private void writeMetadata() {
+		ArrayList<Secret> secrets = this.dataSet.getSecrets();
+		int[] rangeStarts = new int[secrets.size()];
+		int[] rangeEnds = new int[secrets.size()];
+		long smallestTime = 0;
+		long biggestTime = 0;
+		boolean isFirst = true;
+
+		for (int i = 0; i < secrets.size(); ++i) {
+			Secret secret = secrets.get(i);
+			int lowerPos = (int)((secret.size()-1) * this.lowerBound);
+			int upperPos = (int)((secret.size()-1) * this.upperBound);
+
+			if(lowerPos == upperPos) {
+				logger.info(this.lowerBound + "-" + this.upperBound + ": Error the user input lower (optimal) and upper (optimal) bound create a too small box for the size of the measurement. In any case you should use about 100 time measurements per secret.");
+				System.exit(1);
+			}
+
+			// a filtered histogram holds the times between the lower and the upper time
+			if(this.lowerBound == 0.0 && this.upperBound == 1.0) {
+				rangeStarts[i] = 0;
+				rangeEnds[i] = secret.size() - 1;
+			} else {
+				rangeStarts[i] = secret.getRunEnd(lowerPos);
+				rangeEnds[i] = getRunStart(secret, upperPos) - 1;
+			}
+
+			if(rangeStarts[i] <= rangeEnds[i]) {
+				if(isFirst || secret.getTime(rangeStarts[i]) < smallestTime) {
+					smallestTime = secret.getTime(rangeStarts[i]);
+				}
+				if(isFirst || secret.getTime(rangeEnds[i]) > biggestTime) {
+					biggestTime = secret.getTime(rangeEnds[i]);
+				}
+				isFirst = false;
+			}
+		}
+		this.binEdges = getBinEdges(smallestTime, biggestTime);
+
+		try {
+			for (int i = 0; i < secrets.size(); ++i) {
+				this.writeScatterplot(secrets.get(i));
+				this.writeSortedTimes(secrets.get(i), i + 1, rangeStarts[i], rangeEnds[i]);
+			}
+		} catch (IOException e) {
+			logger.warning("Error writing the data files of the plots.");
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * This method writes the scatterplot data file of a secret.
+	 *
+	 * @param secret
+	 * @throws IOException
+	 */
+	private void writeScatterplot(Secret secret) throws IOException {
+		int lowerPos = getPercentile((int)(this.lowerBound * 100), secret.size());
+		int upperPos = getPercentile((int)(this.upperBound * 100), secret.size());
+
+		BufferedWriter bw = this.getWriter("scatterplot", secret);
+		int timeCounter = 0;
+
+		OrderedSampleStore order = secret.getMeasurementOrder();
+		if(order == null) {
+			timeCounter = this.writeWindows(bw, secret, secret.getTime(lowerPos), secret.getTime(upperPos));
+		} else {
+			for (int secretNo = 0; secretNo < secret.size(); ++secretNo) {
+				int pos = order.getSortedPos(secretNo);
+				if(pos >= lowerPos && pos <= upperPos) {
+					bw.write(++timeCounter + "\t"
+							+ secret.getTime(pos) + "\n");
+				}
+			}
+		}
+
+		if(timeCounter == 0) {
+			logger.warning(this.lowerBound + "-" + this.upperBound + ": Error the user input lower (optimal) and upper (optimal) bound create a too small box for the size of the measurement. In any case you should use about 100 time measurements per secret.");
+			System.exit(1);
+		}
+
+		bw.close();
+	}
+
+	/**
+	 * This method writes the percentiles of every window of a secret,
+	 * which keeps no measurement order, at the positions of the
+	 * percentiles in the window. Only the times between the lower and
+	 * the upper time are written.
+	 * 
+	 * @param bw
+	 * @param secret
+	 * @param lowerTime
+	 * @param upperTime
+	 * @return int number of written times
+	 * @throws IOException
+	 */
+	private int writeWindows(BufferedWriter bw, Secret secret, long lowerTime, long upperTime) throws IOException {
+		int timeCounter = 0;
+		int[] starts = secret.getWindowStarts();
+		for (int window = 0; window < starts.length; ++window) {
+			int end = (window + 1 < starts.length) ? starts[window + 1] : secret.size();
+			OrderedTimes times = secret.getBisectedTimes(starts[window], end - starts[window]);
+			for (int p = 0; p <= 100; ++p) {
+				int rank = getPercentile(p, times.size());
+				long time = times.getTime(rank);
+				if(time >= lowerTime && time <= upperTime) {
+					bw.write((starts[window] + rank + 1) + "\t" + time + "\n");
+					++timeCounter;
+				}
+			}
+		}
+		return timeCounter;
+	}
+
+	/**
+	 * This method writes the box plot, the cdf and the histogram data
+	 * files of a secret. The runs of equal times between the lower and
+	 * the upper position are read once. Every run is a step of the cdf
+	 * and, if it is in the range of the histogram, counted in its bin.
+	 *
+	 * @param secret
+	 * @param counter position of the box in the box plot
+	 * @param rangeStart first position of the histogram
+	 * @param rangeEnd last position of the histogram
+	 * @throws IOException
+	 */
+	private void writeSortedTimes(Secret secret, int counter, int rangeStart, int rangeEnd) throws IOException {
+		int lowerPos = (int)((secret.size()-1) * this.lowerBound);
+		int upperPos = (int)((secret.size()-1) * this.upperBound);
+
+		BufferedWriter bw = this.getWriter("boxPlot", secret);
+		bw.write(counter + "\t" + secret.getBoxPlotLowerQuantile(lowerPos, upperPos) + "\t"
+				+ secret.getTime(lowerPos) + "\t"
+				+ secret.getBoxPlotUpperQuantile(lowerPos, upperPos) + "\t"
+				+ secret.getTime(upperPos) + "\t"
+				+ secret.getMedian(lowerPos, upperPos) + "\n");
+		bw.close();
+
+		int[] binCounts = new int[numBin];
+		int bin = 0;
+		double prob = 0;
+		long oldTime = secret.getTime(lowerPos);
+		int size = ((upperPos - lowerPos) + 1);
+
+		bw = this.getWriter("cdf", secret);
+		for (int i = lowerPos; i <= upperPos; ) {
+			long time = secret.getTime(i);
+			if (oldTime != time) {
+				bw.write(i + "\t" + oldTime + "\t" + prob + "\n");
+				oldTime = time;
+			}
+
+			int runEnd = Math.min(secret.getRunEnd(i), upperPos + 1);
+			if(i >= rangeStart && runEnd - 1 <= rangeEnd) {
+				while(bin < numBin && time >= this.binEdges[bin + 1]) {
+					++bin;
+				}
+				if(bin < numBin) {
+					binCounts[bin] += runEnd - i;
+				}
+			}
+
+			for (; i < runEnd; i++) {
+				prob = prob + 1.0 / size;
+			}
+		}
+		bw.write(size + "\t" + oldTime + "\t" + prob + "\n");
+		bw.close();
+
+		this.writeHistogram(secret, binCounts, rangeEnd - rangeStart + 1);
+	}
+
+	/**
+	 * This method writes the histogram data file of a secret.
+	 *
+	 * @param secret
+	 * @param binCounts number of times in every bin
+	 * @param size number of times in the range of the histogram
+	 * @throws IOException
+	 */
+	private void writeHistogram(Secret secret, int[] binCounts, int size) throws IOException {
+		BufferedWriter bw = this.getWriter("histogram", secret);
+
+		BigDecimal probability = BigDecimal.ZERO;
+		if(size > 0) {
+			probability = new BigDecimal(1).divide(new BigDecimal(size), 5, RoundingMode.HALF_UP); // 1/times.size
+		}
+
+		int labelCounter = (int) Math.ceil(numBin / 10.0);
+		for (int k = 1; k <= numBin; k++) {
+			--labelCounter;
+			if(labelCounter != 0) {
+				bw.write("-" + "\t" + " " + "\t" + probability.multiply(new BigDecimal(binCounts[k-1])) + "\n");
+			} else {
+				bw.write("-" + "\t" + this.binEdges[k-1] + "-" + (this.binEdges[k]-1) + "\t" + probability.multiply(new BigDecimal(binCounts[k-1])) + "\n");
+				labelCounter = (int) Math.ceil(numBin / 10.0);
+			}
+		}
+
+		bw.close();
+	}
+
+	/**
+	 * This method returns the buffered writer of the data file
+	 * of a plot and a secret.
+	 *
+	 * @param plot name of the plot
+	 * @param secret
+	 * @return BufferedWriter
+	 * @throws IOException
+	 */
+	private BufferedWriter getWriter(String plot, Secret secret) throws IOException {
+		File file = new File("reportingTool_tmp" + sep + this.uniqueName + "-" + plot + "_" + secret.getFileName() + ".txt");
+		return new BufferedWriter(new FileWriter(file));
+	}
+
+	/**
+	 * This method returns the bounds of the histogram bins. The bin k
+	 * holds the times from the bound k - 1 up to the bound k. The
+	 * intervals of the bins grow normal, logarithmic or quadratic.
+	 *
+	 * @param smallestTime
+	 * @param biggestTime
+	 * @return double[] numBin + 1 bounds of the bins
+	 */
+	private static double[] getBinEdges(long smallestTime, long biggestTime) {
+		String scale = Conf.get("scale");
+		if(!scale.equals("q") && !scale.equals("l") && !scale.equals("n")) {
+			logger.warning("No valide input for the value of scale.");
+			System.exit(1);
+		}
+
+		// number of intervals up to the end of every bin
+		int[] steps = new int[numBin + 1];
+		for (int k = 0; k <= numBin; k++) {
+			if(scale.equals("q")) {
+				steps[k] = ((int)Math.pow(2, k) - 1);
+			} else if(scale.equals("l")) {
+				steps[k] = ((int)((1/9.0)*(Math.pow(10, k)-1)));
+			} else {
+				steps[k] = k;
+			}
+		}
+
+		final BigDecimal interval = new BigDecimal(biggestTime-smallestTime).divide(new BigDecimal(steps[numBin]), 10, RoundingMode.HALF_UP);
+		double[] edges = new double[numBin + 1];
+		for (int k = 0; k <= numBin; k++) {
+			edges[k] = smallestTime + interval.multiply(new BigDecimal(steps[k])).doubleValue();
+		}
+		return edges;
+	}
+
+	/**
+	 * This method returns the first position of the run of equal
+	 * times which contains the sorted position.
+	 *
+	 * @param secret
+	 * @param pos
+	 * @return int first position with the time
+	 */
+	private static int getRunStart(Secret secret, int pos) {
+		long time = secret.getTime(pos);
+		int high = pos;
+		int step = 1;
+		int low = pos - step;
+		while(low >= 0 && secret.getTime(low) == time) {
+			high = low;
+			step <<= 1;
+			low = Math.max(pos - step, -1);
+		}
+
+		// the time at high equals, the time at low is smaller or low is -1
+		while(high - low > 1) {
+			int middle = (low + high) >>> 1;
+			if(secret.getTime(middle) == time) {
+				high = middle;
+			} else {
+				low = middle;
+			}
+		}
+		return high;
+	}
+
+	/**
+	 * This method returns the position of the percentile in 
+	 * the time list. 
+	 * 
+	 * @param p
+	 * @param size
+	 * @return int position in the time list
+	 */
+	private static int getPercentile(int p, int size) {
+		if(p != 100) {
+			return (int) (((long) p * size) / 100);
+		} else {
+			return size - 1;
+		}
+	}
+}
@@ -56,11 +56,12 @@ public class PlotPool {
 		ArrayList<String> pngPaths = new ArrayList<String>();
 		ArrayList<String> pdfPaths = new ArrayList<String>();
 
-		// create plot classes
-		Scatterplot scatterplot = new Scatterplot(this.dataSet, lowerBound, upperBound);
-		BoxPlot boxPlot = new BoxPlot(this.dataSet, lowerBound, upperBound);
-		Cdf cdf = new Cdf(this.dataSet, lowerBound, upperBound);
-		Histogram histogram = new Histogram(this.dataSet, lowerBound, upperBound);
+		// write the data of all plots, then create plot classes
+		PlotData plotData = new PlotData(this.dataSet, lowerBound, upperBound);
+		Scatterplot scatterplot = new Scatterplot(plotData);
+		BoxPlot boxPlot = new BoxPlot(plotData);
+		Cdf cdf = new Cdf(plotData);
+		Histogram histogram = new Histogram(plotData);
 
 		// add the plots to the thread pool and save the png path
 		pngPaths.add(FileId.getId() +  "-scatterplot-" + (int)(lowerBound * 100) + "-" + (int)(upperBound * 100) + ".png");
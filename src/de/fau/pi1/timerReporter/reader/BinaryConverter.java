@@ -0,0 +1,232 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An object of this class converts a csv file into the binary measurement
+ * format. The csv file is scanned like in the memory mapped reader and
+ * every column is streamed into its own temporary file, so the conversion
+ * needs only a constant amount of memory. At last the header, the secret
+ * dictionary and the columns are joined into the output file.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class BinaryConverter implements MeasurementSink {
+	private int encoding;
+	private DataOutputStream rowColumn = null;
+	private DataOutputStream secretColumn = null;
+	private DataOutputStream timeColumn = null;
+	private long[] block = new long[BinaryFormat.BLOCK_SIZE];
+	private int blockCount = 0;
+	private ByteBuffer blockBuffer = ByteBuffer.allocate(BinaryFormat.getBlockSize(BinaryFormat.BLOCK_SIZE, 64));
+	private long[] blockOffsets = new long[1024];
+	private int numberBlocks = 0;
+	private long timeColumnSize = 0;
+	private long lineCounter = 0;
+
+	public BinaryConverter(int encoding) {
+		this.encoding = encoding;
+	}
+
+	/**
+	 * This method converts the csv input file into the binary output file.
+	 *
+	 * @param input
+	 * @param output
+	 * @throws IOException
+	 */
+	public void convert(File input, File output) throws IOException {
+		File directory = output.getAbsoluteFile().getParentFile();
+		File rowFile = File.createTempFile("reportingTool", ".rows", directory);
+		File secretFile = File.createTempFile("reportingTool", ".secrets", directory);
+		File timeFile = File.createTempFile("reportingTool", ".times", directory);
+
+		try {
+			this.rowColumn = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(rowFile), 1 << 16));
+			this.secretColumn = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(secretFile), 1 << 16));
+			this.timeColumn = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(timeFile), 1 << 16));
+
+			SecretDictionary dictionary = new SecretDictionary();
+			RandomAccessFile file = new RandomAccessFile(input, "r");
+			try {
+				FileChannel channel = file.getChannel();
+				LineScanner scanner = new LineScanner(LineScanner.detectDelimiter(channel), dictionary, this);
+				scanner.scan(channel, 0, channel.size());
+			} finally {
+				file.close();
+			}
+			this.flushBlock();
+
+			this.rowColumn.close();
+			this.secretColumn.close();
+			this.timeColumn.close();
+
+			this.join(output, dictionary, rowFile, secretFile, timeFile);
+		} finally {
+			if(this.rowColumn != null) {
+				this.rowColumn.close();
+			}
+			if(this.secretColumn != null) {
+				this.secretColumn.close();
+			}
+			if(this.timeColumn != null) {
+				this.timeColumn.close();
+			}
+			rowFile.delete();
+			secretFile.delete();
+			timeFile.delete();
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.MeasurementSink#add(int, long)
+	 */
+	public void add(int secret, long time) {
+		try {
+			this.rowColumn.writeLong(this.lineCounter);
+			this.secretColumn.writeInt(secret);
+
+			if(this.encoding == BinaryFormat.PLAIN) {
+				this.timeColumn.writeLong(time);
+			} else {
+				this.block[this.blockCount++] = time;
+				if(this.blockCount == this.block.length) {
+					this.flushBlock();
+				}
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		++this.lineCounter;
+	}
+
+	/**
+	 * This method returns the number of converted lines.
+	 *
+	 * @return long number of lines
+	 */
+	public long getLineCount() {
+		return this.lineCounter;
+	}
+
+	/**
+	 * This method encodes the current block into the time column.
+	 *
+	 * @throws IOException
+	 */
+	private void flushBlock() throws IOException {
+		if(this.blockCount == 0) {
+			return;
+		}
+
+		if(this.numberBlocks == this.blockOffsets.length) {
+			long[] newBlockOffsets = new long[this.numberBlocks * 2];
+			System.arraycopy(this.blockOffsets, 0, newBlockOffsets, 0, this.numberBlocks);
+			this.blockOffsets = newBlockOffsets;
+		}
+		this.blockOffsets[this.numberBlocks++] = this.timeColumnSize;
+
+		this.blockBuffer.clear();
+		BinaryFormat.encodeBlock(this.block, this.blockCount, this.encoding, this.blockBuffer);
+		this.timeColumn.write(this.blockBuffer.array(), 0, this.blockBuffer.position());
+		this.timeColumnSize += this.blockBuffer.position();
+		this.blockCount = 0;
+	}
+
+	/**
+	 * This method writes the header and the dictionary and appends
+	 * the columns.
+	 *
+	 * @param output
+	 * @param dictionary
+	 * @param rowFile
+	 * @param secretFile
+	 * @param timeFile
+	 * @throws IOException
+	 */
+	private void join(File output, SecretDictionary dictionary, File rowFile, File secretFile, File timeFile) throws IOException {
+		int dictionarySize = 0;
+		for (int i = 0; i < dictionary.size(); ++i) {
+			dictionarySize += 4 + dictionary.getBytes(i).length;
+		}
+
+		long dictionaryOffset = BinaryFormat.HEADER_SIZE;
+		long rowOffset = align(dictionaryOffset + dictionarySize);
+		long secretOffset = rowOffset + this.lineCounter * 8;
+		long timeOffset = align(secretOffset + this.lineCounter * 4);
+
+		ByteBuffer header = ByteBuffer.allocate((int) (rowOffset));
+		header.put(BinaryFormat.MAGIC);
+		header.putInt(BinaryFormat.VERSION);
+		header.putInt(this.encoding);
+		header.putLong(this.lineCounter);
+		header.putInt(dictionary.size());
+		header.putInt(BinaryFormat.BLOCK_SIZE);
+		header.putLong(dictionaryOffset);
+		header.putLong(rowOffset);
+		header.putLong(secretOffset);
+		header.putLong(timeOffset);
+		for (int i = 0; i < dictionary.size(); ++i) {
+			header.putInt(dictionary.getBytes(i).length);
+			header.put(dictionary.getBytes(i));
+		}
+		header.position(0);
+
+		FileOutputStream stream = new FileOutputStream(output);
+		try {
+			FileChannel channel = stream.getChannel();
+			channel.write(header);
+			transfer(rowFile, channel);
+			transfer(secretFile, channel);
+			channel.write(ByteBuffer.allocate((int) (timeOffset - channel.position())));
+
+			if(this.encoding != BinaryFormat.PLAIN) {
+				long blocksOffset = timeOffset + this.numberBlocks * 8L;
+				ByteBuffer offsets = ByteBuffer.allocate(this.numberBlocks * 8);
+				for (int i = 0; i < this.numberBlocks; ++i) {
+					offsets.putLong(blocksOffset + this.blockOffsets[i]);
+				}
+				offsets.position(0);
+				channel.write(offsets);
+			}
+			transfer(timeFile, channel);
+		} finally {
+			stream.close();
+		}
+	}
+
+	/**
+	 * This method appends the content of the file to the channel.
+	 *
+	 * @param file
+	 * @param channel
+	 * @throws IOException
+	 */
+	private static void transfer(File file, FileChannel channel) throws IOException {
+		FileInputStream stream = new FileInputStream(file);
+		try {
+			FileChannel source = stream.getChannel();
+			long position = 0;
+			while (position < source.size()) {
+				position += source.transferTo(position, source.size() - position, channel);
+			}
+		} finally {
+			stream.close();
+		}
+	}
+
+	private static long align(long offset) {
+		return (offset + 7) & ~7L;
+	}
+}
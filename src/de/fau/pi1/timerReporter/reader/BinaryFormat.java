@@ -0,0 +1,171 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class describes the binary measurement format. A binary file starts
+ * with a header of 64 bytes, followed by the secret dictionary and the
+ * columns of the row numbers, the secret indices and the times.
+ *
+ * Header (big endian):<br />
+ * 0: magic "MONATIME"<br />
+ * 8: int version<br />
+ * 12: int encoding of the time column (plain, packed or delta)<br />
+ * 16: long number of rows<br />
+ * 24: int number of secrets<br />
+ * 28: int number of rows per block of the time column<br />
+ * 32: long offset of the secret dictionary<br />
+ * 40: long offset of the row column (one long per row)<br />
+ * 48: long offset of the secret column (one int per row)<br />
+ * 56: long offset of the time column<br />
+ *
+ * The dictionary holds the length and the bytes of every secret name. A
+ * plain time column holds one long per row. A packed or delta time column
+ * starts with the absolute offsets of all blocks. Every block holds a
+ * reference value, the bit width and the bit packed differences to the
+ * reference. The delta encoding packs the zigzag encoded differences
+ * between successive times instead of the times.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class BinaryFormat {
+	public static final byte[] MAGIC = {'M', 'O', 'N', 'A', 'T', 'I', 'M', 'E'};
+	public static final int VERSION = 1;
+	public static final int HEADER_SIZE = 64;
+	public static final int BLOCK_SIZE = 1024;
+
+	public static final int PLAIN = 0;
+	public static final int PACKED = 1;
+	public static final int DELTA = 2;
+
+	/**
+	 * This method returns the encoding with the name plain,
+	 * packed or delta or -1 if the name is unknown.
+	 *
+	 * @param name
+	 * @return int encoding
+	 */
+	public static int getEncoding(String name) {
+		if(name.equals("plain")) {
+			return PLAIN;
+		} else if(name.equals("packed")) {
+			return PACKED;
+		} else if(name.equals("delta")) {
+			return DELTA;
+		}
+		return -1;
+	}
+
+	/**
+	 * This method encodes a block of times. The block is written
+	 * into the buffer as reference, bit width and packed values.
+	 *
+	 * @param times
+	 * @param count
+	 * @param encoding
+	 * @param buffer
+	 */
+	public static void encodeBlock(long[] times, int count, int encoding, ByteBuffer buffer) {
+		long[] values = new long[count];
+		for (int i = 0; i < count; ++i) {
+			if(encoding == DELTA) {
+				long delta = times[i] - (i == 0 ? 0 : times[i - 1]);
+				values[i] = (delta << 1) ^ (delta >> 63);
+			} else {
+				values[i] = times[i];
+			}
+		}
+
+		long reference = count == 0 ? 0 : values[0];
+		for (int i = 1; i < count; ++i) {
+			if(values[i] < reference) {
+				reference = values[i];
+			}
+		}
+		// the differences to the reference are compared unsigned
+		long range = 0;
+		for (int i = 0; i < count; ++i) {
+			long difference = values[i] - reference;
+			if((difference ^ Long.MIN_VALUE) > (range ^ Long.MIN_VALUE)) {
+				range = difference;
+			}
+		}
+		int width = 64 - Long.numberOfLeadingZeros(range);
+
+		long[] words = new long[getWords(count, width)];
+		for (int i = 0; i < count && width > 0; ++i) {
+			long value = values[i] - reference;
+			long bit = (long) i * width;
+			int word = (int) (bit >>> 6);
+			int offset = (int) (bit & 63);
+			words[word] |= value << offset;
+			if(offset + width > 64) {
+				words[word + 1] |= value >>> (64 - offset);
+			}
+		}
+
+		buffer.putLong(reference);
+		buffer.putInt(width);
+		for (long word : words) {
+			buffer.putLong(word);
+		}
+	}
+
+	/**
+	 * This method decodes a block of times at the current position
+	 * of the buffer.
+	 *
+	 * @param buffer
+	 * @param times
+	 * @param count
+	 * @param encoding
+	 */
+	public static void decodeBlock(ByteBuffer buffer, long[] times, int count, int encoding) {
+		long reference = buffer.getLong();
+		int width = buffer.getInt();
+		long mask = (width == 64) ? -1L : (1L << width) - 1;
+		int start = buffer.position();
+
+		long previous = 0;
+		for (int i = 0; i < count; ++i) {
+			long value = 0;
+			if(width > 0) {
+				long bit = (long) i * width;
+				int word = (int) (bit >>> 6);
+				int offset = (int) (bit & 63);
+				value = buffer.getLong(start + word * 8) >>> offset;
+				if(offset + width > 64) {
+					value |= buffer.getLong(start + (word + 1) * 8) << (64 - offset);
+				}
+				value &= mask;
+			}
+			value += reference;
+
+			if(encoding == DELTA) {
+				previous += (value >>> 1) ^ -(value & 1);
+				times[i] = previous;
+			} else {
+				times[i] = value;
+			}
+		}
+		buffer.position(start + getWords(count, width) * 8);
+	}
+
+	/**
+	 * This method returns the size of an encoded block in bytes.
+	 *
+	 * @param count
+	 * @param width
+	 * @return int size in bytes
+	 */
+	public static int getBlockSize(int count, int width) {
+		return 12 + getWords(count, width) * 8;
+	}
+
+	private static int getWords(int count, int width) {
+		return (int) (((long) count * width + 63) / 64);
+	}
+}
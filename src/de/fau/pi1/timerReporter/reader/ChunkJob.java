@@ -0,0 +1,147 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.tools.Conf;
+
+/**
+ * An object of this class represents the job to scan one chunk of the
+ * input file. The chunk has its own secret dictionary and keeps the times
+ * and the row numbers inside the chunk per secret in measurement order.
+ * With the sketch storage, the chunk summarizes the times of every secret
+ * in its own secret instead, which is appended to the merged secret.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class ChunkJob implements Callable<Boolean>, MeasurementSink {
+	private FileChannel channel;
+	private long start;
+	private long end;
+	private LineScanner scanner;
+	private SecretDictionary dictionary = new SecretDictionary();
+	private long[][] times = new long[4][];
+	private int[][] rows = new int[4][];
+	private int[] counts = new int[4];
+	private Secret[] secrets = null;
+	private int lineCounter = 0;
+
+	protected ChunkJob(FileChannel channel, long start, long end, byte delimiter) {
+		this.channel = channel;
+		this.start = start;
+		this.end = end;
+		this.scanner = new LineScanner(delimiter, this.dictionary, this);
+		if(Conf.get("storage").equals("sketch")) {
+			this.secrets = new Secret[4];
+		}
+	}
+
+	@Override
+	public Boolean call() throws IOException {
+		this.scanner.scan(this.channel, this.start, this.end);
+		return true;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.MeasurementSink#add(int, long)
+	 */
+	public void add(int secret, long time) {
+		if(this.secrets != null) {
+			if(secret == this.secrets.length) {
+				Secret[] newSecrets = new Secret[secret * 2];
+				System.arraycopy(this.secrets, 0, newSecrets, 0, secret);
+				this.secrets = newSecrets;
+			}
+			if(this.secrets[secret] == null) {
+				this.secrets[secret] = new Secret("", "");
+			}
+			this.secrets[secret].addTime(this.lineCounter, time);
+			++this.lineCounter;
+			return;
+		}
+
+		if(secret == this.times.length) {
+			long[][] newTimes = new long[secret * 2][];
+			int[][] newRows = new int[secret * 2][];
+			int[] newCounts = new int[secret * 2];
+			System.arraycopy(this.times, 0, newTimes, 0, secret);
+			System.arraycopy(this.rows, 0, newRows, 0, secret);
+			System.arraycopy(this.counts, 0, newCounts, 0, secret);
+			this.times = newTimes;
+			this.rows = newRows;
+			this.counts = newCounts;
+		}
+
+		if(this.times[secret] == null) {
+			this.times[secret] = new long[1024];
+			this.rows[secret] = new int[1024];
+		} else if(this.counts[secret] == this.times[secret].length) {
+			long[] newTimes = new long[this.counts[secret] * 2];
+			int[] newRows = new int[this.counts[secret] * 2];
+			System.arraycopy(this.times[secret], 0, newTimes, 0, this.counts[secret]);
+			System.arraycopy(this.rows[secret], 0, newRows, 0, this.counts[secret]);
+			this.times[secret] = newTimes;
+			this.rows[secret] = newRows;
+		}
+
+		this.times[secret][this.counts[secret]] = time;
+		this.rows[secret][this.counts[secret]] = this.lineCounter;
+		++this.counts[secret];
+		++this.lineCounter;
+	}
+
+	public SecretDictionary getDictionary() {
+		return this.dictionary;
+	}
+
+	/**
+	 * This method returns the times of the secret with the local index.
+	 * Only the first getCount(secret) values are valid.
+	 *
+	 * @param secret
+	 * @return long[] times in measurement order
+	 */
+	public long[] getTimes(int secret) {
+		return this.times[secret];
+	}
+
+	/**
+	 * This method returns the row numbers inside the chunk of the secret
+	 * with the local index. Only the first getCount(secret) values are valid.
+	 *
+	 * @param secret
+	 * @return int[] row numbers in measurement order
+	 */
+	public int[] getRows(int secret) {
+		return this.rows[secret];
+	}
+
+	/**
+	 * This method returns the summarized times of the secret with
+	 * the local index or null, if the times are kept in arrays.
+	 *
+	 * @param secret
+	 * @return Secret summarized times in measurement order
+	 */
+	public Secret getSecret(int secret) {
+		return (this.secrets == null) ? null : this.secrets[secret];
+	}
+
+	public int getCount(int secret) {
+		return this.counts[secret];
+	}
+
+	/**
+	 * This method returns the number of lines of the chunk.
+	 *
+	 * @return int number of lines
+	 */
+	public int getLineCount() {
+		return this.lineCounter;
+	}
+}
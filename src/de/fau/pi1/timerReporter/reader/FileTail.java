@@ -0,0 +1,135 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Logger;
+
+/**
+ * An object of this class follows a growing csv input file like tail -f.
+ * It runs in its own thread, scans the complete lines appended to the
+ * mapped file and hands them in batches to a bounded queue. If the queue
+ * is full, the thread waits, so the memory of the unprocessed rows is
+ * bounded. If no line was appended, the file is polled again after the
+ * poll interval.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class FileTail implements Runnable, MeasurementSink {
+	private static Logger logger = Logger.getLogger("Fau-Timer Reporter");
+	private static final int BATCH_SIZE = 1 << 16;
+
+	private String inputFile;
+	private BlockingQueue<RowBatch> queue;
+	private long pollMillis;
+	private SecretDictionary dictionary = new SecretDictionary();
+	private RowBatch batch = new RowBatch(BATCH_SIZE);
+	private int names = 0;
+	private volatile boolean stopped = false;
+	private volatile boolean failed = false;
+
+	/**
+	 * @param inputFile
+	 * @param queue bounded queue of the batches
+	 * @param pollMillis milliseconds between two polls of the file
+	 */
+	public FileTail(String inputFile, BlockingQueue<RowBatch> queue, long pollMillis) {
+		this.inputFile = inputFile;
+		this.queue = queue;
+		this.pollMillis = pollMillis;
+	}
+
+	/**
+	 * This method follows the input file until it is stopped.
+	 */
+	public void run() {
+		LineScanner scanner = null;
+		try {
+			RandomAccessFile file = new RandomAccessFile(this.inputFile, "r");
+			try {
+				FileChannel channel = file.getChannel();
+				long position = 0;
+				while(!this.stopped) {
+					long end = LineScanner.lastLineEnd(channel, position);
+					if(end == position) {
+						Thread.sleep(this.pollMillis);
+						continue;
+					}
+
+					if(scanner == null) {
+						scanner = new LineScanner(LineScanner.detectDelimiter(channel), this.dictionary, this);
+					}
+					scanner.scan(channel, position, end);
+					position = end;
+					this.flush();
+				}
+			} finally {
+				file.close();
+			}
+		} catch(NumberFormatException nfe) {
+			logger.warning("NumberFormatException in line " + (scanner.getLineCount() + 1) + ": " + nfe.getMessage());
+			this.failed = true;
+		} catch (IOException e) {
+			logger.warning("E/A-Error: " + e.getMessage());
+			this.failed = true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.MeasurementSink#add(int, long)
+	 */
+	public void add(int secret, long time) {
+		// a full batch, which couldn't be handed over, is dropped when stopped
+		if(this.stopped) {
+			return;
+		}
+		if(this.batch.add(secret, time)) {
+			try {
+				this.flush();
+			} catch (InterruptedException e) {
+				this.stopped = true;
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * This method stops following the file. The rows
+	 * scanned afterwards are dropped.
+	 */
+	public void stop() {
+		this.stopped = true;
+	}
+
+	/**
+	 * This method returns true, if the file couldn't be read.
+	 *
+	 * @return boolean
+	 */
+	public boolean isFailed() {
+		return this.failed;
+	}
+
+	/**
+	 * This method hands the batch with the names of the new
+	 * secrets to the queue and waits, if the queue is full.
+	 *
+	 * @throws InterruptedException
+	 */
+	private void flush() throws InterruptedException {
+		if(this.batch.size() == 0) {
+			return;
+		}
+		for (; this.names < this.dictionary.size(); ++this.names) {
+			this.batch.getNewNames().add(this.dictionary.getName(this.names));
+		}
+		this.queue.put(this.batch);
+		this.batch = new RowBatch(BATCH_SIZE);
+	}
+}
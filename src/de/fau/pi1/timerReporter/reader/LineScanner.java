@@ -0,0 +1,284 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An object of this class scans the bytes of a memory mapped input file.
+ * Every line has the format (<id>;)?<secret>;<time>. The secret is resolved
+ * by the secret dictionary and the time is parsed into a primitive, so the
+ * scanner does not create objects per line. Every parsed line is passed to
+ * the measurement sink.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class LineScanner {
+	private static final long SEGMENT_SIZE = 1L << 28;
+	private static final long WINDOW_SIZE = 1L << 20;
+	private static final int MAX_FIELDS = 4;
+	private final byte delimiter;
+	private final SecretDictionary dictionary;
+	private final MeasurementSink sink;
+	private final int[] fieldStart = new int[MAX_FIELDS];
+	private final int[] fieldEnd = new int[MAX_FIELDS];
+	private long lineCounter = 0;
+
+	public LineScanner(byte delimiter, SecretDictionary dictionary, MeasurementSink sink) {
+		this.delimiter = delimiter;
+		this.dictionary = dictionary;
+		this.sink = sink;
+	}
+
+	/**
+	 * This method detects the delimiter of the input file. If the first line
+	 * contains no ';', the values are ','-separated.
+	 *
+	 * @param channel
+	 * @return byte delimiter
+	 * @throws IOException
+	 */
+	public static byte detectDelimiter(FileChannel channel) throws IOException {
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), 1 << 16));
+		for (int i = 0; i < buffer.limit(); ++i) {
+			byte b = buffer.get(i);
+			if (b == ';') {
+				return ';';
+			} else if (b == '\n') {
+				break;
+			}
+		}
+		return ',';
+	}
+
+	/**
+	 * This method returns the beginning of the first line which starts
+	 * at the position or behind it.
+	 *
+	 * @param channel
+	 * @param position
+	 * @return long position of the line beginning
+	 * @throws IOException
+	 */
+	public static long nextLineStart(FileChannel channel, long position) throws IOException {
+		long size = channel.size();
+		long offset = position - 1;
+
+		while (offset < size) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, size - offset));
+			for (int i = 0; i < buffer.limit(); ++i) {
+				if(buffer.get(i) == '\n') {
+					return offset + i + 1;
+				}
+			}
+			offset += buffer.limit();
+		}
+		return size;
+	}
+
+	/**
+	 * This method returns the position behind the last line break of
+	 * the channel or the start, if there is no line break behind the
+	 * start. The last line of a growing file may still be written.
+	 *
+	 * @param channel
+	 * @param start
+	 * @return long end of the last complete line
+	 * @throws IOException
+	 */
+	public static long lastLineEnd(FileChannel channel, long start) throws IOException {
+		long end = channel.size();
+		while (end > start) {
+			long offset = Math.max(start, end - WINDOW_SIZE);
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, end - offset);
+			for (int i = buffer.limit() - 1; i >= 0; --i) {
+				if(buffer.get(i) == '\n') {
+					return offset + i + 1;
+				}
+			}
+			end = offset;
+		}
+		return start;
+	}
+
+	/**
+	 * This method scans the lines between start and end of the channel. The
+	 * range must begin at the beginning of a line and end behind a line break
+	 * or at the end of the file. The channel is mapped in segments, so the
+	 * file may be larger than one mapping.
+	 *
+	 * @param channel
+	 * @param start
+	 * @param end
+	 * @throws IOException
+	 */
+	public void scan(FileChannel channel, long start, long end) throws IOException {
+		long position = start;
+		while (position < end) {
+			long length = Math.min(SEGMENT_SIZE, end - position);
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+			int consumed = this.scan(buffer, (int) length, position + length == end);
+
+			if (consumed == 0) {
+				throw new RuntimeException("Line " + (this.lineCounter + 1) + " is longer than " + SEGMENT_SIZE + " bytes.");
+			}
+			position += consumed;
+		}
+	}
+
+	/**
+	 * This method scans all complete lines of the buffer and returns the
+	 * number of consumed bytes. If the buffer is the last one, a line
+	 * without a line break at the end is scanned as well.
+	 *
+	 * @param buffer
+	 * @param limit
+	 * @param last
+	 * @return int number of consumed bytes
+	 */
+	public int scan(ByteBuffer buffer, int limit, boolean last) {
+		int lineStart = 0;
+		int start = 0;
+		int fields = 0;
+		boolean overflow = false;
+
+		for (int i = 0; i < limit; ++i) {
+			byte b = buffer.get(i);
+			if (b == this.delimiter || b == '\n') {
+				int end = i;
+				if (b == '\n' && end > start && buffer.get(end - 1) == '\r') {
+					--end;
+				}
+
+				if (fields < MAX_FIELDS) {
+					this.fieldStart[fields] = start;
+					this.fieldEnd[fields] = end;
+				} else if (end > start) {
+					overflow = true;
+				}
+				++fields;
+				start = i + 1;
+
+				if (b == '\n') {
+					this.parseLine(buffer, fields, overflow);
+					lineStart = start;
+					fields = 0;
+					overflow = false;
+				}
+			}
+		}
+
+		if (last && lineStart < limit) {
+			int end = limit;
+			if (buffer.get(end - 1) == '\r') {
+				--end;
+			}
+			if (fields < MAX_FIELDS) {
+				this.fieldStart[fields] = start;
+				this.fieldEnd[fields] = end;
+			} else if (end > start) {
+				overflow = true;
+			}
+			this.parseLine(buffer, fields + 1, overflow);
+			lineStart = limit;
+		}
+		return lineStart;
+	}
+
+	/**
+	 * This method returns the number of scanned lines.
+	 *
+	 * @return long number of lines
+	 */
+	public long getLineCount() {
+		return this.lineCounter;
+	}
+
+	/**
+	 * This method parses the fields of one line and passes the secret and
+	 * time to the sink. Empty fields at the end of the line are ignored.
+	 *
+	 * @param buffer
+	 * @param fields
+	 * @param overflow
+	 */
+	private void parseLine(ByteBuffer buffer, int fields, boolean overflow) {
+		if (fields > MAX_FIELDS) {
+			fields = MAX_FIELDS;
+		}
+		while (fields > 0 && this.fieldStart[fields - 1] == this.fieldEnd[fields - 1]) {
+			--fields;
+		}
+
+		for (int i = 0; i < fields; ++i) {
+			if (this.fieldEnd[i] - this.fieldStart[i] >= 2 && buffer.get(this.fieldStart[i]) == '"' && buffer.get(this.fieldEnd[i] - 1) == '"') {
+				++this.fieldStart[i];
+				--this.fieldEnd[i];
+			}
+		}
+
+		int secret;
+		long time;
+		if (!overflow && fields == 3) {
+			time = parseLong(buffer, this.fieldStart[2], this.fieldEnd[2]);
+			secret = this.dictionary.lookup(buffer, this.fieldStart[1], this.fieldEnd[1]);
+		} else if (!overflow && fields == 2) {
+			time = parseLong(buffer, this.fieldStart[1], this.fieldEnd[1]);
+			secret = this.dictionary.lookup(buffer, this.fieldStart[0], this.fieldEnd[0]);
+		} else {
+			throw new RuntimeException("Wrong input file format. Should be: (<id>;)?<secret>;<time>");
+		}
+
+		this.sink.add(secret, time);
+		++this.lineCounter;
+	}
+
+	/**
+	 * This method parses a decimal long value between start and end of
+	 * the buffer. It accepts the same input as Long.parseLong.
+	 *
+	 * @param buffer
+	 * @param start
+	 * @param end
+	 * @return long parsed value
+	 */
+	private static long parseLong(ByteBuffer buffer, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+			negative = buffer.get(i) == '-';
+			++i;
+		}
+		if (i == end) {
+			throw numberFormatException(buffer, start, end);
+		}
+
+		// accumulate negatively to reach Long.MIN_VALUE without overflow
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long result = 0;
+		for (; i < end; ++i) {
+			int digit = buffer.get(i) - '0';
+			if (digit < 0 || digit > 9 || result < limit / 10) {
+				throw numberFormatException(buffer, start, end);
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw numberFormatException(buffer, start, end);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	private static NumberFormatException numberFormatException(ByteBuffer buffer, int start, int end) {
+		byte[] field = new byte[end - start];
+		for (int i = 0; i < field.length; ++i) {
+			field[i] = buffer.get(start + i);
+		}
+		return new NumberFormatException("For input string: \"" + new String(field) + "\"");
+	}
+}
@@ -0,0 +1,22 @@
+package de.fau.pi1.timerReporter.reader;
+
+/**
+ * A measurement sink receives the parsed rows of an input file. The
+ * secret is given as the index of the secret dictionary of the scanner,
+ * so no strings are created per row.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public interface MeasurementSink {
+
+	/**
+	 * This method is called once per row in the order of the input file.
+	 *
+	 * @param secret index of the secret in the dictionary
+	 * @param time measured time
+	 */
+	public void add(int secret, long time);
+}
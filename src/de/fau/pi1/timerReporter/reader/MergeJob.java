@@ -0,0 +1,63 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+
+/**
+ * An object of this class represents the job to merge the times of one
+ * secret from all chunks. The chunks are merged in file order, so the
+ * measurement order of the secret is kept. The sketches of the chunks are
+ * appended as a whole. At last the times are sorted.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class MergeJob implements Callable<Boolean> {
+	private Secret secret;
+	private ArrayList<ChunkJob> chunks;
+	private int[] localIndex;
+	private int[] lineOffsets;
+
+	/**
+	 * @param secret secret to fill
+	 * @param chunks all chunks in file order
+	 * @param localIndex index of the secret in the dictionary of each chunk or -1
+	 * @param lineOffsets number of lines before each chunk
+	 */
+	protected MergeJob(Secret secret, ArrayList<ChunkJob> chunks, int[] localIndex, int[] lineOffsets) {
+		this.secret = secret;
+		this.chunks = chunks;
+		this.localIndex = localIndex;
+		this.lineOffsets = lineOffsets;
+	}
+
+	@Override
+	public Boolean call() {
+		for (int i = 0; i < this.chunks.size(); ++i) {
+			if(this.localIndex[i] < 0) {
+				continue;
+			}
+
+			ChunkJob chunk = this.chunks.get(i);
+			if(chunk.getSecret(this.localIndex[i]) != null) {
+				this.secret.append(chunk.getSecret(this.localIndex[i]));
+				chunk.getSecret(this.localIndex[i]).close();
+				continue;
+			}
+
+			long[] times = chunk.getTimes(this.localIndex[i]);
+			int[] rows = chunk.getRows(this.localIndex[i]);
+			for (int j = 0; j < chunk.getCount(this.localIndex[i]); ++j) {
+				this.secret.addTime(this.lineOffsets[i] + rows[j], times[j]);
+			}
+		}
+
+		// the time list in secrets should always be sorted
+		this.secret.sortTimes();
+		return true;
+	}
+}
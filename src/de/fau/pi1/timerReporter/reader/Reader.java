@@ -1,5 +1,6 @@
 package de.fau.pi1.timerReporter.reader;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.logging.Logger;
 
@@ -22,5 +23,16 @@ public abstract class Reader {
 	abstract public void read(ArrayList<Secret> secrets);
 	abstract public String getInputFile();
 
+	/**
+	 * This method returns the file, which keeps the results of the
+	 * secret pairs between runs of the same input file, or null, if
+	 * the reader reads the whole input file every run.
+	 * 
+	 * @return File results of the pairs
+	 */
+	public File getResultsFile() {
+		return null;
+	}
+
 }
 
@@ -0,0 +1,163 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.tools.Conf;
+
+/**
+ * An object of this class represents the binary reader. It reads files in
+ * the binary measurement format written by the converter. The columns are
+ * memory mapped in batches of rows, so no text is parsed.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class ReaderBinary extends Reader {
+	private static final int BATCH_SIZE = BinaryFormat.BLOCK_SIZE * 1024;
+	String inputFile = null;
+
+	public ReaderBinary(){
+		if(Conf.get("inputFile") != null) {
+			this.inputFile = Conf.get("inputFile");
+		} else {
+			logger.warning("You have to specify an input file.");
+			System.exit(1);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.Reader#read(java.util.ArrayList)
+	 */
+	public void read(ArrayList<Secret> secrets) {
+		try {
+			RandomAccessFile file = new RandomAccessFile(this.inputFile, "r");
+			try {
+				this.read(file.getChannel(), secrets);
+			} finally {
+				file.close();
+			}
+		} catch (FileNotFoundException e) {
+			logger.warning("File " + inputFile + " not found.");
+			System.exit(1);
+		} catch (IOException e) {
+			logger.warning("E/A-Error");
+			System.exit(1);
+		}
+
+		// the time list in secrets should always be sorted
+		for (Secret secret : secrets) {
+			secret.sortTimes();
+		}
+	}
+
+	/**
+	 * This method reads the header, the dictionary and all rows
+	 * of the binary file.
+	 *
+	 * @param channel
+	 * @param secrets
+	 * @throws IOException
+	 */
+	private void read(FileChannel channel, ArrayList<Secret> secrets) throws IOException {
+		if(channel.size() < BinaryFormat.HEADER_SIZE) {
+			throw new RuntimeException("Wrong binary file format. The header is missing.");
+		}
+
+		MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, BinaryFormat.HEADER_SIZE);
+		for (int i = 0; i < BinaryFormat.MAGIC.length; ++i) {
+			if(header.get() != BinaryFormat.MAGIC[i]) {
+				throw new RuntimeException("Wrong binary file format. The file is no binary measurement file.");
+			}
+		}
+		if(header.getInt() != BinaryFormat.VERSION) {
+			throw new RuntimeException("Wrong binary file format. Unknown version.");
+		}
+		int encoding = header.getInt();
+		long rowCount = header.getLong();
+		int secretCount = header.getInt();
+		int blockSize = header.getInt();
+		long dictionaryOffset = header.getLong();
+		long rowOffset = header.getLong();
+		long secretOffset = header.getLong();
+		long timeOffset = header.getLong();
+
+		MappedByteBuffer dictionary = channel.map(FileChannel.MapMode.READ_ONLY, dictionaryOffset, rowOffset - dictionaryOffset);
+		ArrayList<Secret> secretIndex = new ArrayList<Secret>();
+		for (int i = 0; i < secretCount; ++i) {
+			byte[] name = new byte[dictionary.getInt()];
+			dictionary.get(name);
+			Secret newSecret = new Secret(new String(name), "secret" + i);
+			secrets.add(newSecret);
+			secretIndex.add(newSecret);
+		}
+
+		long[] times = new long[BATCH_SIZE];
+		for (long start = 0; start < rowCount; start += BATCH_SIZE) {
+			int count = (int) Math.min(BATCH_SIZE, rowCount - start);
+			MappedByteBuffer rows = channel.map(FileChannel.MapMode.READ_ONLY, rowOffset + start * 8, count * 8L);
+			MappedByteBuffer secretColumn = channel.map(FileChannel.MapMode.READ_ONLY, secretOffset + start * 4, count * 4L);
+			this.readTimes(channel, encoding, blockSize, rowCount, timeOffset, start, count, times);
+
+			for (int i = 0; i < count; ++i) {
+				int secret = secretColumn.getInt(i * 4);
+				if(secret < 0 || secret >= secretCount) {
+					throw new RuntimeException("Wrong binary file format. Unknown secret in row " + (start + i) + ".");
+				}
+				secretIndex.get(secret).addTime((int) rows.getLong(i * 8), times[i]);
+			}
+		}
+	}
+
+	/**
+	 * This method reads the times of the rows between start and
+	 * start + count. The start is a multiple of the block size.
+	 *
+	 * @param channel
+	 * @param encoding
+	 * @param blockSize
+	 * @param rowCount
+	 * @param timeOffset
+	 * @param start
+	 * @param count
+	 * @param times
+	 * @throws IOException
+	 */
+	private void readTimes(FileChannel channel, int encoding, int blockSize, long rowCount, long timeOffset, long start, int count, long[] times) throws IOException {
+		if(encoding == BinaryFormat.PLAIN) {
+			MappedByteBuffer column = channel.map(FileChannel.MapMode.READ_ONLY, timeOffset + start * 8, count * 8L);
+			for (int i = 0; i < count; ++i) {
+				times[i] = column.getLong(i * 8);
+			}
+			return;
+		} else if(encoding != BinaryFormat.PACKED && encoding != BinaryFormat.DELTA) {
+			throw new RuntimeException("Wrong binary file format. Unknown encoding of the time column.");
+		}
+
+		long numberBlocks = (rowCount + blockSize - 1) / blockSize;
+		long firstBlock = start / blockSize;
+		long lastBlock = (start + count + blockSize - 1) / blockSize;
+		MappedByteBuffer offsets = channel.map(FileChannel.MapMode.READ_ONLY, timeOffset + firstBlock * 8, (lastBlock - firstBlock) * 8);
+		long blocksStart = offsets.getLong(0);
+		long blocksEnd = (lastBlock < numberBlocks) ? channel.map(FileChannel.MapMode.READ_ONLY, timeOffset + lastBlock * 8, 8).getLong(0) : channel.size();
+
+		MappedByteBuffer blocks = channel.map(FileChannel.MapMode.READ_ONLY, blocksStart, blocksEnd - blocksStart);
+		long[] block = new long[blockSize];
+		for (int i = 0; i < count; i += blockSize) {
+			int blockCount = Math.min(blockSize, count - i);
+			BinaryFormat.decodeBlock(blocks, block, blockCount, encoding);
+			System.arraycopy(block, 0, times, i, blockCount);
+		}
+	}
+
+	public String getInputFile() {
+		return inputFile;
+	}
+}
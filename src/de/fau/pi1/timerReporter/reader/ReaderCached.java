@@ -0,0 +1,177 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.dataset.Snapshot;
+import de.fau.pi1.timerReporter.tools.Conf;
+
+/**
+ * An object of this class reads the input file through a snapshot cache.
+ * The key of a snapshot is a hash of the content, the size and the last
+ * modification of the input file. If the cache directory holds a snapshot
+ * of the key, the snapshot is mapped. Otherwise the input file is read by
+ * the configured reader and a snapshot of the sorted secrets is written.
+ * The cache is bounded by the cache size, the least recently used snapshots
+ * are deleted first. The snapshot of the input file is never deleted, and
+ * only the files named by a key are snapshots of the cache.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class ReaderCached extends Reader {
+	private static final String SUFFIX = ".snapshot";
+	private static final String PATTERN = "[0-9a-f]{40}\\" + SUFFIX;
+	private Reader reader;
+	private File cacheDir;
+	private long cacheSize;
+
+	/**
+	 * @param reader reader of the input file, if no snapshot exists
+	 */
+	public ReaderCached(Reader reader) {
+		this.reader = reader;
+		this.cacheDir = new File(Conf.get("cacheDir"));
+		this.cacheSize = Long.parseLong(Conf.get("cacheSize")) << 20;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.Reader#read(java.util.ArrayList)
+	 */
+	public void read(ArrayList<Secret> secrets) {
+		if(!this.cacheDir.isDirectory() && !this.cacheDir.mkdirs()) {
+			logger.warning("Error: Folder " + this.cacheDir + " wasn't created successfully.");
+			System.exit(1);
+		}
+
+		File snapshot = null;
+		try {
+			snapshot = new File(this.cacheDir, this.getKey() + SUFFIX);
+		} catch (IOException e) {
+			logger.warning("File " + this.getInputFile() + " not found.");
+			System.exit(1);
+		}
+
+		if(snapshot.isFile()) {
+			try {
+				if(Snapshot.read(snapshot, secrets)) {
+					snapshot.setLastModified(System.currentTimeMillis());
+					logger.fine("Read the snapshot " + snapshot + ".");
+					this.evict(snapshot);
+					return;
+				}
+			} catch (IOException e) {
+				secrets.clear();
+			}
+			logger.warning("The snapshot " + snapshot + " is damaged and will be replaced.");
+		}
+
+		this.reader.read(secrets);
+
+		try {
+			File tmp = File.createTempFile("snapshot", ".tmp", this.cacheDir);
+			Snapshot.write(tmp, secrets);
+			snapshot.delete();
+			if(!tmp.renameTo(snapshot)) {
+				tmp.delete();
+			}
+		} catch (IOException e) {
+			logger.warning("Error writing the snapshot " + snapshot + ".");
+		}
+		this.evict(snapshot);
+	}
+
+	/**
+	 * This method returns the key of the input file. The key is the
+	 * SHA-1 hash of the content, the size and the last modification.
+	 *
+	 * @return String key
+	 * @throws IOException
+	 */
+	private String getKey() throws IOException {
+		File file = new File(this.getInputFile());
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+
+		InputStream in = new FileInputStream(file);
+		try {
+			byte[] buffer = new byte[1 << 16];
+			int count;
+			while((count = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, count);
+			}
+		} finally {
+			in.close();
+		}
+		digest.update((file.length() + ":" + file.lastModified()).getBytes("UTF-8"));
+
+		StringBuilder key = new StringBuilder();
+		for (byte b : digest.digest()) {
+			key.append(String.format("%02x", b & 0xff));
+		}
+		return key.toString();
+	}
+
+	/**
+	 * This method deletes the least recently used snapshots until
+	 * the snapshots fit into the cache size. The current snapshot
+	 * is kept, even if it alone exceeds the cache size.
+	 *
+	 * @param current snapshot of the input file
+	 */
+	private void evict(final File current) {
+		File[] snapshots = this.cacheDir.listFiles(new FileFilter() {
+			public boolean accept(File file) {
+				return file.getName().matches(PATTERN) && !file.equals(current);
+			}
+		});
+		if(snapshots == null) {
+			return;
+		}
+
+		// most recently used first
+		Arrays.sort(snapshots, new Comparator<File>() {
+			public int compare(File a, File b) {
+				if(a.lastModified() == b.lastModified()) {
+					return 0;
+				}
+				return (a.lastModified() > b.lastModified()) ? -1 : 1;
+			}
+		});
+
+		// only the kept snapshots are counted, once one doesn't fit all older ones are deleted
+		long size = current.length();
+		boolean full = false;
+		for (File snapshot : snapshots) {
+			full |= size + snapshot.length() > this.cacheSize;
+			if(full) {
+				logger.fine("Delete the least recently used snapshot " + snapshot + ".");
+				snapshot.delete();
+			} else {
+				size += snapshot.length();
+			}
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.Reader#getInputFile()
+	 */
+	public String getInputFile() {
+		return this.reader.getInputFile();
+	}
+}
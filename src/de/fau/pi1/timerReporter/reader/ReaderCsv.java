@@ -8,7 +8,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 
 import de.fau.pi1.timerReporter.dataset.Secret;
-import de.fau.pi1.timerReporter.dataset.Time;
 import de.fau.pi1.timerReporter.tools.Conf;
 
 /**
@@ -40,7 +39,7 @@ public class ReaderCsv extends Reader{
 		FileReader fileReader;
 		String line;
 		String[] splitArray;
-		Long newTime = new Long(0);
+		long newTime = 0;
 		String secretName = null;
 
 		try {
@@ -80,14 +79,12 @@ public class ReaderCsv extends Reader{
 				Secret secret = secretMap.get(secretName);
 
 				if(secret != null) {
-					Time time = new Time(lineCounter, secret.getTimes().size(), newTime);
-					secret.addTime(time);
+					secret.addTime(lineCounter, newTime);
 				} else {				
 					Secret newSecret = new Secret(secretName, "secret" + secretMap.size());
 					secrets.add(newSecret);
 					secretMap.put(secretName, newSecret);
-					Time time = new Time(lineCounter, newSecret.getTimes().size(), newTime);
-					newSecret.addTime(time);
+					newSecret.addTime(lineCounter, newTime);
 				}
 
 				++lineCounter;
@@ -0,0 +1,321 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.dataset.Snapshot;
+import de.fau.pi1.timerReporter.tools.Conf;
+
+/**
+ * An object of this class reads a growing csv input file incrementally.
+ * The state of the previous run is kept in the cache directory, keyed by
+ * the path of the input file: a snapshot of the sorted secrets, a state
+ * file with the number of bytes read, a hash of the last bytes read and
+ * the name of the snapshot, and the results of the evaluated secret pairs.
+ * Every run writes a snapshot under a new name, because the secrets of the
+ * previous snapshot may still be mapped, and the snapshots, which the state
+ * doesn't name, are deleted.
+ *
+ * A rerun maps the snapshot and scans only the complete lines appended
+ * since the previous run. The appended times of every secret are sorted
+ * and merged with the sorted times of the snapshot in one linear pass. The
+ * secrets without appended times stay mapped, and the evaluation restores
+ * their pairs from the results of the previous run. If the input file was
+ * changed before the appended lines, it is read again and the results of
+ * the pairs are dropped.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class ReaderIncremental extends Reader implements MeasurementSink {
+	private static final int FINGERPRINT_SIZE = 1 << 12;
+	String inputFile = null;
+	private File cacheDir;
+	private File resultsFile = null;
+	private HashMap<String, Secret> previous = new HashMap<String, Secret>();
+	private ArrayList<Secret> appended = new ArrayList<Secret>();
+	private ArrayList<Secret> secretIndex = new ArrayList<Secret>();
+	private SecretDictionary dictionary = null;
+	private int secretCount = 0;
+	private int lineCounter = 0;
+
+	public ReaderIncremental(){
+		if(Conf.get("inputFile") != null) {
+			this.inputFile = Conf.get("inputFile");
+		} else {
+			logger.warning("You have to specify an input file.");
+			System.exit(1);
+		}
+		this.cacheDir = new File(Conf.get("cacheDir"));
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.Reader#read(java.util.ArrayList)
+	 */
+	public void read(ArrayList<Secret> secrets) {
+		if(!this.cacheDir.isDirectory() && !this.cacheDir.mkdirs()) {
+			logger.warning("Error: Folder " + this.cacheDir + " wasn't created successfully.");
+			System.exit(1);
+		}
+
+		try {
+			RandomAccessFile file = new RandomAccessFile(this.inputFile, "r");
+			try {
+				FileChannel channel = file.getChannel();
+				String key = this.getKey();
+				File state = new File(this.cacheDir, key + ".state");
+
+				this.resultsFile = new File(this.cacheDir, key + ".results");
+				long start = this.readState(key, state, channel, secrets);
+				if(start == 0) {
+					// the pairs of a file read again are evaluated again
+					this.resultsFile.delete();
+				}
+				long end = LineScanner.lastLineEnd(channel, start);
+				if(end == start) {
+					logger.info("incremental: no new rows after " + this.lineCounter + " rows of the previous run");
+					return;
+				}
+
+				for (Secret secret : secrets) {
+					this.previous.put(secret.getName(), secret);
+				}
+				this.secretCount = secrets.size();
+				int previousRows = this.lineCounter;
+
+				this.dictionary = new SecretDictionary();
+				LineScanner scanner = new LineScanner(LineScanner.detectDelimiter(channel), this.dictionary, this);
+				scanner.scan(channel, start, end);
+
+				for (Secret secret : this.appended) {
+					secret.sortTimes();
+					if(this.previous.containsKey(secret.getName())) {
+						this.previous.get(secret.getName()).merge(secret);
+					} else {
+						secrets.add(secret);
+					}
+				}
+				logger.info("incremental: " + (this.lineCounter - previousRows) + " new rows after " + previousRows + " rows of the previous run");
+
+				this.writeState(key, state, channel, end, secrets);
+			} finally {
+				file.close();
+			}
+		} catch(NumberFormatException nfe) {
+			logger.warning("NumberFormatException in line " + (this.lineCounter + 1) + ": " + nfe.getMessage());
+			System.exit(1);
+		} catch (FileNotFoundException e) {
+			logger.warning("File " + inputFile + " not found.");
+			System.exit(1);
+		} catch (IOException e) {
+			logger.warning("E/A-Error");
+			System.exit(1);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.MeasurementSink#add(int, long)
+	 */
+	public void add(int secret, long time) {
+		if(secret == this.secretIndex.size()) {
+			String name = this.dictionary.getName(secret);
+			Secret previousSecret = this.previous.get(name);
+			Secret newSecret = new Secret(name, (previousSecret != null) ? previousSecret.getFileName() : "secret" + this.secretCount++);
+			this.appended.add(newSecret);
+			this.secretIndex.add(newSecret);
+		}
+
+		this.secretIndex.get(secret).addTime(this.lineCounter, time);
+		++this.lineCounter;
+	}
+
+	/**
+	 * This method reads the snapshot of the previous run and returns
+	 * the number of bytes read by the previous run. If there is no
+	 * valid state or the input file was changed before the end of the
+	 * previous run, no secret is read and 0 is returned.
+	 *
+	 * @param key key of the input file
+	 * @param state
+	 * @param channel
+	 * @param secrets
+	 * @return long number of bytes read by the previous run
+	 * @throws IOException
+	 */
+	private long readState(String key, File state, FileChannel channel, ArrayList<Secret> secrets) throws IOException {
+		if(!state.isFile()) {
+			this.deleteSnapshots(key, null);
+			return 0;
+		}
+
+		long end;
+		byte[] fingerprint;
+		File snapshot;
+		DataInputStream in = new DataInputStream(new FileInputStream(state));
+		try {
+			end = in.readLong();
+			fingerprint = new byte[in.readInt()];
+			in.readFully(fingerprint);
+			snapshot = new File(this.cacheDir, in.readUTF());
+		} catch (IOException e) {
+			return 0;
+		} finally {
+			in.close();
+		}
+
+		this.deleteSnapshots(key, snapshot);
+		if(!snapshot.isFile()) {
+			return 0;
+		}
+
+		if(end > channel.size() || !Arrays.equals(fingerprint, getFingerprint(channel, end))) {
+			logger.info("incremental: the input file was changed, it is read again");
+			return 0;
+		}
+		try {
+			if(!Snapshot.read(snapshot, secrets)) {
+				return 0;
+			}
+		} catch (IOException e) {
+			secrets.clear();
+			return 0;
+		}
+
+		for (Secret secret : secrets) {
+			this.lineCounter += secret.size();
+		}
+		return end;
+	}
+
+	/**
+	 * This method writes the snapshot of the sorted secrets under a
+	 * new name and the state with the number of bytes read and the
+	 * name of the snapshot. The previous snapshot is deleted, once
+	 * the state names the new snapshot.
+	 *
+	 * @param key key of the input file
+	 * @param state
+	 * @param channel
+	 * @param end number of bytes read
+	 * @param secrets
+	 */
+	private void writeState(String key, File state, FileChannel channel, long end, ArrayList<Secret> secrets) {
+		try {
+			File snapshot = File.createTempFile(key + "-", ".snapshot", this.cacheDir);
+			Snapshot.write(snapshot, secrets);
+
+			byte[] fingerprint = getFingerprint(channel, end);
+			File tmp = File.createTempFile("state", ".tmp", this.cacheDir);
+			DataOutputStream out = new DataOutputStream(new FileOutputStream(tmp));
+			try {
+				out.writeLong(end);
+				out.writeInt(fingerprint.length);
+				out.write(fingerprint);
+				out.writeUTF(snapshot.getName());
+			} finally {
+				out.close();
+			}
+
+			state.delete();
+			if(!tmp.renameTo(state)) {
+				tmp.delete();
+				snapshot.delete();
+				logger.warning("Error writing the state " + state + ".");
+				return;
+			}
+			this.deleteSnapshots(key, snapshot);
+		} catch (IOException e) {
+			logger.warning("Error writing the snapshot of " + this.inputFile + ".");
+		}
+	}
+
+	/**
+	 * This method deletes the snapshots of the key except the
+	 * snapshot to keep. A snapshot, which is still mapped, can't
+	 * be deleted on every system, it is deleted by a later run.
+	 *
+	 * @param key key of the input file
+	 * @param keep snapshot to keep or null
+	 */
+	private void deleteSnapshots(final String key, final File keep) {
+		File[] snapshots = this.cacheDir.listFiles(new FileFilter() {
+			public boolean accept(File file) {
+				return file.getName().startsWith(key + "-") && file.getName().endsWith(".snapshot") && !file.equals(keep);
+			}
+		});
+		if(snapshots == null) {
+			return;
+		}
+		for (File snapshot : snapshots) {
+			snapshot.delete();
+		}
+	}
+
+	/**
+	 * This method returns the key of the input file. The key is the
+	 * SHA-1 hash of the canonical path.
+	 *
+	 * @return String key
+	 * @throws IOException
+	 */
+	private String getKey() throws IOException {
+		byte[] hash = sha1(ByteBuffer.wrap(new File(this.inputFile).getCanonicalPath().getBytes("UTF-8")));
+		StringBuilder key = new StringBuilder("incremental-");
+		for (byte b : hash) {
+			key.append(String.format("%02x", b & 0xff));
+		}
+		return key.toString();
+	}
+
+	/**
+	 * This method returns the SHA-1 hash of the bytes in front of
+	 * the end of the channel.
+	 *
+	 * @param channel
+	 * @param end
+	 * @return byte[] hash
+	 * @throws IOException
+	 */
+	private static byte[] getFingerprint(FileChannel channel, long end) throws IOException {
+		long start = Math.max(0, end - FINGERPRINT_SIZE);
+		return sha1(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+	}
+
+	private static byte[] sha1(ByteBuffer buffer) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			digest.update(buffer);
+			return digest.digest();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public String getInputFile() {
+		return inputFile;
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.Reader#getResultsFile()
+	 */
+	public File getResultsFile() {
+		return this.resultsFile;
+	}
+}
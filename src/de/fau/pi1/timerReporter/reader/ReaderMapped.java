@@ -0,0 +1,88 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.tools.Conf;
+
+/**
+ * An object of this class represents the memory mapped csv reader. It
+ * reads the same csv files as the csv reader, but it scans the bytes of
+ * the mapped file directly. The delimiter is detected once per file.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class ReaderMapped extends Reader implements MeasurementSink {
+	String inputFile = null;
+	private ArrayList<Secret> secrets = null;
+	private ArrayList<Secret> secretIndex = new ArrayList<Secret>();
+	private SecretDictionary dictionary = null;
+	private int lineCounter = 0;
+
+	public ReaderMapped(){
+		if(Conf.get("inputFile") != null) {
+			this.inputFile = Conf.get("inputFile");
+		} else {
+			logger.warning("You have to specify an input file.");
+			System.exit(1);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.Reader#read(java.util.ArrayList)
+	 */
+	public void read(ArrayList<Secret> secrets) {
+		this.secrets = secrets;
+		this.dictionary = new SecretDictionary();
+
+		try {
+			RandomAccessFile file = new RandomAccessFile(this.inputFile, "r");
+			try {
+				FileChannel channel = file.getChannel();
+				LineScanner scanner = new LineScanner(LineScanner.detectDelimiter(channel), this.dictionary, this);
+				scanner.scan(channel, 0, channel.size());
+			} finally {
+				file.close();
+			}
+		} catch(NumberFormatException nfe) {
+			logger.warning("NumberFormatException in line " + (this.lineCounter + 1) + ": " + nfe.getMessage());
+			System.exit(1);
+		} catch (FileNotFoundException e) {
+			logger.warning("File " + inputFile + " not found.");
+			System.exit(1);
+		} catch (IOException e) {
+			logger.warning("E/A-Error");
+			System.exit(1);
+		}
+
+		// the time list in secrets should always be sorted
+		for (Secret secret : secrets) {
+			secret.sortTimes();
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.MeasurementSink#add(int, long)
+	 */
+	public void add(int secret, long time) {
+		if(secret == this.secretIndex.size()) {
+			Secret newSecret = new Secret(this.dictionary.getName(secret), "secret" + secret);
+			this.secrets.add(newSecret);
+			this.secretIndex.add(newSecret);
+		}
+
+		this.secretIndex.get(secret).addTime(this.lineCounter, time);
+		++this.lineCounter;
+	}
+
+	public String getInputFile() {
+		return inputFile;
+	}
+}
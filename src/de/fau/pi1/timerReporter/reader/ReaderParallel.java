@@ -0,0 +1,168 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.tools.Conf;
+
+/**
+ * An object of this class represents the parallel csv reader. It splits
+ * the memory mapped input file into chunks at line boundaries and scans
+ * every chunk in its own thread. Afterwards, the chunks are merged in file
+ * order, so the secrets and times are the same as of the csv reader.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class ReaderParallel extends Reader {
+	private static final long MIN_CHUNK_SIZE = 1L << 20;
+	String inputFile = null;
+	private int threads = Runtime.getRuntime().availableProcessors();
+
+	public ReaderParallel(){
+		if(Conf.get("inputFile") != null) {
+			this.inputFile = Conf.get("inputFile");
+		} else {
+			logger.warning("You have to specify an input file.");
+			System.exit(1);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.Reader#read(java.util.ArrayList)
+	 */
+	public void read(ArrayList<Secret> secrets) {
+		ExecutorService threadPool = Executors.newFixedThreadPool(this.threads);
+
+		try {
+			RandomAccessFile file = new RandomAccessFile(this.inputFile, "r");
+			try {
+				FileChannel channel = file.getChannel();
+				ArrayList<ChunkJob> chunks = this.split(channel, LineScanner.detectDelimiter(channel));
+
+				ArrayList<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+				for (ChunkJob chunk : chunks) {
+					futures.add(threadPool.submit(chunk));
+				}
+
+				int lineOffset = 0;
+				for (int i = 0; i < chunks.size(); ++i) {
+					try {
+						futures.get(i).get();
+					} catch (ExecutionException e) {
+						if(e.getCause() instanceof NumberFormatException) {
+							logger.warning("NumberFormatException in line " + (lineOffset + chunks.get(i).getLineCount() + 1) + ": " + e.getCause().getMessage());
+							System.exit(1);
+						} else if(e.getCause() instanceof IOException) {
+							throw (IOException) e.getCause();
+						}
+						throw new RuntimeException(e.getCause());
+					}
+					lineOffset += chunks.get(i).getLineCount();
+				}
+
+				this.merge(secrets, chunks, threadPool);
+			} finally {
+				file.close();
+				threadPool.shutdown();
+			}
+		} catch (FileNotFoundException e) {
+			logger.warning("File " + inputFile + " not found.");
+			System.exit(1);
+		} catch (IOException e) {
+			logger.warning("E/A-Error");
+			System.exit(1);
+		} catch (InterruptedException e) {
+			logger.warning("Reading of the input file was interrupted.");
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * This method splits the file into chunks. Every chunk starts at
+	 * the beginning of a line.
+	 *
+	 * @param channel
+	 * @param delimiter
+	 * @return ArrayList<ChunkJob> chunks in file order
+	 * @throws IOException
+	 */
+	private ArrayList<ChunkJob> split(FileChannel channel, byte delimiter) throws IOException {
+		long size = channel.size();
+		long numberChunks = Math.max(1, Math.min(this.threads * 4L, size / MIN_CHUNK_SIZE));
+		ArrayList<ChunkJob> chunks = new ArrayList<ChunkJob>();
+
+		long start = 0;
+		for (long i = 1; i <= numberChunks && start < size; ++i) {
+			long end = (i == numberChunks) ? size : LineScanner.nextLineStart(channel, (size * i) / numberChunks);
+			if(end > start) {
+				chunks.add(new ChunkJob(channel, start, end, delimiter));
+				start = end;
+			}
+		}
+		return chunks;
+	}
+
+	/**
+	 * This method merges the secrets of all chunks. The secrets are numbered
+	 * in order of their first appearance in the file and every secret is
+	 * merged and sorted in its own thread.
+	 *
+	 * @param secrets
+	 * @param chunks
+	 * @param threadPool
+	 * @throws InterruptedException
+	 */
+	private void merge(ArrayList<Secret> secrets, ArrayList<ChunkJob> chunks, ExecutorService threadPool) throws InterruptedException {
+		SecretDictionary dictionary = new SecretDictionary();
+		ArrayList<int[]> localIndices = new ArrayList<int[]>();
+		int[] lineOffsets = new int[chunks.size()];
+
+		for (int i = 0; i < chunks.size(); ++i) {
+			SecretDictionary chunkDictionary = chunks.get(i).getDictionary();
+			for (int local = 0; local < chunkDictionary.size(); ++local) {
+				int secret = dictionary.lookup(chunkDictionary.getBytes(local));
+				if(secret == localIndices.size()) {
+					int[] localIndex = new int[chunks.size()];
+					Arrays.fill(localIndex, -1);
+					localIndices.add(localIndex);
+				}
+				localIndices.get(secret)[i] = local;
+			}
+
+			if(i + 1 < chunks.size()) {
+				lineOffsets[i + 1] = lineOffsets[i] + chunks.get(i).getLineCount();
+			}
+		}
+
+		ArrayList<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+		for (int secret = 0; secret < dictionary.size(); ++secret) {
+			Secret newSecret = new Secret(dictionary.getName(secret), "secret" + secret);
+			secrets.add(newSecret);
+			futures.add(threadPool.submit(new MergeJob(newSecret, chunks, localIndices.get(secret), lineOffsets)));
+		}
+
+		for (Future<Boolean> future : futures) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				throw new RuntimeException(e.getCause());
+			}
+		}
+	}
+
+	public String getInputFile() {
+		return inputFile;
+	}
+}
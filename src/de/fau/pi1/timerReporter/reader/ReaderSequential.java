@@ -0,0 +1,115 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.tools.Conf;
+
+/**
+ * An object of this class represents the sequential csv reader. It scans
+ * the mapped input file in growing prefixes in measurement order. The
+ * prefixes double in size, the last prefix is the whole file. After every
+ * prefix the secrets are sorted and the stopping rule is asked, if the
+ * prefix is enough. The lines behind the stopped prefix are not read.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class ReaderSequential extends Reader implements MeasurementSink {
+	String inputFile = null;
+	private StoppingRule rule;
+	private int looks = Integer.parseInt(Conf.get("looks"));
+	private ArrayList<Secret> secrets = null;
+	private ArrayList<Secret> secretIndex = new ArrayList<Secret>();
+	private SecretDictionary dictionary = null;
+	private int lineCounter = 0;
+
+	/**
+	 * @param rule stopping rule of the prefixes
+	 */
+	public ReaderSequential(StoppingRule rule){
+		this.rule = rule;
+		if(Conf.get("inputFile") != null) {
+			this.inputFile = Conf.get("inputFile");
+		} else {
+			logger.warning("You have to specify an input file.");
+			System.exit(1);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.Reader#read(java.util.ArrayList)
+	 */
+	public void read(ArrayList<Secret> secrets) {
+		this.secrets = secrets;
+		this.dictionary = new SecretDictionary();
+
+		try {
+			RandomAccessFile file = new RandomAccessFile(this.inputFile, "r");
+			try {
+				FileChannel channel = file.getChannel();
+				LineScanner scanner = new LineScanner(LineScanner.detectDelimiter(channel), this.dictionary, this);
+				long size = channel.size();
+				long position = 0;
+
+				for (int look = 1; look <= this.looks && position < size; ++look) {
+					long end = (look == this.looks) ? size : LineScanner.nextLineStart(channel, size >> (this.looks - look));
+					if(end <= position) {
+						continue;
+					}
+					scanner.scan(channel, position, end);
+					position = end;
+
+					// the time list in secrets should always be sorted
+					for (Secret secret : secrets) {
+						secret.sortTimes();
+					}
+
+					// the whole file is evaluated after the final look anyway
+					if(position < size && this.rule.isStopped(secrets, (double) position / size)) {
+						break;
+					}
+				}
+
+				if(position < size) {
+					logger.info("sequential: stopped after " + this.lineCounter + " measurements, " + (position * 100 / size) + "% of the input file");
+				}
+			} finally {
+				file.close();
+			}
+		} catch(NumberFormatException nfe) {
+			logger.warning("NumberFormatException in line " + (this.lineCounter + 1) + ": " + nfe.getMessage());
+			System.exit(1);
+		} catch (FileNotFoundException e) {
+			logger.warning("File " + inputFile + " not found.");
+			System.exit(1);
+		} catch (IOException e) {
+			logger.warning("E/A-Error");
+			System.exit(1);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see de.fau.pi1.timerReporter.reader.MeasurementSink#add(int, long)
+	 */
+	public void add(int secret, long time) {
+		if(secret == this.secretIndex.size()) {
+			Secret newSecret = new Secret(this.dictionary.getName(secret), "secret" + secret);
+			this.secrets.add(newSecret);
+			this.secretIndex.add(newSecret);
+		}
+
+		this.secretIndex.get(secret).addTime(this.lineCounter, time);
+		++this.lineCounter;
+	}
+
+	public String getInputFile() {
+		return inputFile;
+	}
+}
@@ -0,0 +1,65 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.util.ArrayList;
+
+/**
+ * An object of this class holds a batch of parsed rows, which is handed
+ * from the reading thread to the evaluating thread. The secrets are given
+ * as indices of the secret dictionary of the reading thread, the names of
+ * the indices, which are new in the batch, are passed with the batch.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class RowBatch {
+	private int[] secrets;
+	private long[] times;
+	private int size = 0;
+	private ArrayList<String> newNames = new ArrayList<String>();
+
+	/**
+	 * @param capacity maximum number of rows
+	 */
+	public RowBatch(int capacity) {
+		this.secrets = new int[capacity];
+		this.times = new long[capacity];
+	}
+
+	/**
+	 * This method adds a row and returns true, if the batch is full.
+	 *
+	 * @param secret index of the secret
+	 * @param time
+	 * @return boolean true, if the batch is full
+	 */
+	public boolean add(int secret, long time) {
+		this.secrets[this.size] = secret;
+		this.times[this.size] = time;
+		++this.size;
+		return this.size == this.times.length;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public int getSecret(int row) {
+		return this.secrets[row];
+	}
+
+	public long getTime(int row) {
+		return this.times[row];
+	}
+
+	/**
+	 * This method returns the names of the secrets, which first
+	 * appear in the batch, in the order of their indices.
+	 *
+	 * @return ArrayList<String> names
+	 */
+	public ArrayList<String> getNewNames() {
+		return this.newNames;
+	}
+}
@@ -0,0 +1,169 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An object of this class maps the raw bytes of a secret name to the index
+ * of the secret. The lookup works on a slice of a byte buffer, so a known
+ * secret is resolved without creating a string. The indices are given in
+ * order of the first appearance.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class SecretDictionary {
+	private byte[][] names = new byte[16][];
+	private int[] hashes = new int[16];
+	private String[] decodedNames = new String[16];
+	private int[] table = new int[32];
+	private int size = 0;
+
+	/**
+	 * This method returns the index of the secret name between start
+	 * (inclusive) and end (exclusive) of the buffer. An unknown name
+	 * is added to the dictionary.
+	 *
+	 * @param buffer
+	 * @param start
+	 * @param end
+	 * @return int index of the secret
+	 */
+	public int lookup(ByteBuffer buffer, int start, int end) {
+		int hash = hash(buffer, start, end);
+		int mask = this.table.length - 1;
+		int slot = hash & mask;
+
+		while (this.table[slot] != 0) {
+			int index = this.table[slot] - 1;
+			if (this.hashes[index] == hash && equals(this.names[index], buffer, start, end)) {
+				return index;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		byte[] name = new byte[end - start];
+		for (int i = 0; i < name.length; ++i) {
+			name[i] = buffer.get(start + i);
+		}
+		return this.insert(name, hash, slot);
+	}
+
+	/**
+	 * This method returns the index of the secret name. An unknown name
+	 * is added to the dictionary.
+	 *
+	 * @param name
+	 * @return int index of the secret
+	 */
+	public int lookup(byte[] name) {
+		return this.lookup(ByteBuffer.wrap(name), 0, name.length);
+	}
+
+	/**
+	 * This method returns the name of the secret as string. The string is
+	 * decoded only once per secret.
+	 *
+	 * @param index
+	 * @return String name of the secret
+	 */
+	public String getName(int index) {
+		if (this.decodedNames[index] == null) {
+			this.decodedNames[index] = new String(this.names[index]);
+		}
+		return this.decodedNames[index];
+	}
+
+	/**
+	 * This method returns the raw bytes of the secret name.
+	 *
+	 * @param index
+	 * @return byte[] name of the secret
+	 */
+	public byte[] getBytes(int index) {
+		return this.names[index];
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * This method adds a new name into the free slot of the table.
+	 *
+	 * @param name
+	 * @param hash
+	 * @param slot
+	 * @return int index of the new secret
+	 */
+	private int insert(byte[] name, int hash, int slot) {
+		if (this.size == this.names.length) {
+			byte[][] newNames = new byte[this.size * 2][];
+			int[] newHashes = new int[this.size * 2];
+			String[] newDecodedNames = new String[this.size * 2];
+			System.arraycopy(this.names, 0, newNames, 0, this.size);
+			System.arraycopy(this.hashes, 0, newHashes, 0, this.size);
+			System.arraycopy(this.decodedNames, 0, newDecodedNames, 0, this.size);
+			this.names = newNames;
+			this.hashes = newHashes;
+			this.decodedNames = newDecodedNames;
+		}
+
+		int index = this.size++;
+		this.names[index] = name;
+		this.hashes[index] = hash;
+		this.table[slot] = index + 1;
+
+		// keep the load factor of the table below one half
+		if (this.size * 2 > this.table.length) {
+			this.rehash();
+		}
+		return index;
+	}
+
+	/**
+	 * This method doubles the size of the hash table.
+	 */
+	private void rehash() {
+		int[] newTable = new int[this.table.length * 2];
+		int mask = newTable.length - 1;
+		for (int index = 0; index < this.size; ++index) {
+			int slot = this.hashes[index] & mask;
+			while (newTable[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			newTable[slot] = index + 1;
+		}
+		this.table = newTable;
+	}
+
+	/**
+	 * This method returns the FNV-1a hash of the bytes.
+	 *
+	 * @param buffer
+	 * @param start
+	 * @param end
+	 * @return int hash
+	 */
+	private static int hash(ByteBuffer buffer, int start, int end) {
+		int hash = 0x811c9dc5;
+		for (int i = start; i < end; ++i) {
+			hash ^= buffer.get(i) & 0xff;
+			hash *= 0x01000193;
+		}
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean equals(byte[] name, ByteBuffer buffer, int start, int end) {
+		if (name.length != end - start) {
+			return false;
+		}
+		for (int i = 0; i < name.length; ++i) {
+			if (name[i] != buffer.get(start + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
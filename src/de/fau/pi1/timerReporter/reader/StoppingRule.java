@@ -0,0 +1,27 @@
+package de.fau.pi1.timerReporter.reader;
+
+import java.util.ArrayList;
+
+import de.fau.pi1.timerReporter.dataset.Secret;
+
+/**
+ * A stopping rule decides after every prefix of the sequential reader, if
+ * the measurements read so far are enough. The secrets of the prefix are
+ * sorted, when the rule is asked.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public interface StoppingRule {
+
+	/**
+	 * This method is called once per prefix of the input file.
+	 *
+	 * @param secrets sorted secrets of the prefix
+	 * @param fraction fraction of the input file in the prefix
+	 * @return boolean true to stop reading
+	 */
+	public boolean isStopped(ArrayList<Secret> secrets, double fraction);
+}
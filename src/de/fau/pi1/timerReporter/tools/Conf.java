@@ -85,6 +85,22 @@ public class Conf {
 	 * -lowerOptimalBound: Lower bound of the optimal box. The lower optimal box must be smaller than the upper optimal box. [0.0-0.99] (no default value).<br />
 	 * -upperOptimalBound: Upper bound of the optimal box. The upper optimal box must be bigger than the lower optimal box. [0.01-1.0] (no default value).<br />
 	 * -verbose: Option to start a finer logging.<br />
+	 * -reader: Reader of the input file, csv (default), mapped, parallel, binary, sequential or incremental.<br />
+	 * -storage: Storage of the samples, heap (default), runs of equal times on the heap, mapped files in the work directory or quantile sketches.<br />
+	 * -workDir: Work directory of the mapped sample files (default is reportingTool_tmp).<br />
+	 * -cacheDir: Directory of the snapshot cache, no snapshots are cached if it is not set.<br />
+	 * -cacheSize: Maximum size of the snapshot cache in megabytes (default is 1024).<br />
+	 * -resolution: Resolution of the box bounds, percent (default), permille, permyriad or exact sample ranks.<br />
+	 * -sizeSearch: Search of the smallest sizes, bisect (default) halves and doubles them, exact searches the exact minimal sizes.<br />
+	 * -pairs: Pairs of secrets to evaluate, all (default) ordered pairs or ranked groups of equivalent secrets.<br />
+	 * -bootstrap: Number of bootstrap replicates of the optimal box and the smallest size (default is 0, no bootstrap).<br />
+	 * -bootstrapSeed: Seed of the bootstrap replicates (default is 1).<br />
+	 * -tests: Two-sample tests of every pair, none (default) or a comma separated list of mwu, ks and ad.<br />
+	 * -sketchError: Normalized rank error of the quantile sketches of the sketch storage (default is 0.001).<br />
+	 * -sequentialAlpha: Error rate of the sequential reader (default is 0.05).<br />
+	 * -looks: Number of growing prefixes of the sequential reader (default is 8).<br />
+	 * -timeBudget: Time budget of the evaluation phase in seconds (default is 0 for no budget).<br />
+	 * -memoryBudget: Memory budget of the evaluation phase in megabytes (default is 0 for no budget).<br />
 	 * 
 	 * @param key
 	 * @param value
@@ -270,6 +286,144 @@ public class Conf {
 				this.conf.put("verbose", "false");
 			}
 		}
+
+		if (result.contains("reader")) {
+			if (isReader(result.getString("reader"))) {
+				this.conf.put("reader", result.getString("reader"));
+			} else {
+				logger.warning("No valide input for the value of reader.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("storage")) {
+			if (result.getString("storage").equals("heap") || result.getString("storage").equals("runs") || result.getString("storage").equals("mapped") || result.getString("storage").equals("sketch")) {
+				this.conf.put("storage", result.getString("storage"));
+			} else {
+				logger.warning("No valide input for the value of storage.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("workDir")) {
+			this.conf.put("workDir", result.getString("workDir"));
+		}
+
+		if (result.contains("cacheDir")) {
+			this.conf.put("cacheDir", result.getString("cacheDir"));
+		}
+
+		if (result.contains("cacheSize")) {
+			try {
+				Integer.parseInt(result.getString("cacheSize"));
+				this.conf.put("cacheSize", result.getString("cacheSize"));
+			} catch (NumberFormatException e) {
+				logger.warning("The value of cache size must be an integer.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("resolution")) {
+			if (result.getString("resolution").equals("percent") || result.getString("resolution").equals("permille") || result.getString("resolution").equals("permyriad")
+					|| result.getString("resolution").equals("exact")) {
+				this.conf.put("resolution", result.getString("resolution"));
+			} else {
+				logger.warning("No valide input for the value of resolution.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("sizeSearch")) {
+			if (result.getString("sizeSearch").equals("bisect") || result.getString("sizeSearch").equals("exact")) {
+				this.conf.put("sizeSearch", result.getString("sizeSearch"));
+			} else {
+				logger.warning("No valide input for the value of size search.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("pairs")) {
+			if (result.getString("pairs").equals("all") || result.getString("pairs").equals("ranked")) {
+				this.conf.put("pairs", result.getString("pairs"));
+			} else {
+				logger.warning("No valide input for the value of pairs.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("bootstrap")) {
+			try {
+				Integer.parseInt(result.getString("bootstrap"));
+				this.conf.put("bootstrap", result.getString("bootstrap"));
+			} catch (NumberFormatException e) {
+				logger.warning("The value of bootstrap must be an integer.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("bootstrapSeed")) {
+			try {
+				Integer.parseInt(result.getString("bootstrapSeed"));
+				this.conf.put("bootstrapSeed", result.getString("bootstrapSeed"));
+			} catch (NumberFormatException e) {
+				logger.warning("The value of bootstrap seed must be an integer.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("tests")) {
+			this.conf.put("tests", result.getString("tests"));
+		}
+
+		if (result.contains("sketchError")) {
+			try {
+				Double.parseDouble(result.getString("sketchError"));
+				this.conf.put("sketchError", result.getString("sketchError"));
+			} catch (NumberFormatException e) {
+				logger.warning("The value of sketch error must be a double.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("sequentialAlpha")) {
+			try {
+				Double.parseDouble(result.getString("sequentialAlpha"));
+				this.conf.put("sequentialAlpha", result.getString("sequentialAlpha"));
+			} catch (NumberFormatException e) {
+				logger.warning("The value of sequential alpha must be a double.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("looks")) {
+			try {
+				Integer.parseInt(result.getString("looks"));
+				this.conf.put("looks", result.getString("looks"));
+			} catch (NumberFormatException e) {
+				logger.warning("The value of looks must be an integer.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("timeBudget")) {
+			try {
+				Integer.parseInt(result.getString("timeBudget"));
+				this.conf.put("timeBudget", result.getString("timeBudget"));
+			} catch (NumberFormatException e) {
+				logger.warning("The value of time budget must be an integer.");
+				System.exit(1);
+			}
+		}
+
+		if (result.contains("memoryBudget")) {
+			try {
+				Integer.parseInt(result.getString("memoryBudget"));
+				this.conf.put("memoryBudget", result.getString("memoryBudget"));
+			} catch (NumberFormatException e) {
+				logger.warning("The value of memory budget must be an integer.");
+				System.exit(1);
+			}
+		}
 	}
 	
 	/**
@@ -365,6 +519,144 @@ public class Conf {
 				this.conf.put("verbose", section.get("verbose"));
 			}
 
+			if (section.containsKey("reader")) {
+				if (isReader(section.get("reader"))) {
+					this.conf.put("reader", section.get("reader"));
+				} else {
+					logger.warning("No valide input for the value of reader.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("storage")) {
+				if (section.get("storage").equals("heap") || section.get("storage").equals("runs") || section.get("storage").equals("mapped") || section.get("storage").equals("sketch")) {
+					this.conf.put("storage", section.get("storage"));
+				} else {
+					logger.warning("No valide input for the value of storage.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("workDir")) {
+				this.conf.put("workDir", section.get("workDir"));
+			}
+
+			if (section.containsKey("cacheDir")) {
+				this.conf.put("cacheDir", section.get("cacheDir"));
+			}
+
+			if (section.containsKey("cacheSize")) {
+				try {
+					Integer.parseInt(section.get("cacheSize"));
+					this.conf.put("cacheSize", section.get("cacheSize"));
+				} catch (NumberFormatException e) {
+					logger.warning("The value of cache size must be an integer.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("resolution")) {
+				if (section.get("resolution").equals("percent") || section.get("resolution").equals("permille") || section.get("resolution").equals("permyriad")
+						|| section.get("resolution").equals("exact")) {
+					this.conf.put("resolution", section.get("resolution"));
+				} else {
+					logger.warning("No valide input for the value of resolution.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("sizeSearch")) {
+				if (section.get("sizeSearch").equals("bisect") || section.get("sizeSearch").equals("exact")) {
+					this.conf.put("sizeSearch", section.get("sizeSearch"));
+				} else {
+					logger.warning("No valide input for the value of size search.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("pairs")) {
+				if (section.get("pairs").equals("all") || section.get("pairs").equals("ranked")) {
+					this.conf.put("pairs", section.get("pairs"));
+				} else {
+					logger.warning("No valide input for the value of pairs.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("bootstrap")) {
+				try {
+					Integer.parseInt(section.get("bootstrap"));
+					this.conf.put("bootstrap", section.get("bootstrap"));
+				} catch (NumberFormatException e) {
+					logger.warning("The value of bootstrap must be an integer.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("bootstrapSeed")) {
+				try {
+					Integer.parseInt(section.get("bootstrapSeed"));
+					this.conf.put("bootstrapSeed", section.get("bootstrapSeed"));
+				} catch (NumberFormatException e) {
+					logger.warning("The value of bootstrap seed must be an integer.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("tests")) {
+				this.conf.put("tests", section.get("tests"));
+			}
+
+			if (section.containsKey("sketchError")) {
+				try {
+					Double.parseDouble(section.get("sketchError"));
+					this.conf.put("sketchError", section.get("sketchError"));
+				} catch (NumberFormatException e) {
+					logger.warning("The value of sketch error must be a double.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("sequentialAlpha")) {
+				try {
+					Double.parseDouble(section.get("sequentialAlpha"));
+					this.conf.put("sequentialAlpha", section.get("sequentialAlpha"));
+				} catch (NumberFormatException e) {
+					logger.warning("The value of sequential alpha must be a double.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("looks")) {
+				try {
+					Integer.parseInt(section.get("looks"));
+					this.conf.put("looks", section.get("looks"));
+				} catch (NumberFormatException e) {
+					logger.warning("The value of looks must be an integer.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("timeBudget")) {
+				try {
+					Integer.parseInt(section.get("timeBudget"));
+					this.conf.put("timeBudget", section.get("timeBudget"));
+				} catch (NumberFormatException e) {
+					logger.warning("The value of time budget must be an integer.");
+					System.exit(1);
+				}
+			}
+
+			if (section.containsKey("memoryBudget")) {
+				try {
+					Integer.parseInt(section.get("memoryBudget"));
+					this.conf.put("memoryBudget", section.get("memoryBudget"));
+				} catch (NumberFormatException e) {
+					logger.warning("The value of memory budget must be an integer.");
+					System.exit(1);
+				}
+			}
+
 		} catch (InvalidFileFormatException e) {
 		} catch (IOException e) {
 		}
@@ -464,6 +756,102 @@ public class Conf {
 			verbose.setHelp("Option to start a finer logging.");
 			jsap.registerParameter(verbose);
 
+			// reader
+			FlaggedOption reader = new FlaggedOption("reader")
+			.setLongFlag("reader");
+			reader.setHelp("Reader of the input file, csv (default), mapped, parallel, binary, sequential or incremental.");
+			jsap.registerParameter(reader);
+
+			// storage
+			FlaggedOption storage = new FlaggedOption("storage")
+			.setLongFlag("storage");
+			storage.setHelp("Storage of the samples, heap (default), runs of equal times on the heap, mapped files in the work directory or quantile sketches.");
+			jsap.registerParameter(storage);
+
+			// workDir
+			FlaggedOption workDir = new FlaggedOption("workDir")
+			.setLongFlag("workDir");
+			workDir.setHelp("Work directory of the mapped sample files (default is reportingTool_tmp).");
+			jsap.registerParameter(workDir);
+
+			// cacheDir
+			FlaggedOption cacheDir = new FlaggedOption("cacheDir")
+			.setLongFlag("cacheDir");
+			cacheDir.setHelp("Directory of the snapshot cache, no snapshots are cached if it is not set.");
+			jsap.registerParameter(cacheDir);
+
+			// cacheSize
+			FlaggedOption cacheSize = new FlaggedOption("cacheSize")
+			.setLongFlag("cacheSize");
+			cacheSize.setHelp("Maximum size of the snapshot cache in megabytes (default is 1024).");
+			jsap.registerParameter(cacheSize);
+
+			// resolution
+			FlaggedOption resolution = new FlaggedOption("resolution")
+			.setLongFlag("resolution");
+			resolution.setHelp("Resolution of the box bounds, percent (default), permille, permyriad or exact sample ranks.");
+			jsap.registerParameter(resolution);
+
+			// sizeSearch
+			FlaggedOption sizeSearch = new FlaggedOption("sizeSearch")
+			.setLongFlag("sizeSearch");
+			sizeSearch.setHelp("Search of the smallest sizes, bisect (default) halves and doubles them, exact searches the exact minimal sizes.");
+			jsap.registerParameter(sizeSearch);
+
+			// pairs
+			FlaggedOption pairs = new FlaggedOption("pairs")
+			.setLongFlag("pairs");
+			pairs.setHelp("Pairs of secrets to evaluate, all (default) ordered pairs or ranked groups of equivalent secrets.");
+			jsap.registerParameter(pairs);
+
+			// bootstrap
+			FlaggedOption bootstrap = new FlaggedOption("bootstrap")
+			.setLongFlag("bootstrap");
+			bootstrap.setHelp("Number of bootstrap replicates of the optimal box and the smallest size (default is 0, no bootstrap).");
+			jsap.registerParameter(bootstrap);
+
+			// bootstrapSeed
+			FlaggedOption bootstrapSeed = new FlaggedOption("bootstrapSeed")
+			.setLongFlag("bootstrapSeed");
+			bootstrapSeed.setHelp("Seed of the bootstrap replicates (default is 1).");
+			jsap.registerParameter(bootstrapSeed);
+
+			// tests
+			FlaggedOption tests = new FlaggedOption("tests")
+			.setLongFlag("tests");
+			tests.setHelp("Two-sample tests of every pair, none (default) or a comma separated list of mwu, ks and ad.");
+			jsap.registerParameter(tests);
+
+			// sketchError
+			FlaggedOption sketchError = new FlaggedOption("sketchError")
+			.setLongFlag("sketchError");
+			sketchError.setHelp("Normalized rank error of the quantile sketches of the sketch storage (default is 0.001).");
+			jsap.registerParameter(sketchError);
+
+			// sequentialAlpha
+			FlaggedOption sequentialAlpha = new FlaggedOption("sequentialAlpha")
+			.setLongFlag("sequentialAlpha");
+			sequentialAlpha.setHelp("Error rate of the sequential reader (default is 0.05).");
+			jsap.registerParameter(sequentialAlpha);
+
+			// looks
+			FlaggedOption looks = new FlaggedOption("looks")
+			.setLongFlag("looks");
+			looks.setHelp("Number of growing prefixes of the sequential reader (default is 8).");
+			jsap.registerParameter(looks);
+
+			// timeBudget
+			FlaggedOption timeBudget = new FlaggedOption("timeBudget")
+			.setLongFlag("timeBudget");
+			timeBudget.setHelp("Time budget of the evaluation phase in seconds (default is 0 for no budget).");
+			jsap.registerParameter(timeBudget);
+
+			// memoryBudget
+			FlaggedOption memoryBudget = new FlaggedOption("memoryBudget")
+			.setLongFlag("memoryBudget");
+			memoryBudget.setHelp("Memory budget of the evaluation phase in megabytes (default is 0 for no budget).");
+			jsap.registerParameter(memoryBudget);
+
 		} catch (JSAPException e) {
 		}
 		return jsap;
@@ -498,7 +886,33 @@ public class Conf {
 		this.conf.put("lowerOptimalBound ", null);
 		this.conf.put("upperOptimalBound ", null);
 		this.conf.put("verbose", "0");
+		this.conf.put("reader", "csv");
+		this.conf.put("storage", "heap");
+		this.conf.put("workDir", "reportingTool_tmp");
+		this.conf.put("cacheSize", "1024");
+		this.conf.put("resolution", "percent");
+		this.conf.put("sizeSearch", "bisect");
+		this.conf.put("pairs", "all");
+		this.conf.put("bootstrap", "0");
+		this.conf.put("bootstrapSeed", "1");
+		this.conf.put("tests", "none");
+		this.conf.put("sketchError", "0.001");
+		this.conf.put("sequentialAlpha", "0.05");
+		this.conf.put("looks", "8");
+		this.conf.put("timeBudget", "0");
+		this.conf.put("memoryBudget", "0");
+
+	}
 
+	/**
+	 * This method checks if the value names a reader.
+	 * 
+	 * @param value
+	 * @return boolean
+	 */
+	private boolean isReader(String value) {
+		return value.equals("csv") || value.equals("mapped") || value.equals("parallel") || value.equals("binary")
+				|| value.equals("sequential") || value.equals("incremental");
 	}
 
 	/**
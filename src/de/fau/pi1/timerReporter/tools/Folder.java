@@ -1,7 +1,6 @@
 package de.fau.pi1.timerReporter.tools;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -80,22 +79,6 @@ public class Folder {
 		return sep + sep;
 	}
 	
-	/**
-	 * This method converts an array list of strings into one string.
-	 * 
-	 * @param list
-	 * @return String
-	 */
-	public static String convertArrayListToString(ArrayList<String> list) {
-		String convertedString = "";
-
-		for (String string : list) {
-			convertedString += string;
-		}
-
-		return convertedString;
-	}
-	
 	/**
 	 * This method checks if the file exists with the inputed file path and file name.
 	 * 
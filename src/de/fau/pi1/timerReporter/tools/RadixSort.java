@@ -0,0 +1,117 @@
+package de.fau.pi1.timerReporter.tools;
+
+/**
+ * This class sorts primitive long keys together with an int value per key.
+ * The sort is a stable least significant digit radix sort with one byte
+ * per pass. Passes in which all keys have the same digit are skipped, so
+ * typical timings need only four passes.
+ *
+ * @FauTimerReporter
+ * @version 1.0
+ * @17.10.2026
+ *
+ */
+public class RadixSort {
+	private static final int INSERTION_SORT_SIZE = 64;
+
+	/**
+	 * This method sorts the first size keys in ascending order.
+	 *
+	 * @param keys
+	 * @param size
+	 */
+	public static void sort(long[] keys, int size) {
+		sort(keys, null, size);
+	}
+
+	/**
+	 * This method sorts the first size keys in ascending order and moves
+	 * the values with their keys. Equal keys keep their order. The
+	 * values may be null.
+	 *
+	 * @param keys
+	 * @param values
+	 * @param size
+	 */
+	public static void sort(long[] keys, int[] values, int size) {
+		if(size < INSERTION_SORT_SIZE) {
+			insertionSort(keys, values, size);
+			return;
+		}
+
+		// count the digits of all passes at once
+		int[][] counts = new int[8][257];
+		for (int i = 0; i < size; ++i) {
+			long key = keys[i] ^ Long.MIN_VALUE;
+			for (int pass = 0; pass < 8; ++pass) {
+				++counts[pass][(int) ((key >>> (pass * 8)) & 0xff) + 1];
+			}
+		}
+
+		long[] sourceKeys = keys;
+		int[] sourceValues = values;
+		long[] targetKeys = new long[size];
+		int[] targetValues = (values != null) ? new int[size] : null;
+
+		for (int pass = 0; pass < 8; ++pass) {
+			int[] count = counts[pass];
+			int digit = (int) (((sourceKeys[0] ^ Long.MIN_VALUE) >>> (pass * 8)) & 0xff);
+			if(count[digit + 1] == size) {
+				continue;
+			}
+
+			for (int i = 1; i < count.length; ++i) {
+				count[i] += count[i - 1];
+			}
+
+			int shift = pass * 8;
+			for (int i = 0; i < size; ++i) {
+				int position = count[(int) (((sourceKeys[i] ^ Long.MIN_VALUE) >>> shift) & 0xff)]++;
+				targetKeys[position] = sourceKeys[i];
+				if(sourceValues != null) {
+					targetValues[position] = sourceValues[i];
+				}
+			}
+
+			long[] swapKeys = sourceKeys;
+			sourceKeys = targetKeys;
+			targetKeys = swapKeys;
+			int[] swapValues = sourceValues;
+			sourceValues = targetValues;
+			targetValues = swapValues;
+		}
+
+		if(sourceKeys != keys) {
+			System.arraycopy(sourceKeys, 0, keys, 0, size);
+			if(values != null) {
+				System.arraycopy(sourceValues, 0, values, 0, size);
+			}
+		}
+	}
+
+	/**
+	 * This method sorts small arrays by insertion.
+	 *
+	 * @param keys
+	 * @param values
+	 * @param size
+	 */
+	private static void insertionSort(long[] keys, int[] values, int size) {
+		for (int i = 1; i < size; ++i) {
+			long key = keys[i];
+			int value = (values != null) ? values[i] : 0;
+			int j = i - 1;
+			while (j >= 0 && keys[j] > key) {
+				keys[j + 1] = keys[j];
+				if(values != null) {
+					values[j + 1] = values[j];
+				}
+				--j;
+			}
+			keys[j + 1] = key;
+			if(values != null) {
+				values[j + 1] = value;
+			}
+		}
+	}
+}
@@ -8,6 +8,9 @@ import org.apache.commons.lang3.StringEscapeUtils;
 
 import de.fau.pi1.timerReporter.dataset.Dataset;
 import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.dataset.SecretStatistics;
+import de.fau.pi1.timerReporter.evaluation.BoxTestResults;
+import de.fau.pi1.timerReporter.evaluation.TestResult;
 import de.fau.pi1.timerReporter.plots.PlotPaths;
 import de.fau.pi1.timerReporter.plots.PlotPool;
 import de.fau.pi1.timerReporter.tools.FileId;
@@ -27,12 +30,16 @@ public class WriteHTML extends Writer {
 	private Dataset dataSet;
 	private String report;
 	private PlotPool plotPool;
+	private ArrayList<TestResult> testResults;
+	private ArrayList<BoxTestResults> boxTestResults;
 	private String sep = Folder.getFileSep();
 
-	public WriteHTML(Dataset dataSet, String report, PlotPool plotPool) {
+	public WriteHTML(Dataset dataSet, String report, PlotPool plotPool, ArrayList<TestResult> testResults, ArrayList<BoxTestResults> boxTestResults) {
 		this.dataSet = dataSet;
 		this.report = report;
 		this.plotPool = plotPool;
+		this.testResults = testResults;
+		this.boxTestResults = boxTestResults;
 		
 		Folder.checkDir(report + sep);
 	}
@@ -51,13 +58,17 @@ public class WriteHTML extends Writer {
 		ArrayList<Secret> secrets = dataSet.getSecrets();	
 		StringBuilder table = new StringBuilder();
 		for(int i = 0; i < secrets.size(); i++){
+			SecretStatistics statistics = secrets.get(i).getStatistics();
 			String secretName = StringEscapeUtils.unescapeHtml4(secrets.get(i).getName().replaceAll("[^\\x20-\\x7e]", ""));
 			table.append("<tr><td>" + secretName + 
-					"</td><td>" + secrets.get(i).getTimes().size() +
-					"</td><td>" + secrets.get(i).getLowestTime() + 
-					"</td><td>" + secrets.get(i).getHighestTime() + 
-					"</td><td>" + secrets.get(i).getMedian(0, secrets.get(i).getTimes().size() - 1) + 
-					"</td><td>" + secrets.get(i).getArithmeticMean());
+					"</td><td>" + statistics.getCount() +
+					"</td><td>" + statistics.getMin() + 
+					"</td><td>" + statistics.getMax() + 
+					"</td><td>" + statistics.getMedian() + 
+					"</td><td>" + statistics.getArithmeticMean() +
+					"</td><td>" + format(statistics.getStandardDeviation()) +
+					"</td><td>" + format(statistics.getSkewness()) +
+					"</td><td>" + format(statistics.getKurtosis()));
 			table.append("\n");
 		}
 		
@@ -65,6 +76,51 @@ public class WriteHTML extends Writer {
 		
 		replacer.put("measurementName", datasetName);
 		replacer.put("contentTable", table.toString());
+
+		StringBuilder tests = new StringBuilder();
+		if(!this.testResults.isEmpty()) {
+			tests.append("<h1>Two-Sample Tests</h1>\n\n<table border=\"1px\">\n");
+			tests.append("<tr><td>Secret A &lt; Secret B</td><td>Test</td><td>Statistic</td><td>p-Value</td></tr>\n");
+			for (TestResult testResult : this.testResults) {
+				String pair = testResult.getSecretA().getName() + " < " + testResult.getSecretB().getName();
+				tests.append("<tr><td>" + StringEscapeUtils.escapeHtml4(pair.replaceAll("[^\\x20-\\x7e]", "")) +
+						"</td><td>" + testResult.getName() +
+						"</td><td>" + format(testResult.getStatistic()) +
+						"</td><td>" + StringEscapeUtils.escapeHtml4(formatProbability(testResult.getPValue())) + "</td></tr>\n");
+			}
+			tests.append("</table>\n");
+		}
+		replacer.put("tests", tests.toString());
+
+		StringBuilder approximation = new StringBuilder();
+		if(isApproximate(secrets)) {
+			approximation.append("<h1>Approximation</h1>\n\n<p>The percentiles are read from quantile sketches. The rank of every time is off by at most the rank error bound.</p>\n\n<table border=\"1px\">\n");
+			approximation.append("<tr><td>Secret</td><td>Number of measurements</td><td>Normalized rank error</td><td>Rank error bound</td></tr>\n");
+			for (Secret secret : secrets) {
+				approximation.append("<tr><td>" + StringEscapeUtils.escapeHtml4(secret.getName().replaceAll("[^\\x20-\\x7e]", "")) +
+						"</td><td>" + secret.size() +
+						"</td><td>" + secret.getRankError() +
+						"</td><td>" + getRankErrorBound(secret) + "</td></tr>\n");
+			}
+			approximation.append("</table>\n");
+		}
+		replacer.put("approximation", approximation.toString());
+
+		StringBuilder partial = new StringBuilder();
+		ArrayList<BoxTestResults> partialResults = getPartialResults(this.boxTestResults);
+		if(!partialResults.isEmpty()) {
+			partial.append("<h1>Partial Evaluation</h1>\n\n<p>The budget of the evaluation was exhausted. The results of these pairs are the best so far.</p>\n\n<table border=\"1px\">\n");
+			partial.append("<tr><td>Secret A &lt; Secret B</td><td>Optimal Box</td><td>Smallest Size</td><td>Cancelled Step</td></tr>\n");
+			for (BoxTestResults results : partialResults) {
+				String pair = results.getSecretA().getName() + " < " + results.getSecretB().getName();
+				partial.append("<tr><td>" + StringEscapeUtils.escapeHtml4(pair.replaceAll("[^\\x20-\\x7e]", "")) +
+						"</td><td>" + results.getOptimalBox()[0] + "-" + results.getOptimalBox()[1] +
+						"</td><td>" + getLastSmallestSize(results) +
+						"</td><td>" + results.getPartialStep() + "</td></tr>\n");
+			}
+			partial.append("</table>\n");
+		}
+		replacer.put("partial", partial.toString());
 		String toReplace = new String();
 		for (PlotPaths plotPaths : this.plotPool.getPlotPaths()) {
 
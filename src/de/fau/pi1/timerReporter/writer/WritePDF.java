@@ -10,6 +10,10 @@ import java.util.logging.Level;
 import java.util.regex.Matcher;
 
 import de.fau.pi1.timerReporter.dataset.Dataset;
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.dataset.SecretStatistics;
+import de.fau.pi1.timerReporter.evaluation.BoxTestResults;
+import de.fau.pi1.timerReporter.evaluation.TestResult;
 import de.fau.pi1.timerReporter.plots.PlotPaths;
 import de.fau.pi1.timerReporter.plots.PlotPool;
 import de.fau.pi1.timerReporter.tools.Conf;
@@ -31,13 +35,17 @@ public class WritePDF extends Writer {
 	private String report;
 	private PlotPool plotPool;
 	private ArrayList<String> timelineNames;
+	private ArrayList<TestResult> testResults;
+	private ArrayList<BoxTestResults> boxTestResults;
 	private String sep = Folder.getFileSep();
 
-	public WritePDF(Dataset dataSet, String report, PlotPool plotPool, ArrayList<String> timelineNames){
+	public WritePDF(Dataset dataSet, String report, PlotPool plotPool, ArrayList<String> timelineNames, ArrayList<TestResult> testResults, ArrayList<BoxTestResults> boxTestResults){
 		this.dataSet = dataSet;
 		this.report = report;
 		this.plotPool = plotPool;
 		this.timelineNames = timelineNames;
+		this.testResults = testResults;
+		this.boxTestResults = boxTestResults;
 
 		Folder.checkDir(report + sep);
 		Folder.checkDir("reportingTool_tmp" + sep);
@@ -82,15 +90,22 @@ public class WritePDF extends Writer {
 		replacer.put("Spalte4", "MAX");
 		replacer.put("Spalte5", "Median");
 		replacer.put("Spalte6", "AVG");
+		replacer.put("Spalte7", "SD");
+		replacer.put("Spalte8", "Skewness");
+		replacer.put("Spalte9", "Kurtosis");
 
 		StringBuilder table = new StringBuilder();
 		for (int i = 0; i < this.dataSet.getSecrets().size(); i++) {
+			SecretStatistics statistics = this.dataSet.getSecrets().get(i).getStatistics();
 			table.append(this.dataSet.getSecrets().get(i).getName().replaceAll("([\\\\{}_\\^#&$%~])", "\\$0") + "&"
-					+ this.dataSet.getSecrets().get(i).getTimes().size() + "&"
-					+ this.dataSet.getSecrets().get(i).getLowestTime() + "&"
-					+ this.dataSet.getSecrets().get(i).getHighestTime() + "&"
-					+ this.dataSet.getSecrets().get(i).getMedian(0, this.dataSet.getSecrets().get(i).getTimes().size() - 1) + "&"
-					+ this.dataSet.getSecrets().get(i).getArithmeticMean()
+					+ statistics.getCount() + "&"
+					+ statistics.getMin() + "&"
+					+ statistics.getMax() + "&"
+					+ statistics.getMedian() + "&"
+					+ statistics.getArithmeticMean() + "&"
+					+ format(statistics.getStandardDeviation()) + "&"
+					+ format(statistics.getSkewness()) + "&"
+					+ format(statistics.getKurtosis())
 					+ "\\\\\n");
 
 			table.append("\\hline\n");
@@ -106,6 +121,59 @@ public class WritePDF extends Writer {
 		}
 		replacer.put("timelines", timelineToReplace);
 
+		//TWO-SAMPLE TESTS
+		StringBuilder tests = new StringBuilder();
+		if(!this.testResults.isEmpty()) {
+			tests.append("\\section{Two-Sample Tests}\n\\begin{longtable}{|l|l|r|r|}\n\\hline\n");
+			tests.append("Secret A $<$ Secret B & Test & Statistic & p-Value \\\\\n\\hline\n\\hline\n");
+			for (TestResult testResult : this.testResults) {
+				tests.append(testResult.getSecretA().getName().replaceAll("([\\\\{}_\\^#&$%~])", "\\\\$0") + " $<$ "
+						+ testResult.getSecretB().getName().replaceAll("([\\\\{}_\\^#&$%~])", "\\\\$0") + "&"
+						+ testResult.getName() + "&"
+						+ format(testResult.getStatistic()) + "&"
+						+ formatProbability(testResult.getPValue()).replace("<", "$<$")
+						+ "\\\\\n\\hline\n");
+			}
+			tests.append("\\end{longtable}\n");
+		}
+		replacer.put("tests", tests.toString());
+
+		//APPROXIMATION
+		StringBuilder approximation = new StringBuilder();
+		if(isApproximate(this.dataSet.getSecrets())) {
+			approximation.append("The percentiles are read from quantile sketches. The rank of every time is off by at most the rank error bound.\n");
+			approximation.append("\\begin{longtable}{|l|r|r|r|}\n\\hline\n");
+			approximation.append("Secret & Amount Measurement & Normalized Rank Error & Rank Error Bound \\\\\n\\hline\n\\hline\n");
+			for (Secret secret : this.dataSet.getSecrets()) {
+				approximation.append(secret.getName().replaceAll("([\\\\{}_\\^#&$%~])", "\\\\$0") + "&"
+						+ secret.size() + "&"
+						+ secret.getRankError() + "&"
+						+ getRankErrorBound(secret)
+						+ "\\\\\n\\hline\n");
+			}
+			approximation.append("\\end{longtable}\n");
+		}
+		replacer.put("approximation", approximation.toString());
+
+		//PARTIAL EVALUATION
+		StringBuilder partial = new StringBuilder();
+		ArrayList<BoxTestResults> partialResults = getPartialResults(this.boxTestResults);
+		if(!partialResults.isEmpty()) {
+			partial.append("\\section{Partial Evaluation}\nThe budget of the evaluation was exhausted. The results of these pairs are the best so far.\n");
+			partial.append("\\begin{longtable}{|l|r|r|l|}\n\\hline\n");
+			partial.append("Secret A $<$ Secret B & Optimal Box & Smallest Size & Cancelled Step \\\\\n\\hline\n\\hline\n");
+			for (BoxTestResults results : partialResults) {
+				partial.append(results.getSecretA().getName().replaceAll("([\\\\{}_\\^#&$%~])", "\\\\$0") + " $<$ "
+						+ results.getSecretB().getName().replaceAll("([\\\\{}_\\^#&$%~])", "\\\\$0") + "&"
+						+ results.getOptimalBox()[0] + "-" + results.getOptimalBox()[1] + "&"
+						+ getLastSmallestSize(results) + "&"
+						+ results.getPartialStep()
+						+ "\\\\\n\\hline\n");
+			}
+			partial.append("\\end{longtable}\n");
+		}
+		replacer.put("partial", partial.toString());
+
 		//Plots
 		String toReplace = new String();
 		for (PlotPaths plotPaths : this.plotPool.getPlotPaths()) {
@@ -1,7 +1,13 @@
 package de.fau.pi1.timerReporter.writer;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.logging.Logger;
 
+import de.fau.pi1.timerReporter.dataset.Secret;
+import de.fau.pi1.timerReporter.evaluation.BoxTestResults;
+
 
 /**
  * This is the abstract class of the writers.
@@ -16,4 +22,89 @@ public abstract class Writer {
 
 	abstract public void write() throws Exception;
 
+	/**
+	 * This method formats a statistic with three decimal places.
+	 *
+	 * @param value
+	 * @return String
+	 */
+	protected static String format(double value) {
+		return new BigDecimal(value).setScale(3, RoundingMode.HALF_UP).toPlainString();
+	}
+
+	/**
+	 * This method formats a p-value with three decimal places,
+	 * smaller p-values are written as "< 0.001".
+	 *
+	 * @param value
+	 * @return String
+	 */
+	protected static String formatProbability(double value) {
+		if(value < 0.001) {
+			return "< 0.001";
+		}
+		return format(value);
+	}
+
+	/**
+	 * This method returns true, if the times of a secret are
+	 * read from quantile sketches.
+	 *
+	 * @param secrets
+	 * @return boolean
+	 */
+	protected static boolean isApproximate(ArrayList<Secret> secrets) {
+		for (Secret secret : secrets) {
+			if(secret.getRankError() > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * This method returns the highest number of ranks, which
+	 * a time of the secret is off.
+	 *
+	 * @param secret
+	 * @return long rank error bound
+	 */
+	protected static long getRankErrorBound(Secret secret) {
+		return (long) Math.ceil(secret.getRankError() * secret.size());
+	}
+
+	/**
+	 * This method returns the last partial box test results of
+	 * every pair, which was cancelled by the budget.
+	 *
+	 * @param boxTestResults
+	 * @return ArrayList<BoxTestResults> partial results
+	 */
+	protected static ArrayList<BoxTestResults> getPartialResults(ArrayList<BoxTestResults> boxTestResults) {
+		ArrayList<BoxTestResults> partialResults = new ArrayList<BoxTestResults>();
+		for (int i = 0; i < boxTestResults.size(); ++i) {
+			BoxTestResults results = boxTestResults.get(i);
+			boolean isLast = i + 1 == boxTestResults.size() || boxTestResults.get(i + 1).getSecretA() != results.getSecretA()
+					|| boxTestResults.get(i + 1).getSecretB() != results.getSecretB();
+			if(results.isPartial() && isLast) {
+				partialResults.add(results);
+			}
+		}
+		return partialResults;
+	}
+
+	/**
+	 * This method returns the last smallest size of the box
+	 * test results or "-", if no smallest size was found.
+	 *
+	 * @param results
+	 * @return String smallest size
+	 */
+	protected static String getLastSmallestSize(BoxTestResults results) {
+		if(results.getSmallestSize().isEmpty()) {
+			return "-";
+		}
+		return Integer.toString(results.getSmallestSize().get(results.getSmallestSize().size() - 1));
+	}
+
 }